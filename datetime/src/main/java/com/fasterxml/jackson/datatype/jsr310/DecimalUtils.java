@@ -32,6 +32,19 @@ public final class DecimalUtils
 {
     private DecimalUtils() { }
 
+    /**
+     * Function for converting seconds and nanoseconds into a value, without
+     * boxing; additional argument (like {@link java.time.ZoneId}) is passed
+     * as-is.
+     *
+     * @since 2.20
+     */
+    @FunctionalInterface
+    public interface SecondsAndNanosFunction<A, T>
+    {
+        T apply(long seconds, int nanoseconds, A arg);
+    }
+
     public static String toDecimal(long seconds, int nanoseconds)
     {
         StringBuilder sb = new StringBuilder(20)
@@ -118,6 +131,24 @@ public final class DecimalUtils
      */
     public static <T> T extractSecondsAndNanos(BigDecimal seconds,
             BiFunction<Long, Integer, T> convert, boolean negativeAdjustment) {
+        return extractSecondsAndNanos(seconds, convert,
+                (secs, nanos, conv) -> conv.apply(secs, nanos), negativeAdjustment);
+    }
+
+    /**
+     * Alternative to {@link #extractSecondsAndNanos(BigDecimal, BiFunction, boolean)} that
+     * passes seconds and nanoseconds to the converter as primitives, along with
+     * an additional argument (to allow use of non-capturing converters).
+     *
+     * @param seconds Value to extract seconds and nanoseconds from
+     * @param arg Additional argument to pass to {@code convert}
+     * @param convert Function to call with seconds, nanoseconds and {@code arg}
+     * @param negativeAdjustment Whether nanoseconds of negative values are to be made positive
+     *
+     * @since 2.20
+     */
+    public static <A, T> T extractSecondsAndNanos(BigDecimal seconds, A arg,
+            SecondsAndNanosFunction<A, T> convert, boolean negativeAdjustment) {
         // Complexity is here to workaround unbounded latency in some BigDecimal operations.
         //   https://github.com/FasterXML/jackson-databind/issues/2141
         long secondsOnly;
@@ -148,6 +179,125 @@ public final class DecimalUtils
             }
         }
 
-        return convert.apply(secondsOnly, nanosOnly);
+        return convert.apply(secondsOnly, nanosOnly, arg);
+    }
+
+    /**
+     * Alternative to {@link #extractSecondsAndNanos(BigDecimal, Object, SecondsAndNanosFunction, boolean)}
+     * that decodes seconds and nanoseconds directly from textual representation
+     * of a decimal number (like {@code "1588748889.123456789"} or {@code "1.5e3"}),
+     * without constructing an intermediate {@link BigDecimal}. Results are identical
+     * to those of the {@link BigDecimal}-based method.
+     *<p>
+     * Only values whose integral part fits in 18 digits (and whose exponent, if any,
+     * has at most 4 digits) are decoded: for others, as well as for text that is not
+     * a valid decimal number, {@code null} is returned and caller should use
+     * the {@link BigDecimal}-based method instead.
+     *
+     * @return Value returned by {@code convert}, if text could be decoded; {@code null} if not
+     *
+     * @since 2.20
+     */
+    public static <A, T> T extractSecondsAndNanos(char[] ch, int offset, int len, A arg,
+            SecondsAndNanosFunction<A, T> convert, boolean negativeAdjustment)
+    {
+        int ptr = offset;
+        final int end = offset + len;
+        if (ptr >= end) {
+            return null;
+        }
+        final boolean negative = (ch[ptr] == '-');
+        if (negative || ch[ptr] == '+') {
+            ++ptr;
+        }
+        final int intStart = ptr;
+        while (ptr < end && _isDigit(ch[ptr])) {
+            ++ptr;
+        }
+        final int intLen = ptr - intStart;
+        int fracStart = ptr;
+        if (ptr < end && ch[ptr] == '.') {
+            fracStart = ++ptr;
+            while (ptr < end && _isDigit(ch[ptr])) {
+                ++ptr;
+            }
+        }
+        final int fracLen = ptr - fracStart;
+        final int digitCount = intLen + fracLen;
+        if (digitCount == 0) {
+            return null;
+        }
+        int exp = 0;
+        if (ptr < end && (ch[ptr] == 'e' || ch[ptr] == 'E')) {
+            boolean negExp = false;
+            if (++ptr < end && (ch[ptr] == '-' || ch[ptr] == '+')) {
+                negExp = (ch[ptr++] == '-');
+            }
+            final int expStart = ptr;
+            while (ptr < end && _isDigit(ch[ptr])) {
+                exp = (exp * 10) + (ch[ptr++] - '0');
+            }
+            final int expLen = ptr - expStart;
+            if (expLen == 0 || expLen > 4) {
+                return null;
+            }
+            if (negExp) {
+                exp = -exp;
+            }
+        }
+        if (ptr != end) {
+            return null;
+        }
+
+        // Digits of int and fraction parts form a single sequence; decimal point
+        // is located before digit at `pointIx` (which may be outside of sequence)
+        final int pointIx = intLen + exp;
+        long secondsOnly = 0L;
+        int significant = 0;
+        for (int i = 0, last = Math.min(pointIx, digitCount); i < last; ++i) {
+            final int digit = _digitAt(ch, intStart, intLen, fracStart, i);
+            if (significant == 0 && digit == 0) {
+                continue;
+            }
+            if (++significant > 18) {
+                return null;
+            }
+            secondsOnly = (secondsOnly * 10L) + digit;
+        }
+        if (secondsOnly != 0L) {
+            for (int i = digitCount; i < pointIx; ++i) {
+                if (++significant > 18) {
+                    return null;
+                }
+                secondsOnly *= 10L;
+            }
+        }
+        // Nanoseconds are truncated, same as with BigDecimal
+        int nanosOnly = 0;
+        for (int i = pointIx, last = pointIx + 9; i < last; ++i) {
+            nanosOnly *= 10;
+            if (i >= 0 && i < digitCount) {
+                nanosOnly += _digitAt(ch, intStart, intLen, fracStart, i);
+            }
+        }
+        if (negative) {
+            secondsOnly = -secondsOnly;
+            nanosOnly = -nanosOnly;
+            if (secondsOnly < 0 && secondsOnly > Instant.MIN.getEpochSecond()) {
+                if (negativeAdjustment) {
+                    nanosOnly = Math.abs(nanosOnly);
+                }
+            }
+        }
+        return convert.apply(secondsOnly, nanosOnly, arg);
+    }
+
+    private static boolean _isDigit(char c) {
+        return (c >= '0') && (c <= '9');
+    }
+
+    private static int _digitAt(char[] ch, int intStart, int intLen, int fracStart, int index) {
+        return (index < intLen) ? (ch[intStart + index] - '0')
+                : (ch[fracStart + index - intLen] - '0');
     }
 }
@@ -51,7 +51,96 @@ public enum JavaTimeFeature implements JacksonFeature
      *<p>
      * Default setting is false, meaning that Month is serialized/deserialized as a zero-based index.
      */
-    ONE_BASED_MONTHS(false)
+    ONE_BASED_MONTHS(false),
+
+    /**
+     * Feature that determines whether {@link java.time.Instant},
+     * {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime} values
+     * using the default ISO-8601 format are parsed using a hand-written
+     * single-pass parser (enabled) instead of {@link java.time.format.DateTimeFormatter}
+     * (disabled). Input the fast parser cannot handle is still passed to the formatter,
+     * so results are the same either way.
+     *<p>
+     * Default setting is disabled, for backwards-compatibility with
+     * Jackson 2.19.
+     *
+     * @since 2.20
+     */
+    USE_FAST_ISO_DATE_TIME_PARSER(false),
+
+    /**
+     * Feature that determines whether decimal timestamps (written when
+     * {@link com.fasterxml.jackson.databind.SerializationFeature#WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS}
+     * is enabled) are written without trailing zeroes in their fractional part
+     * (enabled) or always with 9 fractional digits (disabled): that is, using
+     * {@link TimestampPrecision#SHORTEST} precision unless another precision
+     * is specified with {@link com.fasterxml.jackson.annotation.JsonFormat}.
+     *<p>
+     * Default setting is disabled, for backwards-compatibility with
+     * Jackson 2.19.
+     *
+     * @since 2.20
+     */
+    WRITE_SHORTEST_TIMESTAMP_FRACTIONS(false),
+
+    /**
+     * Feature that determines whether deserialized {@link java.time.Year},
+     * {@link java.time.YearMonth}, {@link java.time.MonthDay} and
+     * {@link java.time.LocalDate} values are replaced with shared, canonical
+     * instances of equal value (enabled) or not (disabled): this reduces memory
+     * usage when large numbers of (mostly duplicate) values are retained, at
+     * the cost of a table lookup per value read.
+     * Years and year-months are interned within a range of realistic years,
+     * and dates using a bounded cache, so not all equal values are
+     * necessarily same instance.
+     *<p>
+     * Default setting is disabled, for backwards-compatibility with
+     * Jackson 2.19.
+     *
+     * @since 2.20
+     */
+    INTERN_DESERIALIZED_VALUES(false),
+
+    /**
+     * Feature that determines whether key deserializers for {@code java.time}
+     * types cache values deserialized (enabled) or not (disabled): when enabled,
+     * each key deserializer retains up to 1000 most recently used values by key
+     * text, which avoids parsing same keys again for Maps that use small sets of
+     * keys, repeated across documents.
+     *<p>
+     * Default setting is disabled, for backwards-compatibility with
+     * Jackson 2.19.
+     *
+     * @since 2.20
+     */
+    CACHE_DESERIALIZED_KEYS(false),
+
+    /**
+     * Feature that determines whether {@link java.time.LocalTime},
+     * {@link java.time.LocalDateTime}, {@link java.time.YearMonth} and
+     * {@link java.time.MonthDay} values with
+     * {@code @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)} are written and read
+     * as a single number (enabled) or not (disabled; written as arrays, same as
+     * other timestamps, and integers not accepted when reading). Numbers used are:
+     *<ul>
+     * <li>{@code LocalTime}: milli-of-day, or nano-of-day if
+     *   {@code JsonFormat.Feature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS}
+     *   (or {@code READ_DATE_TIMESTAMPS_AS_NANOSECONDS}) is explicitly enabled
+     *  </li>
+     * <li>{@code LocalDateTime}: epoch seconds in UTC, without fractional seconds
+     *  </li>
+     * <li>{@code YearMonth}: proleptic month ({@code year * 12 + month - 1})
+     *  </li>
+     * <li>{@code MonthDay}: day-of-year in a leap year (so February 29 is 60)
+     *  </li>
+     *</ul>
+     *<p>
+     * Default setting is disabled, for backwards-compatibility with
+     * Jackson 2.19.
+     *
+     * @since 2.20
+     */
+    USE_SINGLE_NUMBER_SHAPES(false)
     ;
 
   /**
@@ -100,6 +100,14 @@ public final class JavaTimeModule
      */
     private JacksonFeatureSet<JavaTimeFeature> _features;
 
+    /**
+     * Maximum number of values each key deserializer caches, if
+     * {@link JavaTimeFeature#CACHE_DESERIALIZED_KEYS} is enabled.
+     *
+     * @since 2.20
+     */
+    private final static int KEY_CACHE_SIZE = 1000;
+
     public JavaTimeModule()
     {
         super(PackageVersion.VERSION);
@@ -132,13 +140,13 @@ public final class JavaTimeModule
         // // Other deserializers
         desers.addDeserializer(Duration.class, DurationDeserializer.INSTANCE);
         desers.addDeserializer(LocalDateTime.class, LocalDateTimeDeserializer.INSTANCE.withFeatures(_features));
-        desers.addDeserializer(LocalDate.class, LocalDateDeserializer.INSTANCE.withFeatures(_features));
-        desers.addDeserializer(LocalTime.class, LocalTimeDeserializer.INSTANCE);
-        desers.addDeserializer(MonthDay.class, MonthDayDeserializer.INSTANCE);
+        desers.addDeserializer(LocalDate.class, _interning(LocalDateDeserializer.INSTANCE.withFeatures(_features)));
+        desers.addDeserializer(LocalTime.class, LocalTimeDeserializer.INSTANCE.withFeatures(_features));
+        desers.addDeserializer(MonthDay.class, _interning(MonthDayDeserializer.INSTANCE.withFeatures(_features)));
         desers.addDeserializer(OffsetTime.class, OffsetTimeDeserializer.INSTANCE);
         desers.addDeserializer(Period.class, JSR310StringParsableDeserializer.PERIOD);
-        desers.addDeserializer(Year.class, YearDeserializer.INSTANCE);
-        desers.addDeserializer(YearMonth.class, YearMonthDeserializer.INSTANCE);
+        desers.addDeserializer(Year.class, _interning(YearDeserializer.INSTANCE));
+        desers.addDeserializer(YearMonth.class, _interning(YearMonthDeserializer.INSTANCE.withFeatures(_features)));
         desers.addDeserializer(ZoneId.class, JSR310StringParsableDeserializer.ZONE_ID);
         desers.addDeserializer(ZoneOffset.class, JSR310StringParsableDeserializer.ZONE_OFFSET);
 
@@ -156,24 +164,24 @@ public final class JavaTimeModule
 
         JavaTimeSerializers sers = new JavaTimeSerializers();
 
-        sers.addSerializer(Duration.class, DurationSerializer.INSTANCE);
-        sers.addSerializer(Instant.class, InstantSerializer.INSTANCE);
-        sers.addSerializer(LocalDateTime.class, LocalDateTimeSerializer.INSTANCE);
+        sers.addSerializer(Duration.class, DurationSerializer.INSTANCE.withFeatures(_features));
+        sers.addSerializer(Instant.class, InstantSerializer.INSTANCE.withFeatures(_features));
+        sers.addSerializer(LocalDateTime.class, LocalDateTimeSerializer.INSTANCE.withFeatures(_features));
         sers.addSerializer(LocalDate.class, LocalDateSerializer.INSTANCE);
-        sers.addSerializer(LocalTime.class, LocalTimeSerializer.INSTANCE);
-        sers.addSerializer(MonthDay.class, MonthDaySerializer.INSTANCE);
-        sers.addSerializer(OffsetDateTime.class, OffsetDateTimeSerializer.INSTANCE);
+        sers.addSerializer(LocalTime.class, LocalTimeSerializer.INSTANCE.withFeatures(_features));
+        sers.addSerializer(MonthDay.class, MonthDaySerializer.INSTANCE.withFeatures(_features));
+        sers.addSerializer(OffsetDateTime.class, OffsetDateTimeSerializer.INSTANCE.withFeatures(_features));
         sers.addSerializer(OffsetTime.class, OffsetTimeSerializer.INSTANCE);
-        sers.addSerializer(Period.class, new ToStringSerializer(Period.class));
+        sers.addSerializer(Period.class, PeriodSerializer.INSTANCE);
         sers.addSerializer(Year.class, YearSerializer.INSTANCE);
-        sers.addSerializer(YearMonth.class, YearMonthSerializer.INSTANCE);
+        sers.addSerializer(YearMonth.class, YearMonthSerializer.INSTANCE.withFeatures(_features));
 
         /* 27-Jun-2015, tatu: This is the real difference from the old
          *  {@link JSR310Module}: default is to produce ISO-8601 compatible
          *  serialization with timezone offset only, not timezone id.
          *  But this is configurable.
          */
-        sers.addSerializer(ZonedDateTime.class, ZonedDateTimeSerializer.INSTANCE);
+        sers.addSerializer(ZonedDateTime.class, ZonedDateTimeSerializer.INSTANCE.withFeatures(_features));
 
         // since 2.11: need to override Type Id handling
         // (actual concrete type is `ZoneRegion`, but that's not visible)
@@ -199,20 +207,23 @@ public final class JavaTimeModule
 
         // key deserializers
         SimpleKeyDeserializers keyDesers = new SimpleKeyDeserializers();
-        keyDesers.addDeserializer(Duration.class, DurationKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(Instant.class, InstantKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(LocalDateTime.class, LocalDateTimeKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(LocalDate.class, LocalDateKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(LocalTime.class, LocalTimeKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(MonthDay.class, MonthDayKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(OffsetDateTime.class, OffsetDateTimeKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(OffsetTime.class, OffsetTimeKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(Period.class, PeriodKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(Year.class, YearKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(YearMonth.class, YearMonthKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(ZonedDateTime.class, ZonedDateTimeKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(ZoneId.class, ZoneIdKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(ZoneOffset.class, ZoneOffsetKeyDeserializer.INSTANCE);
+        // since 2.20: key deserializers may cache values
+        final int keyCacheSize = _features.isEnabled(JavaTimeFeature.CACHE_DESERIALIZED_KEYS)
+                ? KEY_CACHE_SIZE : 0;
+        keyDesers.addDeserializer(Duration.class, DurationKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(Instant.class, InstantKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(LocalDateTime.class, LocalDateTimeKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(LocalDate.class, LocalDateKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(LocalTime.class, LocalTimeKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(MonthDay.class, MonthDayKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(OffsetDateTime.class, OffsetDateTimeKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(OffsetTime.class, OffsetTimeKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(Period.class, PeriodKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(Year.class, YearKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(YearMonth.class, YearMonthKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(ZonedDateTime.class, ZonedDateTimeKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(ZoneId.class, ZoneIdKeyDeserializer.INSTANCE.withCache(keyCacheSize));
+        keyDesers.addDeserializer(ZoneOffset.class, ZoneOffsetKeyDeserializer.INSTANCE.withCache(keyCacheSize));
 
         context.addKeyDeserializers(keyDesers);
         // 20-Nov-2023, tatu: [modules-java8#288]: someone may have directly
@@ -281,6 +292,17 @@ public final class JavaTimeModule
         return null;
     }
 
+    // Helper method for wrapping given deserializer to intern values, if
+    // `JavaTimeFeature.INTERN_DESERIALIZED_VALUES` is enabled
+    @SuppressWarnings("unchecked")
+    private <T> JsonDeserializer<T> _interning(JsonDeserializer<T> deser)
+    {
+        if (_features.isEnabled(JavaTimeFeature.INTERN_DESERIALIZED_VALUES)) {
+            return (JsonDeserializer<T>) new InterningDeserializer(deser);
+        }
+        return deser;
+    }
+
     /**
      * Container for serializers, with one tweak; specific lookup we need to deal
      * with specific {@code TemporalAdjuster} closure subtypes.
@@ -0,0 +1,154 @@
+package com.fasterxml.jackson.datatype.jsr310;
+
+/**
+ * Enumeration of precisions that date/time values with fractional seconds
+ * may be written with: affects decimal timestamps (like {@code 1588748889.123})
+ * as well as ISO-8601 Strings of {@link java.time.Instant},
+ * {@link java.time.OffsetDateTime}, {@link java.time.ZonedDateTime},
+ * {@link java.time.LocalDateTime}, {@link java.time.LocalTime} and
+ * {@link java.time.Duration} values.
+ *<p>
+ * Precision may be specified for all values using
+ * {@link JavaTimeFeature#WRITE_SHORTEST_TIMESTAMP_FRACTIONS} (for {@link #SHORTEST}),
+ * or for specific types and properties by using name of precision as
+ * {@code pattern} of {@link com.fasterxml.jackson.annotation.JsonFormat}:
+ *<pre>
+ *  &#64;JsonFormat(pattern = "MILLISECONDS")
+ *  public Instant timestamp;
+ *</pre>
+ * (for {@link java.time.Duration}s, names of units supported as patterns, like
+ * {@code "SECONDS"}, retain their meaning of writing values as integral numbers
+ * of given unit).
+ *<p>
+ * When combined with {@link com.fasterxml.jackson.annotation.JsonFormat.Shape#NUMBER_INT},
+ * {@link java.time.Instant}, {@link java.time.OffsetDateTime} and
+ * {@link java.time.ZonedDateTime} values are instead written and read as integer
+ * timestamps in units of precision (for example, epoch microseconds):
+ *<pre>
+ *  &#64;JsonFormat(shape = JsonFormat.Shape.NUMBER_INT, pattern = "MICROSECONDS")
+ *  public Instant timestamp;
+ *</pre>
+ * and with {@link com.fasterxml.jackson.annotation.JsonFormat.Shape#ARRAY}, Collections
+ * and arrays of {@link java.time.Instant}s are written as delta-encoded integer
+ * timestamps in units of precision (see
+ * {@link com.fasterxml.jackson.datatype.jsr310.ser.TimestampDeltasSerializer}).
+ *
+ * @since 2.20
+ */
+public enum TimestampPrecision
+{
+    /**
+     * Values are truncated to whole seconds; decimal timestamps are written
+     * with a single fractional digit (like {@code 1588748889.0}) to retain
+     * their type as floating-point numbers.
+     */
+    SECONDS(1_000_000_000, 1),
+
+    /**
+     * Values are truncated to milliseconds; decimal timestamps are written
+     * with 3 fractional digits.
+     */
+    MILLISECONDS(1_000_000, 3),
+
+    /**
+     * Values are truncated to microseconds; decimal timestamps are written
+     * with 6 fractional digits.
+     */
+    MICROSECONDS(1_000, 6),
+
+    /**
+     * Values are written with full (nanosecond) precision, and decimal
+     * timestamps with 9 fractional digits: this is the default.
+     */
+    NANOSECONDS(1, 9),
+
+    /**
+     * Values are written with full precision, but decimal timestamps without
+     * trailing zeroes (with at least one fractional digit): for example,
+     * {@code 1588748889.12} instead of {@code 1588748889.120000000}.
+     * ISO-8601 Strings are not affected as they already omit trailing zeroes.
+     */
+    SHORTEST(1, 0)
+    ;
+
+    private final int _unitNanos;
+
+    private final int _fractionDigits;
+
+    private TimestampPrecision(int unitNanos, int fractionDigits) {
+        _unitNanos = unitNanos;
+        _fractionDigits = fractionDigits;
+    }
+
+    /**
+     * @return Given nanoseconds (0 - 999,999,999) truncated to this precision
+     */
+    public int truncate(int nanoseconds) {
+        return nanoseconds - (nanoseconds % _unitNanos);
+    }
+
+    /**
+     * @return Whether values may be truncated with this precision
+     */
+    public boolean truncates() {
+        return _unitNanos != 1;
+    }
+
+    /**
+     * @return Number of fractional digits decimal timestamps are written
+     *    with; or 0 to indicate minimal number of digits
+     */
+    public int fractionDigits() {
+        return _fractionDigits;
+    }
+
+    /**
+     * Method for converting given point in time (seconds and nanoseconds since
+     * epoch, where nanoseconds are within 0 - 999,999,999) into an integer
+     * timestamp in units of this precision, rounding towards negative infinity
+     * (for {@link #SHORTEST}, nanoseconds are used).
+     *
+     * @return Number of units since epoch
+     *
+     * @throws ArithmeticException if timestamp would overflow a {@code long}
+     */
+    public long toTimestamp(long seconds, int nanoseconds) {
+        final long perSecond = 1_000_000_000L / _unitNanos;
+        // similar to `Instant.toEpochMilli()`: avoid overflow for the smallest values
+        if ((seconds < 0L) && (nanoseconds > 0)) {
+            return Math.addExact(Math.multiplyExact(seconds + 1L, perSecond),
+                    (nanoseconds / _unitNanos) - perSecond);
+        }
+        return Math.addExact(Math.multiplyExact(seconds, perSecond), nanoseconds / _unitNanos);
+    }
+
+    /**
+     * @return Seconds since epoch of given integer timestamp in units of this precision
+     */
+    public long secondsOf(long timestamp) {
+        return Math.floorDiv(timestamp, 1_000_000_000L / _unitNanos);
+    }
+
+    /**
+     * @return Nanosecond adjustment (0 - 999,999,999) of given integer timestamp
+     *    in units of this precision
+     */
+    public int nanosOf(long timestamp) {
+        return (int) Math.floorMod(timestamp, 1_000_000_000L / _unitNanos) * _unitNanos;
+    }
+
+    /**
+     * Method for finding precision with given name, as used for
+     * {@code pattern} of {@link com.fasterxml.jackson.annotation.JsonFormat}.
+     *
+     * @return Precision with given name, if any; {@code null} if none
+     */
+    public static TimestampPrecision forPattern(String pattern) {
+        for (TimestampPrecision precision : values()) {
+            if (precision.name().equals(pattern)) {
+                return precision;
+            }
+        }
+        return null;
+    }
+}
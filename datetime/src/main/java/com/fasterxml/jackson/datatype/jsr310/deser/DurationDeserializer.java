@@ -33,6 +33,8 @@ import com.fasterxml.jackson.core.io.NumberInput;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 import com.fasterxml.jackson.datatype.jsr310.util.DurationUnitConverter;
 
 /**
@@ -56,6 +58,9 @@ public class DurationDeserializer extends JSR310DeserializerBase<Duration>
      * considered that the unit set in {@link JsonFormat#pattern()} has precedence
      * since it is more specific.
      *<p>
+     * Since 2.20, with {@link JsonFormat.Shape#NUMBER_FLOAT} floating-point values
+     * are also read as decimal numbers of units, for units up to {@code "SECONDS"}.
+     *<p>
      * See [jackson-modules-java8#184] for more info.
      *
      * @since 2.12
@@ -130,12 +135,17 @@ public class DurationDeserializer extends JSR310DeserializerBase<Duration>
             if (format.hasPattern()) {
                 final String pattern = format.getPattern();
                 unitConverter = DurationUnitConverter.from(pattern);
-                if (unitConverter == null) {
+                // 2.20: names of precisions (see `TimestampPrecision`) only affect output
+                if ((unitConverter == null) && (TimestampPrecision.forPattern(pattern) == null)) {
                     ctxt.reportBadDefinition(getValueType(ctxt),
                             String.format(
                                     "Bad 'pattern' definition (\"%s\") for `Duration`: expected one of [%s]",
                                     pattern, DurationUnitConverter.descForAllowed()));
                 }
+                if ((unitConverter != null) && (format.getShape() == JsonFormat.Shape.NUMBER_FLOAT)
+                        && (unitConverter.withFractions() != null)) {
+                    unitConverter = unitConverter.withFractions();
+                }
             }
             timestampsAsNanosOverride =
                 format.getFeature(JsonFormat.Feature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
@@ -155,12 +165,33 @@ public class DurationDeserializer extends JSR310DeserializerBase<Duration>
         switch (parser.currentTokenId())
         {
             case JsonTokenId.ID_NUMBER_FLOAT:
+                if ((_durationUnitConverter != null) && _durationUnitConverter.hasFractions()) {
+                    return _fromDecimalUnits(parser);
+                }
+                // For textual formats can decode directly from text, without BigDecimal
+                if (!parser.getReadCapabilities().isEnabled(StreamReadCapability.EXACT_FLOATS)) {
+                    Duration d = DecimalUtils.extractSecondsAndNanos(parser.getTextCharacters(),
+                            parser.getTextOffset(), parser.getTextLength(), null,
+                            (seconds, nanos, arg) -> Duration.ofSeconds(seconds, nanos), false);
+                    if (d != null) {
+                        return d;
+                    }
+                }
                 BigDecimal value = parser.getDecimalValue();
                 // [modules-java8#337] since 2.19, Duration does not need negative adjustment
-                return DecimalUtils.extractSecondsAndNanos(value, Duration::ofSeconds, false);
+                return DecimalUtils.extractSecondsAndNanos(value, null,
+                        (seconds, nanos, arg) -> Duration.ofSeconds(seconds, nanos), false);
             case JsonTokenId.ID_NUMBER_INT:
                 return _fromTimestamp(context, parser.getLongValue());
             case JsonTokenId.ID_STRING:
+                {
+                    // Try parsing directly from the parser's buffer, to avoid constructing String
+                    Duration d = DateTimeInput.parseDuration(parser.getTextCharacters(),
+                            parser.getTextOffset(), parser.getTextLength());
+                    if (d != null) {
+                        return d;
+                    }
+                }
                 return _fromString(parser, context, parser.getText());
             case JsonTokenId.ID_EMBEDDED_OBJECT:
                 // 20-Apr-2016, tatu: Related to [databind#1208], can try supporting embedded
@@ -199,12 +230,36 @@ public class DurationDeserializer extends JSR310DeserializerBase<Duration>
         }
 
         try {
+            Duration d = DateTimeInput.parseDuration(value);
+            if (d != null) {
+                return d;
+            }
             return Duration.parse(value);
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, e, value);
         }
     }
 
+    /**
+     * Helper method for reading floating-point value as decimal number of units
+     * of {@link #_durationUnitConverter}.
+     *
+     * @since 2.20
+     */
+    protected Duration _fromDecimalUnits(JsonParser parser) throws IOException
+    {
+        if (!parser.getReadCapabilities().isEnabled(StreamReadCapability.EXACT_FLOATS)) {
+            Duration d = DecimalUtils.extractSecondsAndNanos(parser.getTextCharacters(),
+                    parser.getTextOffset(), parser.getTextLength(), _durationUnitConverter,
+                    (units, fraction, conv) -> conv.convert(units, fraction), false);
+            if (d != null) {
+                return d;
+            }
+        }
+        return DecimalUtils.extractSecondsAndNanos(parser.getDecimalValue(), _durationUnitConverter,
+                (units, fraction, conv) -> conv.convert(units, fraction), false);
+    }
+
     protected Duration _fromTimestamp(DeserializationContext ctxt, long ts) {
         if (_durationUnitConverter != null) {
             return _durationUnitConverter.convert(ts);
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.core.StreamReadCapability;
 import com.fasterxml.jackson.core.io.NumberInput;
 import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.BeanProperty;
@@ -27,6 +28,10 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdResolver;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneOffsetLookup;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -39,6 +44,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.util.Objects;
+import java.util.TimeZone;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -58,9 +64,27 @@ public class InstantDeserializer<T extends Temporal>
 {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Setting (see {@link #_settings}) that indicates that values are to be
+     * adjusted to context time zone: same as {@link #shouldAdjustToContextTimezone}.
+     *
+     * @since 2.20
+     */
+    protected final static int SETTING_ADJUST_TO_CONTEXT_TIME_ZONE = 0x0001;
+
+    /**
+     * Setting (see {@link #_settings}) that indicates that integer timestamps
+     * are read as nanoseconds: same as {@link #shouldReadTimestampsAsNanoseconds}.
+     *
+     * @since 2.20
+     */
+    protected final static int SETTING_READ_NANOSECONDS = 0x0002;
+
     private final static boolean DEFAULT_NORMALIZE_ZONE_ID = JavaTimeFeature.NORMALIZE_DESERIALIZED_ZONE_ID.enabledByDefault();
     private final static boolean DEFAULT_ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS
         = JavaTimeFeature.ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS.enabledByDefault();
+    private final static boolean DEFAULT_USE_FAST_ISO_PARSER
+        = JavaTimeFeature.USE_FAST_ISO_DATE_TIME_PARSER.enabledByDefault();
 
     /**
      * Constants used to check if ISO 8601 time string is colon-less. See [jackson-modules-java8#131]
@@ -70,23 +94,23 @@ public class InstantDeserializer<T extends Temporal>
     protected static final Pattern ISO8601_COLONLESS_OFFSET_REGEX = Pattern.compile("[+-][0-9]{4}(?=\\[|$)");
 
     // @since 2.18.2
-    private static OffsetDateTime decimalToOffsetDateTime(FromDecimalArguments args) {
+    private static OffsetDateTime decimalToOffsetDateTime(long seconds, int nanos, ZoneId zoneId) {
         // [jackson-modules-java8#308] Since 2.18.2 : Fix can't deserialize OffsetDateTime.MIN: Invalid value for EpochDay
-        if (args.integer == OffsetDateTime.MIN.toEpochSecond() && args.fraction == OffsetDateTime.MIN.getNano()) {
+        if (seconds == OffsetDateTime.MIN.toEpochSecond() && nanos == OffsetDateTime.MIN.getNano()) {
             return OffsetDateTime.ofInstant(Instant.ofEpochSecond(OffsetDateTime.MIN.toEpochSecond(), OffsetDateTime.MIN.getNano()), OffsetDateTime.MIN.getOffset());
         }
         // [jackson-modules-java8#308] Since 2.18.2 : For OffsetDateTime.MAX case
-        if (args.integer == OffsetDateTime.MAX.toEpochSecond() && args.fraction == OffsetDateTime.MAX.getNano()) {
+        if (seconds == OffsetDateTime.MAX.toEpochSecond() && nanos == OffsetDateTime.MAX.getNano()) {
             return OffsetDateTime.ofInstant(Instant.ofEpochSecond(OffsetDateTime.MAX.toEpochSecond(), OffsetDateTime.MAX.getNano()), OffsetDateTime.MAX.getOffset());
         }
-        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(args.integer, args.fraction), args.zoneId);
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), zoneId);
     }
 
     public static final InstantDeserializer<Instant> INSTANT = new InstantDeserializer<>(
             Instant.class, DateTimeFormatter.ISO_INSTANT,
             Instant::from,
-            a -> Instant.ofEpochMilli(a.value),
-            a -> Instant.ofEpochSecond(a.integer, a.fraction),
+            (millis, zoneId) -> Instant.ofEpochMilli(millis),
+            (seconds, nanos, zoneId) -> Instant.ofEpochSecond(seconds, nanos),
             null,
             true, // yes, replace zero offset with Z
             DEFAULT_NORMALIZE_ZONE_ID,
@@ -96,9 +120,9 @@ public class InstantDeserializer<T extends Temporal>
     public static final InstantDeserializer<OffsetDateTime> OFFSET_DATE_TIME = new InstantDeserializer<>(
             OffsetDateTime.class, DateTimeFormatter.ISO_OFFSET_DATE_TIME,
             OffsetDateTime::from,
-            a -> OffsetDateTime.ofInstant(Instant.ofEpochMilli(a.value), a.zoneId),
+            (millis, zoneId) -> OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), zoneId),
             InstantDeserializer::decimalToOffsetDateTime,
-            (d, z) -> (d.isEqual(OffsetDateTime.MIN) || d.isEqual(OffsetDateTime.MAX) ? d : d.withOffsetSameInstant(z.getRules().getOffset(d.toLocalDateTime()))),
+            (d, z) -> (d.isEqual(OffsetDateTime.MIN) || d.isEqual(OffsetDateTime.MAX) ? d : d.withOffsetSameInstant(ZoneOffsetLookup.offsetOfLocal(z, d.toLocalDateTime()))),
             true, // yes, replace zero offset with Z
             DEFAULT_NORMALIZE_ZONE_ID,
             DEFAULT_ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS
@@ -107,8 +131,8 @@ public class InstantDeserializer<T extends Temporal>
     public static final InstantDeserializer<ZonedDateTime> ZONED_DATE_TIME = new InstantDeserializer<>(
             ZonedDateTime.class, DateTimeFormatter.ISO_ZONED_DATE_TIME,
             ZonedDateTime::from,
-            a -> ZonedDateTime.ofInstant(Instant.ofEpochMilli(a.value), a.zoneId),
-            a -> ZonedDateTime.ofInstant(Instant.ofEpochSecond(a.integer, a.fraction), a.zoneId),
+            (millis, zoneId) -> ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), zoneId),
+            (seconds, nanos, zoneId) -> ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), zoneId),
             ZonedDateTime::withZoneSameInstant,
             false, // keep zero offset and Z separate since zones explicitly supported
             DEFAULT_NORMALIZE_ZONE_ID,
@@ -119,6 +143,22 @@ public class InstantDeserializer<T extends Temporal>
 
     protected final Function<FromDecimalArguments, T> fromNanoseconds;
 
+    /**
+     * Primitive-argument alternative to {@link #fromMilliseconds}, used for
+     * actual conversions to avoid argument object allocation.
+     *
+     * @since 2.20
+     */
+    protected final FromIntegerFunction<T> _fromMilliseconds;
+
+    /**
+     * Primitive-argument alternative to {@link #fromNanoseconds}, used for
+     * actual conversions to avoid argument object allocation.
+     *
+     * @since 2.20
+     */
+    protected final FromDecimalFunction<T> _fromNanoseconds;
+
     protected final Function<TemporalAccessor, T> parsedToValue;
 
     protected final BiFunction<T, ZoneId, T> adjust;
@@ -168,6 +208,48 @@ public class InstantDeserializer<T extends Temporal>
      */
     protected final boolean _alwaysAllowStringifiedDateTimestamps;
 
+    /**
+     * Flag set from
+     * {@link com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature#USE_FAST_ISO_DATE_TIME_PARSER}
+     * to determine whether values in default ISO-8601 format are parsed with
+     * {@link DateTimeInput} before trying {@code DateTimeFormatter}.
+     *
+     * @since 2.20
+     */
+    protected final boolean _useFastIsoParser;
+
+    /**
+     * Unit of integer timestamps, if specified using
+     * {@link JsonFormat.Shape#NUMBER_INT} along with name of precision (see
+     * {@link TimestampPrecision}) as pattern: if so, integer timestamps
+     * are read as number of such units since epoch (like epoch microseconds),
+     * regardless of {@link DeserializationFeature#READ_DATE_TIMESTAMPS_AS_NANOSECONDS}.
+     *
+     * @since 2.20
+     */
+    protected final TimestampPrecision _timestampUnit;
+
+    /**
+     * @since 2.20
+     */
+    protected InstantDeserializer(Class<T> supportedType,
+            DateTimeFormatter formatter,
+            Function<TemporalAccessor, T> parsedToValue,
+            FromIntegerFunction<T> fromMilliseconds,
+            FromDecimalFunction<T> fromNanoseconds,
+            BiFunction<T, ZoneId, T> adjust,
+            boolean replaceZeroOffsetAsZ,
+            boolean normalizeZoneId,
+            boolean readNumericStringsAsTimestamp
+    )
+    {
+        this(supportedType, formatter, parsedToValue,
+                a -> fromMilliseconds.apply(a.value, a.zoneId),
+                a -> fromNanoseconds.apply(a.integer, a.fraction, a.zoneId),
+                fromMilliseconds, fromNanoseconds,
+                adjust, replaceZeroOffsetAsZ, normalizeZoneId, readNumericStringsAsTimestamp);
+    }
+
     /**
      * @since 2.16
      */
@@ -181,17 +263,41 @@ public class InstantDeserializer<T extends Temporal>
             boolean normalizeZoneId,
             boolean readNumericStringsAsTimestamp
     )
+    {
+        this(supportedType, formatter, parsedToValue,
+                fromMilliseconds, fromNanoseconds,
+                (millis, zoneId) -> fromMilliseconds.apply(new FromIntegerArguments(millis, zoneId)),
+                (seconds, nanos, zoneId) -> fromNanoseconds.apply(new FromDecimalArguments(seconds, nanos, zoneId)),
+                adjust, replaceZeroOffsetAsZ, normalizeZoneId, readNumericStringsAsTimestamp);
+    }
+
+    private InstantDeserializer(Class<T> supportedType,
+            DateTimeFormatter formatter,
+            Function<TemporalAccessor, T> parsedToValue,
+            Function<FromIntegerArguments, T> fromMilliseconds,
+            Function<FromDecimalArguments, T> fromNanoseconds,
+            FromIntegerFunction<T> fromMillisecondsPrimitive,
+            FromDecimalFunction<T> fromNanosecondsPrimitive,
+            BiFunction<T, ZoneId, T> adjust,
+            boolean replaceZeroOffsetAsZ,
+            boolean normalizeZoneId,
+            boolean readNumericStringsAsTimestamp
+    )
     {
         super(supportedType, formatter);
         this.parsedToValue = parsedToValue;
         this.fromMilliseconds = fromMilliseconds;
         this.fromNanoseconds = fromNanoseconds;
+        _fromMilliseconds = fromMillisecondsPrimitive;
+        _fromNanoseconds = fromNanosecondsPrimitive;
         this.adjust = adjust == null ? ((d, z) -> d) : adjust;
         this.replaceZeroOffsetAsZ = replaceZeroOffsetAsZ;
         this._adjustToContextTZOverride = null;
         this._readTimestampsAsNanosOverride = null;
         _normalizeZoneId = normalizeZoneId;
         _alwaysAllowStringifiedDateTimestamps = readNumericStringsAsTimestamp;
+        _useFastIsoParser = DEFAULT_USE_FAST_ISO_PARSER;
+        _timestampUnit = null;
     }
 
     /**
@@ -219,12 +325,16 @@ public class InstantDeserializer<T extends Temporal>
         parsedToValue = base.parsedToValue;
         fromMilliseconds = base.fromMilliseconds;
         fromNanoseconds = base.fromNanoseconds;
+        _fromMilliseconds = base._fromMilliseconds;
+        _fromNanoseconds = base._fromNanoseconds;
         adjust = base.adjust;
         replaceZeroOffsetAsZ = (_formatter == DateTimeFormatter.ISO_INSTANT);
         _adjustToContextTZOverride = base._adjustToContextTZOverride;
         _readTimestampsAsNanosOverride = base._readTimestampsAsNanosOverride;
         _normalizeZoneId = base._normalizeZoneId;
         _alwaysAllowStringifiedDateTimestamps = base._alwaysAllowStringifiedDateTimestamps;
+        _useFastIsoParser = base._useFastIsoParser;
+        _timestampUnit = base._timestampUnit;
     }
 
     @SuppressWarnings("unchecked")
@@ -234,12 +344,16 @@ public class InstantDeserializer<T extends Temporal>
         parsedToValue = base.parsedToValue;
         fromMilliseconds = base.fromMilliseconds;
         fromNanoseconds = base.fromNanoseconds;
+        _fromMilliseconds = base._fromMilliseconds;
+        _fromNanoseconds = base._fromNanoseconds;
         adjust = base.adjust;
         replaceZeroOffsetAsZ = base.replaceZeroOffsetAsZ;
         _adjustToContextTZOverride = adjustToContextTimezoneOverride;
         _readTimestampsAsNanosOverride = base._readTimestampsAsNanosOverride;
         _normalizeZoneId = base._normalizeZoneId;
         _alwaysAllowStringifiedDateTimestamps = base._alwaysAllowStringifiedDateTimestamps;
+        _useFastIsoParser = base._useFastIsoParser;
+        _timestampUnit = base._timestampUnit;
     }
 
     @SuppressWarnings("unchecked")
@@ -249,12 +363,16 @@ public class InstantDeserializer<T extends Temporal>
         parsedToValue = base.parsedToValue;
         fromMilliseconds = base.fromMilliseconds;
         fromNanoseconds = base.fromNanoseconds;
+        _fromMilliseconds = base._fromMilliseconds;
+        _fromNanoseconds = base._fromNanoseconds;
         adjust = base.adjust;
         replaceZeroOffsetAsZ = (_formatter == DateTimeFormatter.ISO_INSTANT);
         _adjustToContextTZOverride = base._adjustToContextTZOverride;
         _readTimestampsAsNanosOverride = base._readTimestampsAsNanosOverride;
         _normalizeZoneId = base._normalizeZoneId;
         _alwaysAllowStringifiedDateTimestamps = base._alwaysAllowStringifiedDateTimestamps;
+        _useFastIsoParser = base._useFastIsoParser;
+        _timestampUnit = base._timestampUnit;
     }
 
     /**
@@ -271,12 +389,16 @@ public class InstantDeserializer<T extends Temporal>
         parsedToValue = base.parsedToValue;
         fromMilliseconds = base.fromMilliseconds;
         fromNanoseconds = base.fromNanoseconds;
+        _fromMilliseconds = base._fromMilliseconds;
+        _fromNanoseconds = base._fromNanoseconds;
         adjust = base.adjust;
         replaceZeroOffsetAsZ = base.replaceZeroOffsetAsZ;
         _adjustToContextTZOverride = adjustToContextTimezoneOverride;
         _readTimestampsAsNanosOverride = readTimestampsAsNanosOverride;
         _normalizeZoneId = base._normalizeZoneId;
         _alwaysAllowStringifiedDateTimestamps = base._alwaysAllowStringifiedDateTimestamps;
+        _useFastIsoParser = base._useFastIsoParser;
+        _timestampUnit = base._timestampUnit;
     }
 
     /**
@@ -290,6 +412,8 @@ public class InstantDeserializer<T extends Temporal>
         parsedToValue = base.parsedToValue;
         fromMilliseconds = base.fromMilliseconds;
         fromNanoseconds = base.fromNanoseconds;
+        _fromMilliseconds = base._fromMilliseconds;
+        _fromNanoseconds = base._fromNanoseconds;
         adjust = base.adjust;
         replaceZeroOffsetAsZ = base.replaceZeroOffsetAsZ;
         _adjustToContextTZOverride = base._adjustToContextTZOverride;
@@ -297,6 +421,29 @@ public class InstantDeserializer<T extends Temporal>
 
         _normalizeZoneId = features.isEnabled(JavaTimeFeature.NORMALIZE_DESERIALIZED_ZONE_ID);
         _alwaysAllowStringifiedDateTimestamps = features.isEnabled(JavaTimeFeature.ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS);
+        _useFastIsoParser = features.isEnabled(JavaTimeFeature.USE_FAST_ISO_DATE_TIME_PARSER);
+        _timestampUnit = base._timestampUnit;
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected InstantDeserializer(InstantDeserializer<T> base, TimestampPrecision timestampUnit)
+    {
+        super(base, base._isLenient, base._formatter, base._shape);
+        parsedToValue = base.parsedToValue;
+        fromMilliseconds = base.fromMilliseconds;
+        fromNanoseconds = base.fromNanoseconds;
+        _fromMilliseconds = base._fromMilliseconds;
+        _fromNanoseconds = base._fromNanoseconds;
+        adjust = base.adjust;
+        replaceZeroOffsetAsZ = base.replaceZeroOffsetAsZ;
+        _adjustToContextTZOverride = base._adjustToContextTZOverride;
+        _readTimestampsAsNanosOverride = base._readTimestampsAsNanosOverride;
+        _normalizeZoneId = base._normalizeZoneId;
+        _alwaysAllowStringifiedDateTimestamps = base._alwaysAllowStringifiedDateTimestamps;
+        _useFastIsoParser = base._useFastIsoParser;
+        _timestampUnit = timestampUnit;
     }
 
     @Override
@@ -316,6 +463,7 @@ public class InstantDeserializer<T extends Temporal>
     public InstantDeserializer<T> withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
         if ((_normalizeZoneId == features.isEnabled(JavaTimeFeature.NORMALIZE_DESERIALIZED_ZONE_ID))
                 && (_alwaysAllowStringifiedDateTimestamps == features.isEnabled(JavaTimeFeature.ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS))
+                && (_useFastIsoParser == features.isEnabled(JavaTimeFeature.USE_FAST_ISO_DATE_TIME_PARSER))
         ) {
             return this;
         }
@@ -335,9 +483,16 @@ public class InstantDeserializer<T extends Temporal>
             JsonFormat.Feature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
         if (!Objects.equals(adjustToContextTZOverride, deser._adjustToContextTZOverride)
             || !Objects.equals(readTimestampsAsNanosOverride, deser._readTimestampsAsNanosOverride)) {
-            return new InstantDeserializer<>(deser, deser._isLenient, deser._formatter,
+            deser = new InstantDeserializer<>(deser, deser._isLenient, deser._formatter,
                 deser._shape, adjustToContextTZOverride, readTimestampsAsNanosOverride);
         }
+        TimestampPrecision timestampUnit = null;
+        if ((formatOverrides.getShape() == JsonFormat.Shape.NUMBER_INT) && formatOverrides.hasPattern()) {
+            timestampUnit = TimestampPrecision.forPattern(formatOverrides.getPattern());
+        }
+        if (timestampUnit != deser._timestampUnit) {
+            deser = new InstantDeserializer<>(deser, timestampUnit);
+        }
         return deser;
     }
 
@@ -350,10 +505,29 @@ public class InstantDeserializer<T extends Temporal>
         switch (parser.currentTokenId())
         {
             case JsonTokenId.ID_NUMBER_FLOAT:
+                // For textual formats can decode directly from text, without BigDecimal
+                if (!parser.getReadCapabilities().isEnabled(StreamReadCapability.EXACT_FLOATS)) {
+                    T value = _fromDecimal(context, parser.getTextCharacters(),
+                            parser.getTextOffset(), parser.getTextLength());
+                    if (value != null) {
+                        return value;
+                    }
+                }
                 return _fromDecimal(context, parser.getDecimalValue());
             case JsonTokenId.ID_NUMBER_INT:
                 return _fromLong(context, parser.getLongValue());
             case JsonTokenId.ID_STRING:
+                // Try parsing directly from the parser's buffer, to avoid constructing String
+                if (_useFastIsoParser) {
+                    T value = _fromDefaultFormatFast(parser.getTextCharacters(),
+                            parser.getTextOffset(), parser.getTextLength());
+                    if (value != null) {
+                        if ((_settings(context) & SETTING_ADJUST_TO_CONTEXT_TIME_ZONE) != 0) {
+                            return adjust.apply(value, getZone(context));
+                        }
+                        return value;
+                    }
+                }
                 return _fromString(parser, context, parser.getText());
             case JsonTokenId.ID_EMBEDDED_OBJECT:
                 // 20-Apr-2016, tatu: Related to [databind#1208], can try supporting embedded
@@ -385,6 +559,19 @@ public class InstantDeserializer<T extends Temporal>
             context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
     }
 
+    @Override // since 2.20
+    protected int _resolveSettings(DeserializationContext ctxt)
+    {
+        int settings = 0;
+        if (shouldAdjustToContextTimezone(ctxt)) {
+            settings |= SETTING_ADJUST_TO_CONTEXT_TIME_ZONE;
+        }
+        if (shouldReadTimestampsAsNanoseconds(ctxt)) {
+            settings |= SETTING_READ_NANOSECONDS;
+        }
+        return settings;
+    }
+
     // Helper method to find Strings of form "all digits" and "digits-comma-digits"
     protected int _countPeriods(String str, boolean allowLeadingPlusSign)
     {
@@ -431,6 +618,10 @@ public class InstantDeserializer<T extends Temporal>
                         return _fromLong(ctxt, NumberInput.parseLong(string));
                     }
                     if (dots == 1) {
+                        T value = _fromDecimal(ctxt, DateTimeInput.charsOf(string), 0, string.length());
+                        if (value != null) {
+                            return value;
+                        }
                         return _fromDecimal(ctxt, NumberInput.parseBigDecimal(string, false));
                     }
                 } catch (NumberFormatException e) {
@@ -438,6 +629,18 @@ public class InstantDeserializer<T extends Temporal>
                 }
             }
 
+            // Text of String tokens was already tried in `deserialize()`, directly from
+            // parser's buffer: no need to retry unless white space was trimmed
+            if (_useFastIsoParser
+                    && (!p.hasToken(JsonToken.VALUE_STRING) || (string != string0))) {
+                T value = _fromDefaultFormatFast(string);
+                if (value != null) {
+                    if ((_settings(ctxt) & SETTING_ADJUST_TO_CONTEXT_TIME_ZONE) != 0) {
+                        return adjust.apply(value, getZone(ctxt));
+                    }
+                    return value;
+                }
+            }
             string = replaceZeroOffsetAsZIfNecessary(string);
         }
 
@@ -456,7 +659,7 @@ public class InstantDeserializer<T extends Temporal>
         try {
             TemporalAccessor acc = _formatter.parse(string);
             value = parsedToValue.apply(acc);
-            if (shouldAdjustToContextTimezone(ctxt)) {
+            if ((_settings(ctxt) & SETTING_ADJUST_TO_CONTEXT_TIME_ZONE) != 0) {
                 return adjust.apply(value, getZone(ctxt));
             }
         } catch (DateTimeException e) {
@@ -465,24 +668,76 @@ public class InstantDeserializer<T extends Temporal>
         return value;
     }
 
+    /**
+     * Helper method for parsing values in default ISO-8601 format without
+     * using {@code DateTimeFormatter}.
+     *
+     * @return Value parsed, if input was in format {@link DateTimeInput} handles;
+     *    {@code null} if not (in which case caller needs to use formatter)
+     *
+     * @since 2.20
+     */
+    protected T _fromDefaultFormatFast(String str) {
+        return _fromDefaultFormatFast(DateTimeInput.charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Alternative to {@link #_fromDefaultFormatFast(String)} that parses given
+     * range of characters (usually from {@link JsonParser#getTextCharacters()}).
+     *
+     * @since 2.20
+     */
+    @SuppressWarnings("unchecked")
+    protected T _fromDefaultFormatFast(char[] ch, int offset, int len)
+    {
+        if (_valueClass == Instant.class) {
+            if (_formatter == DateTimeFormatter.ISO_INSTANT) {
+                return (T) DateTimeInput.parseInstant(ch, offset, len);
+            }
+        } else if (_valueClass == OffsetDateTime.class) {
+            if (_formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+                return (T) DateTimeInput.parseOffsetDateTime(ch, offset, len);
+            }
+        } else if (_valueClass == ZonedDateTime.class) {
+            if (_formatter == DateTimeFormatter.ISO_ZONED_DATE_TIME) {
+                return (T) DateTimeInput.parseZonedDateTime(ch, offset, len);
+            }
+        }
+        return null;
+    }
+
     protected T _fromLong(DeserializationContext context, long timestamp)
     {
-        if(shouldReadTimestampsAsNanoseconds(context)){
-            return fromNanoseconds.apply(new FromDecimalArguments(
-                    timestamp, 0, this.getZone(context)
-            ));
+        if (_timestampUnit != null) {
+            return _fromNanoseconds.apply(_timestampUnit.secondsOf(timestamp),
+                    _timestampUnit.nanosOf(timestamp), this.getZone(context));
+        }
+        if ((_settings(context) & SETTING_READ_NANOSECONDS) != 0) {
+            return _fromNanoseconds.apply(timestamp, 0, this.getZone(context));
         }
-        return fromMilliseconds.apply(new FromIntegerArguments(
-                timestamp, this.getZone(context)));
+        return _fromMilliseconds.apply(timestamp, this.getZone(context));
     }
 
     protected T _fromDecimal(DeserializationContext context, BigDecimal value)
     {
-        FromDecimalArguments args =
-            DecimalUtils.extractSecondsAndNanos(value, (s, ns) -> new FromDecimalArguments(s, ns, getZone(context)),
-                    // [modules-java8#337] since 2.19, only Instant needs negative adjustment
-                    true);
-        return fromNanoseconds.apply(args);
+        return DecimalUtils.extractSecondsAndNanos(value, getZone(context), _fromNanoseconds,
+                // [modules-java8#337] since 2.19, only Instant needs negative adjustment
+                true);
+    }
+
+    /**
+     * Alternative to {@link #_fromDecimal(DeserializationContext, BigDecimal)} that
+     * decodes decimal timestamp from its textual representation.
+     *
+     * @return Value decoded, if text could be decoded without {@link BigDecimal};
+     *    {@code null} if not (in which case caller needs to use {@link BigDecimal})
+     *
+     * @since 2.20
+     */
+    protected T _fromDecimal(DeserializationContext context, char[] ch, int offset, int len)
+    {
+        return DecimalUtils.extractSecondsAndNanos(ch, offset, len, getZone(context),
+                _fromNanoseconds, true);
     }
 
     private ZoneId getZone(DeserializationContext context)
@@ -493,8 +748,9 @@ public class InstantDeserializer<T extends Temporal>
         if (_valueClass == Instant.class) {
             return null;
         }
-        ZoneId zoneId = context.getTimeZone().toZoneId();
-        return _normalizeZoneId ? zoneId.normalized() : zoneId;
+        // Resolved ZoneId is shared by all values read with same configuration
+        final TimeZone tz = context.getTimeZone();
+        return _normalizeZoneId ? ZoneIdResolver.normalizedZoneIdOf(tz) : ZoneIdResolver.zoneIdOf(tz);
     }
 
     private String replaceZeroOffsetAsZIfNecessary(String text)
@@ -597,4 +853,30 @@ public class InstantDeserializer<T extends Temporal>
             this.zoneId = zoneId;
         }
     }
+
+    /**
+     * Function for constructing value from epoch milliseconds and {@link ZoneId};
+     * primitive-argument alternative to {@code Function<FromIntegerArguments, T>}.
+     *
+     * @since 2.20
+     */
+    @FunctionalInterface
+    public interface FromIntegerFunction<T>
+    {
+        T apply(long value, ZoneId zoneId);
+    }
+
+    /**
+     * Function for constructing value from epoch seconds, nanoseconds and {@link ZoneId};
+     * primitive-argument alternative to {@code Function<FromDecimalArguments, T>}.
+     *
+     * @since 2.20
+     */
+    @FunctionalInterface
+    public interface FromDecimalFunction<T>
+        extends DecimalUtils.SecondsAndNanosFunction<ZoneId, T>
+    {
+        @Override
+        T apply(long integer, int fraction, ZoneId zoneId);
+    }
 }
@@ -0,0 +1,60 @@
+package com.fasterxml.jackson.datatype.jsr310.deser;
+
+import java.io.IOException;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.util.CanonicalValues;
+
+/**
+ * Deserializer that replaces values read by the default deserializer with
+ * canonical instances of equal value (see {@link CanonicalValues} for
+ * supported types), used when
+ * {@link com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature#INTERN_DESERIALIZED_VALUES}
+ * is enabled.
+ *
+ * @since 2.20
+ */
+public class InterningDeserializer extends DelegatingDeserializer
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final UnaryOperator<Object> _canonicalizer;
+
+    /**
+     * @param defaultDeserializer Deserializer for a type supported by
+     *    {@link CanonicalValues#canonicalizerFor}
+     */
+    @SuppressWarnings("unchecked")
+    public InterningDeserializer(JsonDeserializer<?> defaultDeserializer)
+    {
+        super(defaultDeserializer);
+        _canonicalizer = (UnaryOperator<Object>) CanonicalValues.canonicalizerFor(
+                defaultDeserializer.handledType());
+        if (_canonicalizer == null) {
+            throw new IllegalArgumentException("Cannot canonicalize values of type "
+                    + defaultDeserializer.handledType().getName());
+        }
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new InterningDeserializer(newDelegatee);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return _canonicalizer.apply(_delegatee.deserialize(p, ctxt));
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt,
+            TypeDeserializer typeDeserializer) throws IOException
+    {
+        return _canonicalizer.apply(_delegatee.deserializeWithType(p, ctxt, typeDeserializer));
+    }
+}
@@ -1,8 +1,8 @@
 package com.fasterxml.jackson.datatype.jsr310.deser;
 
 import java.io.IOException;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
 import java.util.Locale;
 
@@ -18,6 +18,9 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.CompiledDateTimePattern;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeFormatterCache;
 
 @SuppressWarnings("serial")
 public abstract class JSR310DateTimeDeserializerBase<T>
@@ -38,10 +41,29 @@ public abstract class JSR310DateTimeDeserializerBase<T>
      */
     protected final Shape _shape;
 
+    /**
+     * Specialized parser for {@link #_formatter}, if it was built from a pattern
+     * that could be compiled (see {@link CompiledDateTimePattern}); {@code null} if not.
+     *
+     * @since 2.20
+     */
+    protected final CompiledDateTimePattern _compiledPattern;
+
+    /**
+     * Whether integers are accepted as single-number representation of values
+     * with {@link JsonFormat.Shape#NUMBER_INT}, by types that support it (see
+     * {@link com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature#USE_SINGLE_NUMBER_SHAPES}).
+     *
+     * @since 2.20
+     */
+    protected final boolean _singleNumberShapes;
+
     protected JSR310DateTimeDeserializerBase(Class<T> supportedType, DateTimeFormatter f) {
         super(supportedType);
         _formatter = f;
         _shape = null;
+        _compiledPattern = null;
+        _singleNumberShapes = false;
     }
 
     /**
@@ -51,6 +73,8 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(supportedType, leniency);
         _formatter = f;
         _shape = null;
+        _compiledPattern = null;
+        _singleNumberShapes = false;
     }
 
     /**
@@ -61,6 +85,8 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(base);
         _formatter = f;
         _shape = base._shape;
+        _compiledPattern = (f == base._formatter) ? base._compiledPattern : null;
+        _singleNumberShapes = base._singleNumberShapes;
     }
     
     /**
@@ -71,6 +97,8 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(base, leniency);
         _formatter = base._formatter;
         _shape = base._shape;
+        _compiledPattern = base._compiledPattern;
+        _singleNumberShapes = base._singleNumberShapes;
     }
 
     /**
@@ -81,6 +109,8 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(base);
         _formatter = base._formatter;
         _shape = shape;
+        _compiledPattern = base._compiledPattern;
+        _singleNumberShapes = base._singleNumberShapes;
     }
 
     /**
@@ -93,10 +123,46 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(base, leniency);
         _formatter = formatter;
         _shape = shape;
+        _compiledPattern = (formatter == base._formatter) ? base._compiledPattern : null;
+        _singleNumberShapes = base._singleNumberShapes;
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected JSR310DateTimeDeserializerBase(JSR310DateTimeDeserializerBase<T> base,
+            CompiledDateTimePattern compiledPattern) {
+        super(base);
+        _formatter = base._formatter;
+        _shape = base._shape;
+        _compiledPattern = compiledPattern;
+        _singleNumberShapes = base._singleNumberShapes;
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected JSR310DateTimeDeserializerBase(JSR310DateTimeDeserializerBase<T> base,
+            boolean singleNumberShapes) {
+        super(base);
+        _formatter = base._formatter;
+        _shape = base._shape;
+        _compiledPattern = base._compiledPattern;
+        _singleNumberShapes = singleNumberShapes;
     }
 
     protected abstract JSR310DateTimeDeserializerBase<T> withDateFormat(DateTimeFormatter dtf);
 
+    /**
+     * Helper method for checking whether integers are to be accepted as single-number
+     * representation of values (see {@link #_singleNumberShapes}).
+     *
+     * @since 2.20
+     */
+    protected boolean _useSingleNumberShape() {
+        return _singleNumberShapes && (_shape == JsonFormat.Shape.NUMBER_INT);
+    }
+
     /**
      * @since 2.10
      */
@@ -113,6 +179,17 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         return this;
     }
 
+    /**
+     * Mutant factory for attaching a specialized parser for the current
+     * (pattern-based) formatter. The default implementation returns this,
+     * as compiled patterns are only used for types that support them.
+     *
+     * @since 2.20
+     */
+    protected JSR310DateTimeDeserializerBase<T> withCompiledPattern(CompiledDateTimePattern compiledPattern) {
+        return this;
+    }
+
     @Override
     public JsonDeserializer<?> createContextual(DeserializationContext ctxt,
             BeanProperty property) throws JsonMappingException
@@ -144,32 +221,27 @@ public abstract class JSR310DateTimeDeserializerBase<T>
                 deser = deser.withLeniency(leniency);
             }
         }
-        if (formatOverrides.hasPattern()) {
+        // 2.20: names of precisions (see `TimestampPrecision`) are not patterns
+        if (formatOverrides.hasPattern()
+                && (TimestampPrecision.forPattern(formatOverrides.getPattern()) == null)) {
             final String pattern = formatOverrides.getPattern();
             final Locale locale = formatOverrides.hasLocale() ? formatOverrides.getLocale() : ctxt.getLocale();
-            DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
-            if (acceptCaseInsensitiveValues(ctxt, formatOverrides)) {
-                builder.parseCaseInsensitive();
-            }
-            builder.appendPattern(pattern);
-            DateTimeFormatter df;
-            if (locale == null) {
-                df = builder.toFormatter();
-            } else {
-                df = builder.toFormatter(locale);
-            }
-
             // [#148]: allow strict parsing
-            if (!deser.isLenient()) {
-                df = df.withResolverStyle(ResolverStyle.STRICT);
-            }
-
+            final ResolverStyle resolverStyle = deser.isLenient() ? ResolverStyle.SMART : ResolverStyle.STRICT;
             // [#69]: For instant serializers/deserializers we need to configure the formatter with
             //a time zone picked up from JsonFormat annotation, otherwise serialization might not work
-            if (formatOverrides.hasTimeZone()) {
-                df = df.withZone(formatOverrides.getTimeZone().toZoneId());
-            }
+            final ZoneId zone = formatOverrides.hasTimeZone() ? formatOverrides.getTimeZone().toZoneId() : null;
+            // Formatters are immutable so ones for identical settings may be shared
+            DateTimeFormatter df = DateTimeFormatterCache.sharedInstance().findOrCreate(pattern,
+                    locale, zone, resolverStyle, acceptCaseInsensitiveValues(ctxt, formatOverrides));
             deser = deser.withDateFormat(df);
+
+            // Fixed-width numeric patterns can use specialized parser; but only
+            // if it resolves values the same way as formatter would
+            CompiledDateTimePattern compiled = CompiledDateTimePattern.compile(pattern);
+            if ((compiled != null) && compiled.canParseWith(df.getResolverStyle())) {
+                deser = deser.withCompiledPattern(compiled);
+            }
         }
         // [#58]: For LocalDate deserializers we need to configure the formatter with
         //a shape picked up from JsonFormat annotation, to decide if the value is EpochSeconds
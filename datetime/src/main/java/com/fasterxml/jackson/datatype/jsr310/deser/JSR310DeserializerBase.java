@@ -23,6 +23,7 @@ import java.util.Arrays;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -31,6 +32,7 @@ import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.type.LogicalType;
 import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.fasterxml.jackson.datatype.jsr310.util.ResolvedSettings;
 
 /**
  * Base class that indicates that all JSR310 datatypes are deserialized from scalar JSON types.
@@ -60,6 +62,15 @@ abstract class JSR310DeserializerBase<T> extends StdScalarDeserializer<T>
      */
     protected final boolean _isLenient;
 
+    /**
+     * Settings resolved (see {@link #_resolveSettings}) for the most recently
+     * used configuration, packed along with configuration inputs they were
+     * resolved from (see {@link ResolvedSettings}).
+     *
+     * @since 2.20
+     */
+    private transient volatile long _resolvedSettings = ResolvedSettings.NONE;
+
     /**
      * @since 2.11
      */
@@ -220,6 +231,60 @@ abstract class JSR310DeserializerBase<T> extends StdScalarDeserializer<T>
                 ClassUtil.nameOf(handledType()), p.currentToken());
     }
 
+    /**
+     * Method for accessing settings (bit flags) this deserializer uses with
+     * configuration of given context. Since these only depend on enabled
+     * {@link DeserializationFeature}s (and settings of this deserializer), they
+     * are resolved once for these (see {@link #_resolveSettings}) and reused for
+     * subsequent values.
+     *
+     * @since 2.20
+     */
+    protected final int _settings(DeserializationContext ctxt)
+    {
+        final long key = ResolvedSettings.key(ctxt.getDeserializationFeatures(), false);
+        long settings = _resolvedSettings;
+        if (!ResolvedSettings.isFor(settings, key)) {
+            settings = ResolvedSettings.pack(key, _resolveSettings(ctxt));
+            _resolvedSettings = settings;
+        }
+        return ResolvedSettings.flags(settings);
+    }
+
+    /**
+     * Method called to resolve settings (see {@link #_settings}) for
+     * configuration of given context: sub-classes that use settings need
+     * to override; base implementation returns 0.
+     * Settings may only depend on enabled {@link DeserializationFeature}s.
+     *
+     * @since 2.20
+     */
+    protected int _resolveSettings(DeserializationContext ctxt) {
+        return 0;
+    }
+
+    /**
+     * Helper method for reading next, possibly optional, component of
+     * array-shaped values: equivalent to calling {@code p.nextToken()}
+     * followed by {@code p.getIntValue()} (unless array ends), but uses
+     * {@link JsonParser#nextIntValue} for the common case of int values.
+     * Caller needs to check whether parser points to {@link JsonToken#END_ARRAY}
+     * after call.
+     *
+     * @return Value of the component read, if any (-1 if array ended)
+     *
+     * @since 2.20
+     */
+    protected static int _nextArrayComponent(JsonParser p) throws IOException
+    {
+        final int value = p.nextIntValue(-1);
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT) || p.hasToken(JsonToken.END_ARRAY)) {
+            return value;
+        }
+        // for other tokens, coerce (or fail) same as `getIntValue()` does
+        return p.getIntValue();
+    }
+
     /**
      * Helper method used to peel off spurious wrappings of DateTimeException
      *
@@ -35,6 +35,8 @@ import com.fasterxml.jackson.databind.cfg.CoercionAction;
 import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdCache;
 
 /**
  * Deserializer for all Java 8 temporal {@link java.time} types that cannot be represented
@@ -118,6 +120,20 @@ public class JSR310StringParsableDeserializer
     public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
     {
         if (p.hasToken(JsonToken.VALUE_STRING)) {
+            // Try parsing directly from the parser's buffer, to avoid constructing String
+            if (_typeSelector == TYPE_ZONE_OFFSET) {
+                ZoneOffset offset = DateTimeInput.parseZoneOffset(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength());
+                if (offset != null) {
+                    return offset;
+                }
+            } else if (_typeSelector == TYPE_PERIOD) {
+                Period period = DateTimeInput.parsePeriod(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength());
+                if (period != null) {
+                    return period;
+                }
+            }
             return _fromString(p, ctxt, p.getText());
         }
         // 30-Sep-2020, tatu: New! "Scalar from Object" (mostly for XML)
@@ -181,9 +197,9 @@ _coercedTypeDesc());
             case TYPE_PERIOD:
                 return Period.parse(string);
             case TYPE_ZONE_ID:
-                return ZoneId.of(string);
+                return ZoneIdCache.sharedInstance().zoneIdOf(string);
             case TYPE_ZONE_OFFSET:
-                return ZoneOffset.of(string);
+                return ZoneIdCache.sharedInstance().zoneOffsetOf(string);
             }
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, e, string);
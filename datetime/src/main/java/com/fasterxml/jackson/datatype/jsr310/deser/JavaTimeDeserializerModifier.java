@@ -7,6 +7,9 @@ import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.datatype.jsr310.util.TimestampDeltas;
 
 /**
  * @since 2.17
@@ -27,4 +30,23 @@ public class JavaTimeDeserializerModifier extends BeanDeserializerModifier {
         }
         return defaultDeserializer;
     }
+
+    // @since 2.20: delta-encoded shape for Collections and arrays, if enabled
+    @Override
+    public JsonDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config, CollectionType type, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+        final Class<?> elementType = type.getContentType().getRawClass();
+        if (TimestampDeltas.isSupported(elementType)) {
+            return new TimestampDeltasDeserializer(deserializer, elementType);
+        }
+        return deserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> modifyArrayDeserializer(DeserializationConfig config, ArrayType valueType, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+        final Class<?> elementType = valueType.getContentType().getRawClass();
+        if (TimestampDeltas.isSupported(elementType)) {
+            return new TimestampDeltasDeserializer(deserializer, elementType);
+        }
+        return deserializer;
+    }
 }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -31,6 +32,9 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.cfg.CoercionAction;
 import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.CompiledDateTimePattern;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdResolver;
 
 /**
  * Deserializer for Java 8 temporal {@link LocalDate}s.
@@ -92,6 +96,14 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
         _useTimeZoneForLenientDateParsing = base._useTimeZoneForLenientDateParsing;
     }
 
+    /**
+     * @since 2.20
+     */
+    protected LocalDateDeserializer(LocalDateDeserializer base, CompiledDateTimePattern compiledPattern) {
+        super(base, compiledPattern);
+        _useTimeZoneForLenientDateParsing = base._useTimeZoneForLenientDateParsing;
+    }
+
     /**
      * Since 2.19
      */
@@ -113,6 +125,11 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
     @Override
     protected LocalDateDeserializer withShape(JsonFormat.Shape shape) { return new LocalDateDeserializer(this, shape); }
 
+    @Override
+    protected LocalDateDeserializer withCompiledPattern(CompiledDateTimePattern compiledPattern) {
+        return new LocalDateDeserializer(this, compiledPattern);
+    }
+
     /**
      * Since 2.19
      */
@@ -128,6 +145,18 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
     public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
     {
         if (p.hasToken(JsonToken.VALUE_STRING)) {
+            // Try parsing directly from the parser's buffer, to avoid constructing String
+            LocalDate date = null;
+            if (_formatter == DEFAULT_FORMATTER) {
+                date = DateTimeInput.parseLocalDate(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength());
+            } else if (_compiledPattern != null) {
+                date = _compiledPattern.parseLocalDate(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength());
+            }
+            if (date != null) {
+                return date;
+            }
             return _fromString(p, ctxt, p.getText());
         }
         // 30-Sep-2020, tatu: New! "Scalar from Object" (mostly for XML)
@@ -201,16 +230,25 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
             // if we are using default formatter
             DateTimeFormatter format = _formatter;
             if (format == DEFAULT_FORMATTER) {
+                final int len = string.length();
                 // JavaScript by default includes time in JSON serialized Dates (UTC/ISO instant format).
-                if (string.length() > 10 && string.charAt(10) == 'T') {
+                if (len > 10 && string.charAt(10) == 'T') {
                     if (isLenient()) {
                         if (string.endsWith("Z")) {
                             if (_useTimeZoneForLenientDateParsing) {
-                                return Instant.parse(string).atZone(ctxt.getTimeZone().toZoneId()).toLocalDate();
+                                return Instant.parse(string).atZone(ZoneIdResolver.zoneIdOf(ctxt.getTimeZone())).toLocalDate();
                             }
-                            return LocalDate.parse(string.substring(0, string.length() - 1),
+                            LocalDateTime dt = DateTimeInput.parseLocalDateTime(DateTimeInput.charsOf(string), 0, len-1);
+                            if (dt != null) {
+                                return dt.toLocalDate();
+                            }
+                            return LocalDate.parse(string.substring(0, len - 1),
                                     DateTimeFormatter.ISO_LOCAL_DATE_TIME);
                         }
+                        LocalDateTime dt = DateTimeInput.parseLocalDateTime(string);
+                        if (dt != null) {
+                            return dt.toLocalDate();
+                        }
                         return LocalDate.parse(string, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
                     }
                     JavaType t = getValueType(ctxt);
@@ -219,6 +257,16 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
 "Should not contain time component when 'strict' mode set for property or type (enable 'lenient' handling to allow)"
                             );
                 }
+                LocalDate date = DateTimeInput.parseLocalDate(string);
+                if (date != null) {
+                    return date;
+                }
+            }
+            if (_compiledPattern != null) {
+                LocalDate date = _compiledPattern.parseLocalDate(DateTimeInput.charsOf(string), 0, string.length());
+                if (date != null) {
+                    return date;
+                }
             }
             return LocalDate.parse(string, format);
         } catch (DateTimeException e) {
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
@@ -34,6 +35,9 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.CompiledDateTimePattern;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdResolver;
 
 /**
  * Deserializer for Java 8 temporal {@link LocalDateTime}s.
@@ -103,6 +107,15 @@ public class LocalDateTimeDeserializer
         _useTimeZoneForLenientDateParsing = base._useTimeZoneForLenientDateParsing;
     }
 
+    /**
+     * @since 2.20
+     */
+    protected LocalDateTimeDeserializer(LocalDateTimeDeserializer base, CompiledDateTimePattern compiledPattern) {
+        super(base, compiledPattern);
+        _readTimestampsAsNanosOverride = base._readTimestampsAsNanosOverride;
+        _useTimeZoneForLenientDateParsing = base._useTimeZoneForLenientDateParsing;
+    }
+
     /**
      * Since 2.19
      */
@@ -112,16 +125,39 @@ public class LocalDateTimeDeserializer
         _useTimeZoneForLenientDateParsing = features.isEnabled(JavaTimeFeature.USE_TIME_ZONE_FOR_LENIENT_DATE_PARSING);
     }
 
+    /**
+     * @since 2.20
+     */
+    protected LocalDateTimeDeserializer(LocalDateTimeDeserializer base, boolean singleNumberShapes) {
+        super(base, singleNumberShapes);
+        _readTimestampsAsNanosOverride = base._readTimestampsAsNanosOverride;
+        _useTimeZoneForLenientDateParsing = base._useTimeZoneForLenientDateParsing;
+    }
+
     @Override
     protected LocalDateTimeDeserializer withDateFormat(DateTimeFormatter dtf) {
         return new LocalDateTimeDeserializer(this, _isLenient, dtf, _shape, _readTimestampsAsNanosOverride);
     }
 
+    @Override // since 2.20
+    protected LocalDateTimeDeserializer withShape(JsonFormat.Shape shape) {
+        // Shape only needs to be retained for single-number representation
+        if (!_singleNumberShapes) {
+            return this;
+        }
+        return new LocalDateTimeDeserializer(this, _isLenient, _formatter, shape, _readTimestampsAsNanosOverride);
+    }
+
     @Override
     protected LocalDateTimeDeserializer withLeniency(Boolean leniency) {
         return new LocalDateTimeDeserializer(this, leniency);
     }
 
+    @Override
+    protected LocalDateTimeDeserializer withCompiledPattern(CompiledDateTimePattern compiledPattern) {
+        return new LocalDateTimeDeserializer(this, compiledPattern);
+    }
+
     @Override
     protected JSR310DateTimeDeserializerBase<?> _withFormatOverrides(DeserializationContext ctxt,
         BeanProperty property, JsonFormat.Value formatOverrides) {
@@ -140,17 +176,34 @@ public class LocalDateTimeDeserializer
      * Since 2.19
      */
     public LocalDateTimeDeserializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
-        if (_useTimeZoneForLenientDateParsing ==
+        LocalDateTimeDeserializer deser = this;
+        if (_useTimeZoneForLenientDateParsing !=
                 features.isEnabled(JavaTimeFeature.USE_TIME_ZONE_FOR_LENIENT_DATE_PARSING)) {
-            return this;
+            deser = new LocalDateTimeDeserializer(deser, features);
         }
-        return new LocalDateTimeDeserializer(this, features);
+        final boolean singleNumberShapes = features.isEnabled(JavaTimeFeature.USE_SINGLE_NUMBER_SHAPES);
+        if (singleNumberShapes != deser._singleNumberShapes) {
+            deser = new LocalDateTimeDeserializer(deser, singleNumberShapes);
+        }
+        return deser;
     }
 
     @Override
     public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
     {
         if (p.hasTokenId(JsonTokenId.ID_STRING)) {
+            // Try parsing directly from the parser's buffer, to avoid constructing String
+            LocalDateTime value = null;
+            if (_formatter == DEFAULT_FORMATTER) {
+                value = DateTimeInput.parseLocalDateTime(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength());
+            } else if (_compiledPattern != null) {
+                value = _compiledPattern.parseLocalDateTime(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength());
+            }
+            if (value != null) {
+                return value;
+            }
             return _fromString(p, ctxt, p.getText());
         }
         // 30-Sep-2020, tatu: New! "Scalar from Object" (mostly for XML)
@@ -184,16 +237,14 @@ public class LocalDateTimeDeserializer
                 int hour = p.nextIntValue(-1);
                 int minute = p.nextIntValue(-1);
 
-                t = p.nextToken();
-                if (t == JsonToken.END_ARRAY) {
+                int second = _nextArrayComponent(p);
+                if (p.hasToken(JsonToken.END_ARRAY)) {
                     result = LocalDateTime.of(year, month, day, hour, minute);
                 } else {
-                    int second = p.getIntValue();
-                    t = p.nextToken();
-                    if (t == JsonToken.END_ARRAY) {
+                    int partialSecond = _nextArrayComponent(p);
+                    if (p.hasToken(JsonToken.END_ARRAY)) {
                         result = LocalDateTime.of(year, month, day, hour, minute, second);
                     } else {
-                        int partialSecond = p.getIntValue();
                         if (partialSecond < 1_000 && !shouldReadTimestampsAsNanoseconds(ctxt))
                             partialSecond *= 1_000_000; // value is milliseconds, convert it to nanoseconds
                         if (p.nextToken() != JsonToken.END_ARRAY) {
@@ -213,6 +264,15 @@ public class LocalDateTimeDeserializer
             return (LocalDateTime) p.getEmbeddedObject();
         }
         if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            // 2.20: epoch seconds in UTC, if explicitly enabled
+            if (_useSingleNumberShape()) {
+                final long epochSecond = p.getLongValue();
+                try {
+                    return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+                } catch (DateTimeException e) {
+                    return _handleDateTimeException(ctxt, e, String.valueOf(epochSecond));
+                }
+            }
             _throwNoNumericTimestampNeedTimeZone(p, ctxt);
         }
         return _handleUnexpectedToken(ctxt, p, "Expected array or string");
@@ -243,7 +303,12 @@ public class LocalDateTimeDeserializer
                    if (string.endsWith("Z")) {
                        if (isLenient()) {
                            if (_useTimeZoneForLenientDateParsing) {
-                               return Instant.parse(string).atZone(ctxt.getTimeZone().toZoneId()).toLocalDateTime();
+                               return Instant.parse(string).atZone(ZoneIdResolver.zoneIdOf(ctxt.getTimeZone())).toLocalDateTime();
+                           }
+                           LocalDateTime value = DateTimeInput.parseLocalDateTime(DateTimeInput.charsOf(string),
+                                   0, string.length()-1);
+                           if (value != null) {
+                               return value;
                            }
                            return LocalDateTime.parse(string.substring(0, string.length()-1),
                                    _formatter);
@@ -255,6 +320,17 @@ public class LocalDateTimeDeserializer
                                );
                    }
                 }
+                LocalDateTime value = DateTimeInput.parseLocalDateTime(string);
+                if (value != null) {
+                    return value;
+                }
+            }
+            if (_compiledPattern != null) {
+                LocalDateTime value = _compiledPattern.parseLocalDateTime(DateTimeInput.charsOf(string),
+                        0, string.length());
+                if (value != null) {
+                    return value;
+                }
             }
            return LocalDateTime.parse(string, _formatter);
         } catch (DateTimeException e) {
@@ -18,16 +18,22 @@ package com.fasterxml.jackson.datatype.jsr310.deser;
 
 import java.io.IOException;
 import java.time.DateTimeException;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.CompiledDateTimePattern;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 /**
  * Deserializer for Java 8 temporal {@link LocalTime}s.
@@ -78,6 +84,33 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
         _readTimestampsAsNanosOverride = readTimestampsAsNanosOverride;
     }
 
+    /**
+     * @since 2.20
+     */
+    protected LocalTimeDeserializer(LocalTimeDeserializer base, CompiledDateTimePattern compiledPattern) {
+        super(base, compiledPattern);
+        _readTimestampsAsNanosOverride = base._readTimestampsAsNanosOverride;
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected LocalTimeDeserializer(LocalTimeDeserializer base, boolean singleNumberShapes) {
+        super(base, singleNumberShapes);
+        _readTimestampsAsNanosOverride = base._readTimestampsAsNanosOverride;
+    }
+
+    /**
+     * @since 2.20
+     */
+    public LocalTimeDeserializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        final boolean singleNumberShapes = features.isEnabled(JavaTimeFeature.USE_SINGLE_NUMBER_SHAPES);
+        if (singleNumberShapes == _singleNumberShapes) {
+            return this;
+        }
+        return new LocalTimeDeserializer(this, singleNumberShapes);
+    }
+
     @Override
     protected LocalTimeDeserializer withDateFormat(DateTimeFormatter dtf) {
         return new LocalTimeDeserializer(this, _isLenient, dtf, _shape, _readTimestampsAsNanosOverride);
@@ -88,6 +121,20 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
         return new LocalTimeDeserializer(this, leniency);
     }
 
+    @Override // since 2.20
+    protected LocalTimeDeserializer withShape(JsonFormat.Shape shape) {
+        // Shape only needs to be retained for single-number representation
+        if (!_singleNumberShapes) {
+            return this;
+        }
+        return new LocalTimeDeserializer(this, _isLenient, _formatter, shape, _readTimestampsAsNanosOverride);
+    }
+
+    @Override
+    protected LocalTimeDeserializer withCompiledPattern(CompiledDateTimePattern compiledPattern) {
+        return new LocalTimeDeserializer(this, compiledPattern);
+    }
+
     @Override
     protected JSR310DateTimeDeserializerBase<?> _withFormatOverrides(DeserializationContext ctxt,
         BeanProperty property, JsonFormat.Value formatOverrides) {
@@ -106,6 +153,18 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
     public LocalTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
     {
         if (p.hasToken(JsonToken.VALUE_STRING)) {
+            // Try parsing directly from the parser's buffer, to avoid constructing String
+            LocalTime value = null;
+            if (_formatter == DEFAULT_FORMATTER) {
+                value = DateTimeInput.parseLocalTime(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength());
+            } else if (_compiledPattern != null) {
+                value = _compiledPattern.parseLocalTime(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength());
+            }
+            if (value != null) {
+                return value;
+            }
             return _fromString(p, ctxt, p.getText());
         }
         // 30-Sep-2020, tatu: New! "Scalar from Object" (mostly for XML)
@@ -132,21 +191,20 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
             }
             if (t == JsonToken.VALUE_NUMBER_INT) {
                 int hour = p.getIntValue();
-    
-                p.nextToken();
-                int minute = p.getIntValue();
+                int minute = p.nextIntValue(-1);
+                if (!p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                    minute = p.getIntValue();
+                }
                 LocalTime result;
-    
-                t = p.nextToken();
-                if (t == JsonToken.END_ARRAY) {
+
+                int second = _nextArrayComponent(p);
+                if (p.hasToken(JsonToken.END_ARRAY)) {
                     result = LocalTime.of(hour, minute);
                 } else {
-                    int second = p.getIntValue();
-                    t = p.nextToken();
-                    if (t == JsonToken.END_ARRAY) {
+                    int partialSecond = _nextArrayComponent(p);
+                    if (p.hasToken(JsonToken.END_ARRAY)) {
                         result = LocalTime.of(hour, minute, second);
                     } else {
-                        int partialSecond = p.getIntValue();
                         if(partialSecond < 1_000 && !shouldReadTimestampsAsNanoseconds(ctxt))
                             partialSecond *= 1_000_000; // value is milliseconds, convert it to nanoseconds
                         t = p.nextToken();
@@ -167,6 +225,10 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
             return (LocalTime) p.getEmbeddedObject();
         }
         if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            // 2.20: nano- or milli-of-day, if explicitly enabled
+            if (_useSingleNumberShape()) {
+                return _fromTimeOfDay(ctxt, p.getLongValue());
+            }
             _throwNoNumericTimestampNeedTimeZone(p, ctxt);
         }
         return _handleUnexpectedToken(ctxt, p, "Expected array or string");
@@ -177,6 +239,28 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
             context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
     }
 
+    /**
+     * Helper method for constructing value from its single-number representation,
+     * used with {@link JsonFormat.Shape#NUMBER_INT}: milli-of-day, unless
+     * {@link JsonFormat.Feature#READ_DATE_TIMESTAMPS_AS_NANOSECONDS} is explicitly
+     * enabled for the property (in which case nano-of-day), similar to how
+     * integer timestamps are millisecond-based by default.
+     *
+     * @since 2.20
+     */
+    protected LocalTime _fromTimeOfDay(DeserializationContext ctxt, long timeOfDay) throws IOException
+    {
+        try {
+            if (Boolean.TRUE.equals(_readTimestampsAsNanosOverride)) {
+                return LocalTime.ofNanoOfDay(timeOfDay);
+            }
+            ChronoField.MILLI_OF_DAY.checkValidValue(timeOfDay);
+            return LocalTime.ofNanoOfDay(timeOfDay * 1_000_000L);
+        } catch (DateTimeException e) {
+            return _handleDateTimeException(ctxt, e, String.valueOf(timeOfDay));
+        }
+    }
+
     protected LocalTime _fromString(JsonParser p, DeserializationContext ctxt,
             String string0)  throws IOException
     {
@@ -191,8 +275,22 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
         try {
             if (format == DEFAULT_FORMATTER) {
                 if (string.contains("T")) {
+                    LocalDateTime dt = DateTimeInput.parseLocalDateTime(string);
+                    if (dt != null) {
+                        return dt.toLocalTime();
+                    }
                     return LocalTime.parse(string, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
                 }
+                LocalTime value = DateTimeInput.parseLocalTime(string);
+                if (value != null) {
+                    return value;
+                }
+            }
+            if (_compiledPattern != null) {
+                LocalTime value = _compiledPattern.parseLocalTime(DateTimeInput.charsOf(string), 0, string.length());
+                if (value != null) {
+                    return value;
+                }
             }
             return LocalTime.parse(string, format);
         } catch (DateTimeException e) {
@@ -2,14 +2,18 @@ package com.fasterxml.jackson.datatype.jsr310.deser;
 
 import java.io.IOException;
 import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
 
 /**
  * Deserializer for Java 8 temporal {@link MonthDay}s.
@@ -51,6 +55,24 @@ public class MonthDayDeserializer extends JSR310DateTimeDeserializerBase<MonthDa
         super(base, leniency, formatter, shape);
     }
 
+    /**
+     * @since 2.20
+     */
+    protected MonthDayDeserializer(MonthDayDeserializer base, boolean singleNumberShapes) {
+        super(base, singleNumberShapes);
+    }
+
+    /**
+     * @since 2.20
+     */
+    public MonthDayDeserializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        final boolean singleNumberShapes = features.isEnabled(JavaTimeFeature.USE_SINGLE_NUMBER_SHAPES);
+        if (singleNumberShapes == _singleNumberShapes) {
+            return this;
+        }
+        return new MonthDayDeserializer(this, singleNumberShapes);
+    }
+
     @Override
     protected MonthDayDeserializer withLeniency(Boolean leniency) {
         return new MonthDayDeserializer(this, leniency);
@@ -61,6 +83,15 @@ public class MonthDayDeserializer extends JSR310DateTimeDeserializerBase<MonthDa
         return new MonthDayDeserializer(this, _isLenient, dtf, _shape);
     }
 
+    @Override // since 2.20
+    protected MonthDayDeserializer withShape(JsonFormat.Shape shape) {
+        // Shape only needs to be retained for single-number representation
+        if (!_singleNumberShapes) {
+            return this;
+        }
+        return new MonthDayDeserializer(this, _isLenient, _formatter, shape);
+    }
+
     @Override
     public MonthDay deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
     {
@@ -106,11 +137,30 @@ public class MonthDayDeserializer extends JSR310DateTimeDeserializerBase<MonthDa
             return MonthDay.of(month, day);
         } else if (p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
             return (MonthDay) p.getEmbeddedObject();
+        } else if (p.hasToken(JsonToken.VALUE_NUMBER_INT)
+                && (_useSingleNumberShape())) {
+            return _fromDayOfYear(ctxt, p.getLongValue());
         }
         return _handleUnexpectedToken(ctxt, p,
                 JsonToken.VALUE_STRING, JsonToken.START_ARRAY);
     }
 
+    /**
+     * Helper method for constructing value from its single-number representation,
+     * used with {@link JsonFormat.Shape#NUMBER_INT}: day-of-year in a leap year.
+     *
+     * @since 2.20
+     */
+    protected MonthDay _fromDayOfYear(DeserializationContext ctxt, long dayOfYear) throws IOException
+    {
+        try {
+            final int day = ChronoField.DAY_OF_YEAR.checkValidIntValue(dayOfYear);
+            return MonthDay.from(LocalDate.ofYearDay(2000, day));
+        } catch (DateTimeException e) {
+            return _handleDateTimeException(ctxt, e, String.valueOf(dayOfYear));
+        }
+    }
+
     protected MonthDay _fromString(JsonParser p, DeserializationContext ctxt,
             String string0)  throws IOException
     {
@@ -19,13 +19,14 @@ package com.fasterxml.jackson.datatype.jsr310.deser;
 import java.io.IOException;
 import java.time.DateTimeException;
 import java.time.OffsetTime;
-import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdCache;
 
 /**
  * Deserializer for Java 8 temporal {@link OffsetTime}s.
@@ -36,6 +37,8 @@ public class OffsetTimeDeserializer extends JSR310DateTimeDeserializerBase<Offse
 {
     private static final long serialVersionUID = 1L;
 
+    private static final DateTimeFormatter DEFAULT_FORMATTER = DateTimeFormatter.ISO_OFFSET_TIME;
+
     public static final OffsetTimeDeserializer INSTANCE = new OffsetTimeDeserializer();
 
     /**
@@ -46,7 +49,7 @@ public class OffsetTimeDeserializer extends JSR310DateTimeDeserializerBase<Offse
     protected final Boolean _readTimestampsAsNanosOverride;
 
     protected OffsetTimeDeserializer() { // was private before 2.12
-        this(DateTimeFormatter.ISO_OFFSET_TIME);
+        this(DEFAULT_FORMATTER);
     }
 
     protected OffsetTimeDeserializer(DateTimeFormatter dtf) {
@@ -154,10 +157,12 @@ public class OffsetTimeDeserializer extends JSR310DateTimeDeserializerBase<Offse
         }
         int partialSecond = 0;
         int second = 0;
-        if (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
-            second = p.getIntValue();
-            if (p.nextToken() == JsonToken.VALUE_NUMBER_INT) {
-                partialSecond = p.getIntValue();
+        int value = p.nextIntValue(0);
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            second = value;
+            value = p.nextIntValue(0);
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                partialSecond = value;
                 if (partialSecond < 1_000 && !shouldReadTimestampsAsNanoseconds(ctxt)) {
                     partialSecond *= 1_000_000; // value is milliseconds, convert it to nanoseconds
                 }
@@ -165,7 +170,7 @@ public class OffsetTimeDeserializer extends JSR310DateTimeDeserializerBase<Offse
             }
         }
         if (p.getCurrentToken() == JsonToken.VALUE_STRING) {
-            OffsetTime result = OffsetTime.of(hour, minute, second, partialSecond, ZoneOffset.of(p.getText()));
+            OffsetTime result = OffsetTime.of(hour, minute, second, partialSecond, ZoneIdCache.sharedInstance().zoneOffsetOf(p.getText()));
             if (p.nextToken() != JsonToken.END_ARRAY) {
                 _reportWrongToken(ctxt, JsonToken.END_ARRAY, "timezone");
             }
@@ -191,6 +196,12 @@ public class OffsetTimeDeserializer extends JSR310DateTimeDeserializerBase<Offse
             return _fromEmptyString(p, ctxt, string);
         }
         try {
+            if (_formatter == DEFAULT_FORMATTER) {
+                OffsetTime value = DateTimeInput.parseOffsetTime(string);
+                if (value != null) {
+                    return value;
+                }
+            }
             return OffsetTime.parse(string, _formatter);
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, e, string);
@@ -0,0 +1,162 @@
+package com.fasterxml.jackson.datatype.jsr310.deser;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.std.ContainerDeserializerBase;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.util.TimestampDeltas;
+
+/**
+ * Deserializer for Collections and arrays of {@link java.time.Instant}s and
+ * {@link java.time.LocalDate}s that may read values in compact, delta-encoded
+ * shape of {@code [base, delta1, delta2, ...]}, as written by
+ * {@link com.fasterxml.jackson.datatype.jsr310.ser.TimestampDeltasSerializer}
+ * (see that class for details on how delta encoding is enabled).
+ * Otherwise deserialization is delegated to the default deserializer.
+ *
+ * @since 2.20
+ */
+public class TimestampDeltasDeserializer extends DelegatingDeserializer
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final Class<?> _elementType;
+
+    /**
+     * Converter for elements, if delta encoding is enabled; {@code null} if not.
+     */
+    protected final TimestampDeltas _deltas;
+
+    /**
+     * Instantiator for Collections, if delta encoding is enabled for one;
+     * {@code null} for arrays.
+     */
+    protected final ValueInstantiator _valueInstantiator;
+
+    public TimestampDeltasDeserializer(JsonDeserializer<?> defaultDeserializer, Class<?> elementType)
+    {
+        super(defaultDeserializer);
+        _elementType = elementType;
+        _deltas = null;
+        _valueInstantiator = null;
+    }
+
+    protected TimestampDeltasDeserializer(TimestampDeltasDeserializer base, TimestampDeltas deltas,
+            ValueInstantiator valueInstantiator)
+    {
+        super(base._delegatee);
+        _elementType = base._elementType;
+        _deltas = deltas;
+        _valueInstantiator = valueInstantiator;
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new TimestampDeltasDeserializer(newDelegatee, _elementType);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+        throws JsonMappingException
+    {
+        JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        TimestampDeltas deltas = TimestampDeltas.forFormat(_elementType, format);
+        if (deltas == null) {
+            // no need to stay in between if not enabled
+            return ctxt.handleSecondaryContextualization(_delegatee, property,
+                    ctxt.constructType(_delegatee.handledType()));
+        }
+        ValueInstantiator inst = null;
+        if (!handledType().isArray()) {
+            if (_delegatee instanceof ContainerDeserializerBase<?>) {
+                inst = ((ContainerDeserializerBase<?>) _delegatee).getValueInstantiator();
+            }
+            if ((inst == null) || !inst.canCreateUsingDefault()) {
+                return ctxt.reportBadDefinition(ctxt.constructType(handledType()), String.format(
+                        "Cannot read delta-encoded values as %s: no default constructor",
+                        handledType().getName()));
+            }
+        }
+        return new TimestampDeltasDeserializer(this, deltas, inst);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
+    {
+        if (_deltas == null) {
+            return _delegatee.deserialize(p, ctxt);
+        }
+        if (!p.isExpectedStartArrayToken()) {
+            return ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        if (_valueInstantiator != null) {
+            return _deserializeContents(p, ctxt,
+                    (Collection<Object>) _valueInstantiator.createUsingDefault(ctxt));
+        }
+        return _toArray(_deserializeContents(p, ctxt, new ArrayList<>()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue)
+        throws IOException
+    {
+        if ((_deltas == null) || !p.isExpectedStartArrayToken()) {
+            return super.deserialize(p, ctxt, intoValue);
+        }
+        if (_valueInstantiator != null) {
+            return _deserializeContents(p, ctxt, (Collection<Object>) intoValue);
+        }
+        // like with default deserializer, values are appended to existing ones
+        return _toArray(_deserializeContents(p, ctxt,
+                new ArrayList<>(Arrays.asList((Object[]) intoValue))));
+    }
+
+    protected Collection<Object> _deserializeContents(JsonParser p, DeserializationContext ctxt,
+            Collection<Object> result) throws IOException
+    {
+        JsonToken t = p.nextToken();
+        long units = 0L;
+        for (boolean first = true; t != JsonToken.END_ARRAY; t = p.nextToken(), first = false) {
+            if (t != JsonToken.VALUE_NUMBER_INT) {
+                return ctxt.reportInputMismatch(this, "Unexpected token (%s), expected %s for delta-encoded %s",
+                        t, JsonToken.VALUE_NUMBER_INT, _elementType.getName());
+            }
+            final long value = p.getLongValue();
+            if (first) {
+                units = value;
+            } else {
+                try {
+                    units = Math.addExact(units, value);
+                } catch (ArithmeticException e) {
+                    return ctxt.reportInputMismatch(this,
+                            "Delta %d overflows timestamp of %s", value, _elementType.getName());
+                }
+            }
+            try {
+                result.add(_deltas.fromUnits(units));
+            } catch (DateTimeException e) {
+                result.add(ctxt.handleWeirdNumberValue(_elementType, units, e.getMessage()));
+            }
+        }
+        return result;
+    }
+
+    private Object[] _toArray(Collection<Object> elements) {
+        return elements.toArray((Object[]) Array.newInstance(_elementType, elements.size()));
+    }
+}
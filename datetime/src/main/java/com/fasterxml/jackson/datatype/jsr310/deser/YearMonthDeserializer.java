@@ -20,12 +20,15 @@ import java.io.IOException;
 import java.time.DateTimeException;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
 
 /**
  * Deserializer for Java 8 temporal {@link YearMonth}s.
@@ -70,11 +73,38 @@ public class YearMonthDeserializer extends JSR310DateTimeDeserializerBase<YearMo
         super(base, leniency, formatter, shape);
     }
 
+    /**
+     * @since 2.20
+     */
+    protected YearMonthDeserializer(YearMonthDeserializer base, boolean singleNumberShapes) {
+        super(base, singleNumberShapes);
+    }
+
+    /**
+     * @since 2.20
+     */
+    public YearMonthDeserializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        final boolean singleNumberShapes = features.isEnabled(JavaTimeFeature.USE_SINGLE_NUMBER_SHAPES);
+        if (singleNumberShapes == _singleNumberShapes) {
+            return this;
+        }
+        return new YearMonthDeserializer(this, singleNumberShapes);
+    }
+
     @Override
     protected YearMonthDeserializer withDateFormat(DateTimeFormatter dtf)  {
         return new YearMonthDeserializer(this, _isLenient, dtf, _shape);
     }
 
+    @Override // since 2.20
+    protected YearMonthDeserializer withShape(JsonFormat.Shape shape) {
+        // Shape only needs to be retained for single-number representation
+        if (!_singleNumberShapes) {
+            return this;
+        }
+        return new YearMonthDeserializer(this, _isLenient, _formatter, shape);
+    }
+
     @Override
     protected YearMonthDeserializer withLeniency(Boolean leniency) {
         return new YearMonthDeserializer(this, leniency);
@@ -125,11 +155,32 @@ public class YearMonthDeserializer extends JSR310DateTimeDeserializerBase<YearMo
             return YearMonth.of(year, month);
         } else if (p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
             return (YearMonth) p.getEmbeddedObject();
+        } else if (p.hasToken(JsonToken.VALUE_NUMBER_INT)
+                && (_useSingleNumberShape())) {
+            return _fromProlepticMonth(ctxt, p.getLongValue());
         }
         return _handleUnexpectedToken(ctxt, p,
                 JsonToken.VALUE_STRING, JsonToken.START_ARRAY);
     }
 
+    /**
+     * Helper method for constructing value from its single-number representation,
+     * used with {@link JsonFormat.Shape#NUMBER_INT}: proleptic month (see
+     * {@link ChronoField#PROLEPTIC_MONTH}).
+     *
+     * @since 2.20
+     */
+    protected YearMonth _fromProlepticMonth(DeserializationContext ctxt, long prolepticMonth) throws IOException
+    {
+        try {
+            ChronoField.PROLEPTIC_MONTH.checkValidValue(prolepticMonth);
+            return YearMonth.of((int) Math.floorDiv(prolepticMonth, 12L),
+                    (int) Math.floorMod(prolepticMonth, 12L) + 1);
+        } catch (DateTimeException e) {
+            return _handleDateTimeException(ctxt, e, String.valueOf(prolepticMonth));
+        }
+    }
+
     protected YearMonth _fromString(JsonParser p, DeserializationContext ctxt,
             String string0) throws IOException
     {
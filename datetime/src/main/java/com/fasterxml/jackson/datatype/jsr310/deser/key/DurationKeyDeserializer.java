@@ -5,6 +5,7 @@ import java.time.DateTimeException;
 import java.time.Duration;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class DurationKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,7 +18,8 @@ public class DurationKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected Duration deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return Duration.parse(key);
+            Duration value = DateTimeInput.parseDuration(key);
+            return _cached(key, (value != null) ? value : Duration.parse(key));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, Duration.class, e, key);
         }
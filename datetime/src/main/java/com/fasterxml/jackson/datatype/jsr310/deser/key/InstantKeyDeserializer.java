@@ -6,6 +6,7 @@ import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class InstantKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -18,7 +19,9 @@ public class InstantKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected Instant deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return DateTimeFormatter.ISO_INSTANT.parse(key, Instant::from);
+            // Fast parser also accepts zero offsets, which formatter may not (depending on JDK)
+            Instant value = key.endsWith("Z") ? DateTimeInput.parseInstant(key) : null;
+            return _cached(key, (value != null) ? value : DateTimeFormatter.ISO_INSTANT.parse(key, Instant::from));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, Instant.class, e, key);
         }
@@ -6,14 +6,30 @@ import java.time.DateTimeException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.util.LRUMap;
 
-abstract class Jsr310KeyDeserializer extends KeyDeserializer {
+abstract class Jsr310KeyDeserializer extends KeyDeserializer
+    implements Cloneable // since 2.20
+{
+    /**
+     * Optional bounded cache of values successfully deserialized from keys;
+     * {@code null} if caching is not enabled.
+     *
+     * @since 2.20
+     */
+    private LRUMap<String, Object> _cache;
 
     @SuppressWarnings("deprecation")
     @Override
     public final Object deserializeKey(String key, DeserializationContext ctxt)
         throws IOException
     {
+        if (_cache != null) {
+            Object value = _cache.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
         // 17-Aug-2019, tatu: I think this is wrong, actually, but since it has been this way
         //    throughout 2.x, can't just change. But with 3.0 will remove special handling.
         if (com.fasterxml.jackson.datatype.jsr310.ser.key.Jsr310NullKeySerializer.NULL_KEY.equals(key)) {
@@ -26,6 +42,65 @@ abstract class Jsr310KeyDeserializer extends KeyDeserializer {
     protected abstract Object deserialize(String key, DeserializationContext ctxt)
         throws IOException;
 
+    /**
+     * Fluent factory for creating a copy of this deserializer that caches up to
+     * given number of (least-recently used) values deserialized, by key:
+     * useful for Maps with small set of keys repeating across documents.
+     * Only values deserialized without problems are cached.
+     *
+     * @param maxEntries Maximum number of values to cache; if {@code 0} (or less),
+     *    this deserializer is returned as-is
+     *
+     * @since 2.20
+     */
+    public KeyDeserializer withCache(int maxEntries)
+    {
+        if (maxEntries <= 0) {
+            return this;
+        }
+        final Jsr310KeyDeserializer deser;
+        try {
+            deser = (Jsr310KeyDeserializer) clone();
+        } catch (CloneNotSupportedException e) { // should never occur
+            throw new IllegalStateException(e);
+        }
+        deser._cache = new LRUMap<>(Math.min(16, maxEntries), maxEntries);
+        return deser;
+    }
+
+    /**
+     * Helper method that subclasses call with values successfully deserialized,
+     * to cache them if caching is enabled.
+     *
+     * @since 2.20
+     */
+    protected <T> T _cached(String key, T value) {
+        if (_cache != null) {
+            _cache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Helper method for checking whether given key ends with offset in one of
+     * forms {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}
+     * accepts ({@code Z} or {@code +HH:MM}) and so may be passed to
+     * fast parsers.
+     *
+     * @since 2.20
+     */
+    static boolean _hasIsoOffset(String key) {
+        final int len = key.length();
+        if ((len > 0) && (key.charAt(len-1) == 'Z')) {
+            return true;
+        }
+        if ((len < 6) || (key.charAt(len-3) != ':')) {
+            return false;
+        }
+        final char sign = key.charAt(len-6);
+        return (sign == '+') || (sign == '-');
+    }
+
     @SuppressWarnings("unchecked")
     protected <T> T _handleDateTimeException(DeserializationContext ctxt,
               Class<?> type, DateTimeException e0, String value) throws IOException
@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class LocalDateKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -18,7 +19,8 @@ public class LocalDateKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected LocalDate deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return LocalDate.parse(key, DateTimeFormatter.ISO_LOCAL_DATE);
+            LocalDate value = DateTimeInput.parseLocalDate(key);
+            return _cached(key, (value != null) ? value : LocalDate.parse(key, DateTimeFormatter.ISO_LOCAL_DATE));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, LocalDate.class, e, key);
         }
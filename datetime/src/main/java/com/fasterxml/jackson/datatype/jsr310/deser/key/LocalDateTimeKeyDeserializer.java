@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class LocalDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -18,7 +19,9 @@ public class LocalDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected LocalDateTime deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return LocalDateTime.parse(key, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            LocalDateTime value = DateTimeInput.parseLocalDateTime(key);
+            return _cached(key, (value != null) ? value
+                    : LocalDateTime.parse(key, DateTimeFormatter.ISO_LOCAL_DATE_TIME));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, LocalDateTime.class, e, key);
         }
@@ -6,6 +6,7 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class LocalTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -18,7 +19,8 @@ public class LocalTimeKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected LocalTime deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return LocalTime.parse(key, DateTimeFormatter.ISO_LOCAL_TIME);
+            LocalTime value = DateTimeInput.parseLocalTime(key);
+            return _cached(key, (value != null) ? value : LocalTime.parse(key, DateTimeFormatter.ISO_LOCAL_TIME));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, LocalTime.class, e, key);
         }
@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class MonthDayKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -30,7 +31,8 @@ public class MonthDayKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected MonthDay deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return MonthDay.parse(key, PARSER);
+            MonthDay value = DateTimeInput.parseMonthDay(key);
+            return _cached(key, (value != null) ? value : MonthDay.parse(key, PARSER));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, MonthDay.class, e, key);
         }
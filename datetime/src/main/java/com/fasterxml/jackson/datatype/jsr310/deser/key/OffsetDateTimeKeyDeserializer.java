@@ -6,6 +6,7 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class OffsetDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -18,7 +19,10 @@ public class OffsetDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected OffsetDateTime deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return OffsetDateTime.parse(key, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            // Fast parser also accepts colon-less offsets, which formatter does not
+            OffsetDateTime value = _hasIsoOffset(key) ? DateTimeInput.parseOffsetDateTime(key) : null;
+            return _cached(key, (value != null) ? value
+                    : OffsetDateTime.parse(key, DateTimeFormatter.ISO_OFFSET_DATE_TIME));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, OffsetDateTime.class, e, key);
         }
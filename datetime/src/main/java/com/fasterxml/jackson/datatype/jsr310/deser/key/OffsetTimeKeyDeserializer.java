@@ -6,6 +6,7 @@ import java.time.OffsetTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class OffsetTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -18,7 +19,8 @@ public class OffsetTimeKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected OffsetTime deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return OffsetTime.parse(key, DateTimeFormatter.ISO_OFFSET_TIME);
+            OffsetTime value = DateTimeInput.parseOffsetTime(key);
+            return _cached(key, (value != null) ? value : OffsetTime.parse(key, DateTimeFormatter.ISO_OFFSET_TIME));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, OffsetTime.class, e, key);
         }
@@ -5,6 +5,7 @@ import java.time.DateTimeException;
 import java.time.Period;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class PeriodKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,7 +18,8 @@ public class PeriodKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected Period deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return Period.parse(key);
+            Period value = DateTimeInput.parsePeriod(key);
+            return _cached(key, (value != null) ? value : Period.parse(key));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, Period.class, e, key);
         }
@@ -18,7 +18,7 @@ public class YearKeyDeserializer extends Jsr310KeyDeserializer {
     protected Year deserialize(String key, DeserializationContext ctxt) throws IOException {
 
         try {
-            return Year.of(Integer.parseInt(key));
+            return _cached(key, Year.of(Integer.parseInt(key)));
         } catch (NumberFormatException nfe) {
             return _handleDateTimeException(ctxt, Year.class, new DateTimeException("Number format exception", nfe), key);
         } catch (DateTimeException dte) {
@@ -11,6 +11,7 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.SignStyle;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 /**
  * @since 2.10 (had a typo previously)
@@ -30,7 +31,8 @@ public class YearMonthKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected YearMonth deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return YearMonth.parse(key, FORMATTER);
+            YearMonth value = DateTimeInput.parseYearMonth(key);
+            return _cached(key, (value != null) ? value : YearMonth.parse(key, FORMATTER));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, YearMonth.class, e, key);
         }
@@ -5,6 +5,7 @@ import java.time.DateTimeException;
 import java.time.ZoneOffset;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdCache;
 
 public class ZoneOffsetKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,7 +18,7 @@ public class ZoneOffsetKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected ZoneOffset deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return ZoneOffset.of(key);
+            return _cached(key, ZoneIdCache.sharedInstance().zoneOffsetOf(key));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, ZoneOffset.class, e, key);
         }
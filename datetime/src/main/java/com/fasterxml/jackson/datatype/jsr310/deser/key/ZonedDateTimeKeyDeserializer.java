@@ -5,6 +5,7 @@ import java.time.DateTimeException;
 import java.time.ZonedDateTime;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeInput;
 
 public class ZonedDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -18,7 +19,9 @@ public class ZonedDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
     protected ZonedDateTime deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
             // Not supplying a formatter allows the use of all supported formats
-            return ZonedDateTime.parse(key);
+            // Fast parser also accepts colon-less offsets, which formatter does not
+            ZonedDateTime value = _hasIsoOffset(key) ? DateTimeInput.parseZonedDateTime(key) : null;
+            return _cached(key, (value != null) ? value : ZonedDateTime.parse(key));
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, ZonedDateTime.class, e, key);
         }
@@ -30,11 +30,11 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonIntegerFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
-import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
 import com.fasterxml.jackson.datatype.jsr310.util.DurationUnitConverter;
 
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 
@@ -58,9 +58,11 @@ public class DurationSerializer extends JSR310FormattedSerializerBase<Duration>
     /**
      * When defined (not {@code null}) duration values will be converted into integers
      * with the unit configured for the converter.
-     * Only available when {@link SerializationFeature#WRITE_DURATIONS_AS_TIMESTAMPS} is enabled
-     * and {@link SerializationFeature#WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS} is not enabled
-     * since the duration converters do not support fractions
+     * Only available when {@link SerializationFeature#WRITE_DURATIONS_AS_TIMESTAMPS} is enabled.
+     *<p>
+     * Since 2.20, with {@link JsonFormat.Shape#NUMBER_FLOAT} values are instead written
+     * as decimal numbers of units (like {@code 1.500000000} for {@code "SECONDS"}),
+     * for units up to {@code "SECONDS"}.
      * @since 2.12
      */
     private DurationUnitConverter _durationUnitConverter;
@@ -84,6 +86,14 @@ public class DurationSerializer extends JSR310FormattedSerializerBase<Duration>
         _durationUnitConverter = converter;
     }
 
+    /**
+     * @since 2.20
+     */
+    protected DurationSerializer(DurationSerializer base, TimestampPrecision precision) {
+        super(base, precision);
+        _durationUnitConverter = base._durationUnitConverter;
+    }
+
     @Override
     protected DurationSerializer withFormat(Boolean useTimestamp, DateTimeFormatter dtf, JsonFormat.Shape shape) {
         return new DurationSerializer(this, useTimestamp, dtf);
@@ -93,6 +103,11 @@ public class DurationSerializer extends JSR310FormattedSerializerBase<Duration>
         return new DurationSerializer(this, converter);
     }
 
+    @Override // since 2.20
+    protected DurationSerializer withPrecision(TimestampPrecision precision) {
+        return new DurationSerializer(this, precision);
+    }
+
     // @since 2.10
     @Override
     protected SerializationFeature getTimestampsFeature() {
@@ -107,11 +122,19 @@ public class DurationSerializer extends JSR310FormattedSerializerBase<Duration>
             final String pattern = format.getPattern();
             DurationUnitConverter p = DurationUnitConverter.from(pattern);
             if (p == null) {
+                // 2.20: may also be name of precision, handled by base class
+                if (TimestampPrecision.forPattern(pattern) != null) {
+                    return ser;
+                }
                 prov.reportBadDefinition(handledType(),
                         String.format(
                                 "Bad 'pattern' definition (\"%s\") for `Duration`: expected one of [%s]",
                                 pattern, DurationUnitConverter.descForAllowed()));
             }
+            // 2.20: decimal units, if requested and supported by unit
+            if ((format.getShape() == JsonFormat.Shape.NUMBER_FLOAT) && (p.withFractions() != null)) {
+                p = p.withFractions();
+            }
             ser = ser.withConverter(p);
         }
         return ser;
@@ -120,36 +143,72 @@ public class DurationSerializer extends JSR310FormattedSerializerBase<Duration>
     @Override
     public void serialize(Duration duration, JsonGenerator generator, SerializerProvider provider) throws IOException
     {
-        if (useTimestamp(provider)) {
+        final int settings = _settings(provider);
+        if ((settings & SETTING_TIMESTAMP) != 0) {
             // 03-Aug-2022, tatu: As per [modules-java8#224] need to consider
             //     Pattern first, and only then nano-seconds/millis difference
             if (_durationUnitConverter != null) {
-                generator.writeNumber(_durationUnitConverter.convert(duration));
-            } else if (useNanoseconds(provider)) {
-                generator.writeNumber(_toNanos(duration));
+                if (_durationUnitConverter.hasFractions()) {
+                    _durationUnitConverter.writeDecimal(generator, duration, false);
+                } else {
+                    generator.writeNumber(_durationUnitConverter.convert(duration));
+                }
+            } else if ((settings & SETTING_NANOSECONDS) != 0) {
+                _writeNanos(generator, duration);
             } else {
                 generator.writeNumber(duration.toMillis());
             }
         } else {
-            generator.writeString(duration.toString());
+            if (_truncates()) {
+                duration = _truncate(duration);
+            }
+            final char[] buffer = DateTimeOutput.buffer();
+            generator.writeString(buffer, 0, DateTimeOutput.appendDuration(buffer, 0, duration));
         }
     }
 
+    /**
+     * Helper method for truncating given value to precision specified:
+     * truncation is done towards zero, similar to how values are written as
+     * decimal timestamps.
+     *
+     * @since 2.20
+     */
+    protected Duration _truncate(Duration duration)
+    {
+        final long seconds = duration.getSeconds();
+        final int nanos = duration.getNano();
+        if ((seconds >= 0L) || (nanos == 0)) {
+            final int truncated = _truncateNanos(nanos);
+            return (truncated == nanos) ? duration : Duration.ofSeconds(seconds, truncated);
+        }
+        // Negative with fraction: truncate magnitude of the fraction
+        final int fraction = 1_000_000_000 - nanos;
+        final int truncated = _truncateNanos(fraction);
+        return (truncated == fraction) ? duration : Duration.ofSeconds(seconds + 1L, -truncated);
+    }
+
     // 20-Oct-2020, tatu: [modules-java8#165] Need to take care of
     //    negative values too, and without work-around values
     //    returned are wonky wrt conversions
-    private BigDecimal _toNanos(Duration duration) {
-        BigDecimal bd;
-        if (duration.isNegative()) {
-            duration = duration.abs();
-            bd = DecimalUtils.toBigDecimal(duration.getSeconds(),
-                    duration.getNano())
-                .negate();
+    private void _writeNanos(JsonGenerator g, Duration duration) throws IOException {
+        long seconds = duration.getSeconds();
+        int nanos = duration.getNano();
+        final boolean negative = (seconds < 0L);
+        if (negative) { // same as `duration.abs()`, including overflow check
+            if (nanos == 0) {
+                seconds = Math.negateExact(seconds);
+            } else {
+                seconds = -(seconds + 1L);
+                nanos = 1_000_000_000 - nanos;
+            }
+        }
+        if (_precision == null) {
+            DateTimeOutput.writeDecimal(g, seconds, nanos, negative);
         } else {
-            bd = DecimalUtils.toBigDecimal(duration.getSeconds(),
-                    duration.getNano());
+            DateTimeOutput.writeDecimal(g, seconds, _precision.truncate(nanos), negative,
+                    _precision.fractionDigits());
         }
-        return bd;
     }
 
     @Override
@@ -170,6 +229,10 @@ public class DurationSerializer extends JSR310FormattedSerializerBase<Duration>
     @Override // since 2.9
     protected JsonToken serializationShape(SerializerProvider provider) {
         if (useTimestamp(provider)) {
+            if (_durationUnitConverter != null) {
+                return _durationUnitConverter.hasFractions()
+                        ? JsonToken.VALUE_NUMBER_FLOAT : JsonToken.VALUE_NUMBER_INT;
+            }
             if (useNanoseconds(provider)) {
                 return JsonToken.VALUE_NUMBER_FLOAT;
             }
@@ -183,6 +246,15 @@ public class DurationSerializer extends JSR310FormattedSerializerBase<Duration>
         return new DurationSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
     }
 
+    // Names of units (like "SECONDS") retain their meaning as units to convert to
+    @Override // since 2.20
+    protected TimestampPrecision _findPrecision(JsonFormat.Value format) {
+        if (format.hasPattern() && (DurationUnitConverter.from(format.getPattern()) != null)) {
+            return null;
+        }
+        return super._findPrecision(format);
+    }
+
     @Override
     protected DateTimeFormatter _useDateTimeFormatter(SerializerProvider prov, JsonFormat.Value format) {
         return null;
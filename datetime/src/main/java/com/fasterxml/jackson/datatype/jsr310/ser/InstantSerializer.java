@@ -22,6 +22,10 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
+
 /**
  * Serializer for Java 8 temporal {@link Instant}s, {@link OffsetDateTime}, and {@link ZonedDateTime}s.
  *
@@ -59,6 +63,13 @@ public class InstantSerializer extends InstantSerializerBase<Instant>
         super(base, useTimestamp, useNanoseconds, formatter);
     }
 
+    /**
+     * @since 2.20
+     */
+    protected InstantSerializer(InstantSerializer base, TimestampPrecision precision) {
+        super(base, precision);
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<Instant> withFormat(Boolean useTimestamp,
             DateTimeFormatter formatter, JsonFormat.Shape shape) {
@@ -69,4 +80,20 @@ public class InstantSerializer extends InstantSerializerBase<Instant>
     protected JSR310FormattedSerializerBase<?> withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
         return new InstantSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
     }
+
+    @Override // since 2.20
+    protected InstantSerializer withPrecision(TimestampPrecision precision) {
+        return new InstantSerializer(this, precision);
+    }
+
+    @Override // since 2.20
+    protected int _formatDefault(Instant value, DateTimeFormatter defaultFormat,
+            SerializerProvider provider, char[] buffer)
+    {
+        // null default format means `value.toString()` is used
+        if (defaultFormat == null) {
+            return DateTimeOutput.appendInstant(buffer, 0, value.getEpochSecond(), value.getNano());
+        }
+        return -1;
+    }
 }
@@ -20,7 +20,9 @@ import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_WI
 
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
 import java.time.temporal.Temporal;
+import java.util.TimeZone;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 
@@ -37,7 +39,9 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrappe
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonIntegerFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonNumberFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
-import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdResolver;
 
 /**
  * Base class for serializers used for {@link java.time.Instant} and
@@ -47,6 +51,14 @@ import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
 public abstract class InstantSerializerBase<T extends Temporal>
     extends JSR310FormattedSerializerBase<T>
 {
+    /**
+     * Setting (see {@link #_settings}) that indicates that values are to be
+     * formatted using context time zone: same as {@link #_useContextTimeZone}.
+     *
+     * @since 2.20
+     */
+    protected final static int SETTING_CONTEXT_TIME_ZONE = 0x0004;
+
     private final DateTimeFormatter defaultFormat;
 
     private final ToLongFunction<T> getEpochMillis;
@@ -55,6 +67,14 @@ public abstract class InstantSerializerBase<T extends Temporal>
 
     private final ToIntFunction<T> getNanoseconds;
 
+    /**
+     * Formatter with context time zone most recently used by
+     * {@link #_zonedFormatter}, if any.
+     *
+     * @since 2.20
+     */
+    private transient volatile ZonedFormatter _lastZonedFormatter;
+
     protected InstantSerializerBase(Class<T> supportedType, ToLongFunction<T> getEpochMillis,
             ToLongFunction<T> getEpochSeconds, ToIntFunction<T> getNanoseconds,
             DateTimeFormatter defaultFormat)
@@ -92,6 +112,17 @@ public abstract class InstantSerializerBase<T extends Temporal>
         getNanoseconds = base.getNanoseconds;
     }
 
+    /**
+     * @since 2.20
+     */
+    protected InstantSerializerBase(InstantSerializerBase<T> base, TimestampPrecision precision) {
+        super(base, precision);
+        defaultFormat = base.defaultFormat;
+        getEpochMillis = base.getEpochMillis;
+        getEpochSeconds = base.getEpochSeconds;
+        getNanoseconds = base.getNanoseconds;
+    }
+
     @Override
     protected abstract JSR310FormattedSerializerBase<?> withFormat(
         Boolean useTimestamp,
@@ -100,26 +131,124 @@ public abstract class InstantSerializerBase<T extends Temporal>
     @Override
     public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException
     {
-        if (useTimestamp(provider)) {
-            if (useNanoseconds(provider)) {
-                generator.writeNumber(DecimalUtils.toBigDecimal(
-                        getEpochSeconds.applyAsLong(value), getNanoseconds.applyAsInt(value)
-                ));
+        final int settings = _settings(provider);
+        if ((settings & SETTING_TIMESTAMP) != 0) {
+            if (_useIntegerTimestamps()) {
+                generator.writeNumber(_precision.toTimestamp(getEpochSeconds.applyAsLong(value),
+                        getNanoseconds.applyAsInt(value)));
+                return;
+            }
+            if ((settings & SETTING_NANOSECONDS) != 0) {
+                if (_precision == null) {
+                    DateTimeOutput.writeDecimal(generator,
+                            getEpochSeconds.applyAsLong(value), getNanoseconds.applyAsInt(value), false);
+                } else {
+                    DateTimeOutput.writeDecimal(generator, getEpochSeconds.applyAsLong(value),
+                            _precision.truncate(getNanoseconds.applyAsInt(value)), false,
+                            _precision.fractionDigits());
+                }
                 return;
             }
             generator.writeNumber(getEpochMillis.applyAsLong(value));
             return;
         }
+        if (_truncates()) {
+            value = _truncate(value);
+        }
 
+        // Default format can usually be written without formatter
+        if (_formatter == null) {
+            final char[] buffer = DateTimeOutput.buffer();
+            final int end = _formatDefault(value, defaultFormat, provider, buffer);
+            if (end >= 0) {
+                generator.writeString(buffer, 0, end);
+                return;
+            }
+        }
         generator.writeString(formatValue(value, provider));
     }
 
+    /**
+     * @return Whether timestamps are to be written as integers in units of
+     *    precision (see {@link TimestampPrecision}): only if both precision and
+     *    {@link JsonFormat.Shape#NUMBER_INT} are specified
+     *
+     * @since 2.20
+     */
+    protected boolean _useIntegerTimestamps() {
+        return (_precision != null) && (_shape == JsonFormat.Shape.NUMBER_INT);
+    }
+
+    /**
+     * Method for truncating given value to precision specified for this
+     * serializer.
+     *
+     * @since 2.20
+     */
+    @SuppressWarnings("unchecked")
+    protected T _truncate(T value)
+    {
+        final int nanos = getNanoseconds.applyAsInt(value);
+        final int truncated = _truncateNanos(nanos);
+        if (truncated == nanos) {
+            return value;
+        }
+        return (T) value.with(ChronoField.NANO_OF_SECOND, truncated);
+    }
+
+    /**
+     * Method called to write value in default format (used when no format
+     * override is specified) into given buffer, without using
+     * {@link DateTimeFormatter}: output must be identical to that of
+     * {@link #formatValue}.
+     *
+     * @param value Value to write
+     * @param defaultFormat Default formatter of this serializer, if any
+     * @param provider Serialization context
+     * @param buffer Buffer to write to, with length of at least 100 characters
+     *
+     * @return Length of value written; or -1 if value was not written (and
+     *    {@link #formatValue} needs to be used instead)
+     *
+     * @since 2.20
+     */
+    protected int _formatDefault(T value, DateTimeFormatter defaultFormat,
+            SerializerProvider provider, char[] buffer)
+    {
+        return -1;
+    }
+
+    /**
+     * @return Whether context {@link java.util.TimeZone} is to be used for
+     *    formatting values with formatter that does not have a zone override
+     *
+     * @since 2.20
+     */
+    protected boolean _useContextTimeZone(SerializerProvider provider) {
+        return provider.getConfig().hasExplicitTimeZone() && provider.isEnabled(WRITE_DATES_WITH_CONTEXT_TIME_ZONE);
+    }
+
+    @Override // since 2.20
+    protected int _resolveSettings(SerializerProvider provider)
+    {
+        int settings = super._resolveSettings(provider);
+        if (_useContextTimeZone(provider)) {
+            settings |= SETTING_CONTEXT_TIME_ZONE;
+        }
+        return settings;
+    }
+
     // Overridden to ensure that our timestamp handling is as expected
     @Override
     protected void _acceptTimestampVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
         throws JsonMappingException
     {
-        if (useNanoseconds(visitor.getProvider())) {
+        if (_useIntegerTimestamps()) {
+            JsonIntegerFormatVisitor v2 = visitor.expectIntegerFormat(typeHint);
+            if (v2 != null) {
+                v2.numberType(NumberType.LONG);
+            }
+        } else if (useNanoseconds(visitor.getProvider())) {
             JsonNumberFormatVisitor v2 = visitor.expectNumberFormat(typeHint);
             if (v2 != null) {
                 v2.numberType(NumberType.BIG_DECIMAL);
@@ -136,7 +265,7 @@ public abstract class InstantSerializerBase<T extends Temporal>
     @Override // since 2.9
     protected JsonToken serializationShape(SerializerProvider provider) {
         if (useTimestamp(provider)) {
-            if (useNanoseconds(provider)) {
+            if (useNanoseconds(provider) && !_useIntegerTimestamps()) {
                 return JsonToken.VALUE_NUMBER_FLOAT;
             }
             return JsonToken.VALUE_NUMBER_INT;
@@ -144,6 +273,28 @@ public abstract class InstantSerializerBase<T extends Temporal>
         return JsonToken.VALUE_STRING;
     }
 
+    /**
+     * Helper method for finding formatter to use for formatting values with
+     * context {@link TimeZone}: since both formatter and time zone are
+     * usually same for all values, the most recently resolved formatter is
+     * retained and reused.
+     *
+     * @since 2.20
+     */
+    protected DateTimeFormatter _zonedFormatter(DateTimeFormatter formatter, TimeZone timeZone)
+    {
+        // TimeZones are mutable, but conversion only depends on id
+        final String id = timeZone.getID();
+        ZonedFormatter zoned = _lastZonedFormatter;
+        if ((zoned == null) || (zoned._formatter != formatter)
+                || (zoned._timeZone != timeZone) || !zoned._id.equals(id)) {
+            zoned = new ZonedFormatter(formatter, timeZone, id,
+                    formatter.withZone(ZoneIdResolver.zoneIdOf(timeZone)));
+            _lastZonedFormatter = zoned;
+        }
+        return zoned._zoned;
+    }
+
     // @since 2.12
     protected String formatValue(T value, SerializerProvider provider)
     {
@@ -152,8 +303,8 @@ public abstract class InstantSerializerBase<T extends Temporal>
             if (formatter.getZone() == null) { // timezone set if annotated on property
                 // If the user specified to use the context TimeZone explicitly, and the formatter provided doesn't contain a TZ
                 // Then we use the TZ specified in the objectMapper
-                if (provider.getConfig().hasExplicitTimeZone() && provider.isEnabled(WRITE_DATES_WITH_CONTEXT_TIME_ZONE)) {
-                    formatter = formatter.withZone(provider.getTimeZone().toZoneId());
+                if ((_settings(provider) & SETTING_CONTEXT_TIME_ZONE) != 0) {
+                    formatter = _zonedFormatter(formatter, provider.getTimeZone());
                 }
             }
             return formatter.format(value);
@@ -161,4 +312,20 @@ public abstract class InstantSerializerBase<T extends Temporal>
 
         return value.toString();
     }
+
+    private final static class ZonedFormatter
+    {
+        final DateTimeFormatter _formatter;
+        final TimeZone _timeZone;
+        final String _id;
+        final DateTimeFormatter _zoned;
+
+        ZonedFormatter(DateTimeFormatter formatter, TimeZone timeZone, String id,
+                DateTimeFormatter zoned) {
+            _formatter = formatter;
+            _timeZone = timeZone;
+            _id = id;
+            _zoned = zoned;
+        }
+    }
 }
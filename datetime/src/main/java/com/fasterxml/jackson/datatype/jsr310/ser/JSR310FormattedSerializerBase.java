@@ -17,13 +17,17 @@
 package com.fasterxml.jackson.datatype.jsr310.ser;
 
 import java.lang.reflect.Type;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
 import java.util.List;
 import java.util.Locale;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
+
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonArrayFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatTypes;
@@ -31,6 +35,11 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrappe
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonStringFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.CompiledDateTimePattern;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeFormatterCache;
+import com.fasterxml.jackson.datatype.jsr310.util.ResolvedSettings;
 
 /**
  * Base class that provides an array schema instead of scalar schema if
@@ -45,6 +54,22 @@ abstract class JSR310FormattedSerializerBase<T>
 {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Setting (see {@link #_settings}) that indicates that values are to be
+     * written as numeric "timestamps": same as {@link #useTimestamp}.
+     *
+     * @since 2.20
+     */
+    protected final static int SETTING_TIMESTAMP = 0x0001;
+
+    /**
+     * Setting (see {@link #_settings}) that indicates that timestamps are to
+     * be written with nanosecond precision: same as {@link #useNanoseconds}.
+     *
+     * @since 2.20
+     */
+    protected final static int SETTING_NANOSECONDS = 0x0002;
+
     /**
      * Flag that indicates that serialization must be done as the
      * Java timestamp, regardless of other settings.
@@ -67,6 +92,31 @@ abstract class JSR310FormattedSerializerBase<T>
 
     protected final JsonFormat.Shape _shape;
 
+    /**
+     * Specialized formatter for {@link #_formatter}, if it was built from a pattern
+     * that could be compiled (see {@link CompiledDateTimePattern}); {@code null} if not.
+     *
+     * @since 2.20
+     */
+    protected final CompiledDateTimePattern _compiledPattern;
+
+    /**
+     * Precision to write values with, if specified; {@code null} if not
+     * (in which case full precision is used)
+     *
+     * @since 2.20
+     */
+    protected final TimestampPrecision _precision;
+
+    /**
+     * Whether {@link JsonFormat.Shape#NUMBER_INT} is to be written as a single
+     * number by types that support it (see {@link JavaTimeFeature#USE_SINGLE_NUMBER_SHAPES})
+     * instead of as an array.
+     *
+     * @since 2.20
+     */
+    protected final boolean _singleNumberShapes;
+
     /**
      * Lazily constructed {@code JavaType} representing type
      * {@code List<Integer>}.
@@ -74,6 +124,15 @@ abstract class JSR310FormattedSerializerBase<T>
      * @since 2.10
      */
     protected transient volatile JavaType _integerListType;
+
+    /**
+     * Settings resolved (see {@link #_resolveSettings}) for the most recently
+     * used configuration, packed along with configuration inputs they were
+     * resolved from (see {@link ResolvedSettings}).
+     *
+     * @since 2.20
+     */
+    private transient volatile long _resolvedSettings = ResolvedSettings.NONE;
     
     protected JSR310FormattedSerializerBase(Class<T> supportedType) {
         this(supportedType, null);
@@ -86,6 +145,9 @@ abstract class JSR310FormattedSerializerBase<T>
         _useNanoseconds = null;
         _shape = null;
         _formatter = formatter;
+        _compiledPattern = null;
+        _precision = null;
+        _singleNumberShapes = false;
     }
     
     protected JSR310FormattedSerializerBase(JSR310FormattedSerializerBase<?> base,
@@ -103,11 +165,106 @@ abstract class JSR310FormattedSerializerBase<T>
         _useNanoseconds = useNanoseconds;
         _formatter = dtf;
         _shape = shape;
+        _compiledPattern = (dtf == base._formatter) ? base._compiledPattern : null;
+        _precision = base._precision;
+        _singleNumberShapes = base._singleNumberShapes;
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected JSR310FormattedSerializerBase(JSR310FormattedSerializerBase<?> base,
+            CompiledDateTimePattern compiledPattern)
+    {
+        super(base.handledType());
+        _useTimestamp = base._useTimestamp;
+        _useNanoseconds = base._useNanoseconds;
+        _formatter = base._formatter;
+        _shape = base._shape;
+        _compiledPattern = compiledPattern;
+        _precision = base._precision;
+        _singleNumberShapes = base._singleNumberShapes;
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected JSR310FormattedSerializerBase(JSR310FormattedSerializerBase<?> base,
+            TimestampPrecision precision)
+    {
+        super(base.handledType());
+        _useTimestamp = base._useTimestamp;
+        _useNanoseconds = base._useNanoseconds;
+        _formatter = base._formatter;
+        _shape = base._shape;
+        _compiledPattern = base._compiledPattern;
+        _precision = precision;
+        _singleNumberShapes = base._singleNumberShapes;
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected JSR310FormattedSerializerBase(JSR310FormattedSerializerBase<?> base,
+            boolean singleNumberShapes)
+    {
+        super(base.handledType());
+        _useTimestamp = base._useTimestamp;
+        _useNanoseconds = base._useNanoseconds;
+        _formatter = base._formatter;
+        _shape = base._shape;
+        _compiledPattern = base._compiledPattern;
+        _precision = base._precision;
+        _singleNumberShapes = singleNumberShapes;
     }
 
     protected abstract JSR310FormattedSerializerBase<?> withFormat(Boolean useTimestamp,
             DateTimeFormatter dtf, JsonFormat.Shape shape);
 
+    /**
+     * Method for constructing serializer that writes values with given precision:
+     * sub-classes that support precision (see {@link TimestampPrecision}) need
+     * to override.
+     *
+     * @since 2.20
+     */
+    protected JSR310FormattedSerializerBase<?> withPrecision(TimestampPrecision precision) {
+        return this;
+    }
+
+    /**
+     * Method for constructing serializer that writes values with
+     * {@link JsonFormat.Shape#NUMBER_INT} as a single number (see
+     * {@link JavaTimeFeature#USE_SINGLE_NUMBER_SHAPES}): sub-classes that
+     * support such representation need to override.
+     *
+     * @since 2.20
+     */
+    protected JSR310FormattedSerializerBase<?> withSingleNumberShapes(boolean singleNumberShapes) {
+        return this;
+    }
+
+    /**
+     * Method for constructing serializer configured with given module features
+     * (currently {@link JavaTimeFeature#WRITE_SHORTEST_TIMESTAMP_FRACTIONS}
+     * and {@link JavaTimeFeature#USE_SINGLE_NUMBER_SHAPES} are relevant).
+     *
+     * @since 2.20
+     */
+    @SuppressWarnings("unchecked")
+    public JSR310FormattedSerializerBase<T> withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        JSR310FormattedSerializerBase<?> ser = this;
+        final boolean singleNumberShapes = features.isEnabled(JavaTimeFeature.USE_SINGLE_NUMBER_SHAPES);
+        if (singleNumberShapes != _singleNumberShapes) {
+            ser = ser.withSingleNumberShapes(singleNumberShapes);
+        }
+        if ((_precision == null)
+                && features.isEnabled(JavaTimeFeature.WRITE_SHORTEST_TIMESTAMP_FRACTIONS)) {
+            ser = ser.withPrecision(TimestampPrecision.SHORTEST);
+        }
+        return (JSR310FormattedSerializerBase<T>) ser;
+    }
+
     /**
      * @since 2.8
      */
@@ -125,6 +282,17 @@ abstract class JSR310FormattedSerializerBase<T>
         return this;
     }
 
+    /**
+     * Mutant factory for attaching a specialized formatter for the current
+     * (pattern-based) formatter. The default implementation returns this,
+     * as compiled patterns are only used for types that support them.
+     *
+     * @since 2.20
+     */
+    protected JSR310FormattedSerializerBase<?> withCompiledPattern(CompiledDateTimePattern compiledPattern) {
+        return this;
+    }
+
     @Override
     public JsonSerializer<?> createContextual(SerializerProvider prov,
             BeanProperty property) throws JsonMappingException
@@ -142,24 +310,66 @@ abstract class JSR310FormattedSerializerBase<T>
             }
             DateTimeFormatter dtf = _formatter;
 
-            // If not, do we have a pattern?
-            if (format.hasPattern()) {
+            // If not, do we have a pattern? (either precision, or for formatter)
+            final TimestampPrecision precision = _findPrecision(format);
+            if (format.hasPattern() && (precision == null)) {
                 dtf = _useDateTimeFormatter(prov, format);
             }
             JSR310FormattedSerializerBase<?> ser = this;
             if ((shape != _shape) || (useTimestamp != _useTimestamp) || (dtf != _formatter)) {
                 ser = ser.withFormat(useTimestamp, dtf, shape);
+                // Fixed-width numeric patterns can use specialized formatter
+                if (format.hasPattern() && (dtf != _formatter)) {
+                    CompiledDateTimePattern compiled = CompiledDateTimePattern.compile(format.getPattern());
+                    if (compiled != null) {
+                        ser = ser.withCompiledPattern(compiled);
+                    }
+                }
             }
             Boolean writeZoneId = format.getFeature(JsonFormat.Feature.WRITE_DATES_WITH_ZONE_ID);
             Boolean writeNanoseconds = format.getFeature(JsonFormat.Feature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS);
             if ((writeZoneId != null) || (writeNanoseconds != null)) {
                 ser = ser.withFeatures(writeZoneId, writeNanoseconds);
             }
+            if ((precision != null) && (precision != ser._precision)) {
+                ser = ser.withPrecision(precision);
+            }
             return ser;
         }
         return this;
     }
 
+    /**
+     * Helper method for finding precision (see {@link TimestampPrecision})
+     * specified as format pattern, if any.
+     *
+     * @return Precision specified, if any; {@code null} if none
+     *
+     * @since 2.20
+     */
+    protected TimestampPrecision _findPrecision(JsonFormat.Value format) {
+        return format.hasPattern() ? TimestampPrecision.forPattern(format.getPattern()) : null;
+    }
+
+    /**
+     * Helper method for truncating nanoseconds of values to precision specified
+     * (if any).
+     *
+     * @since 2.20
+     */
+    protected int _truncateNanos(int nanoseconds) {
+        return (_precision == null) ? nanoseconds : _precision.truncate(nanoseconds);
+    }
+
+    /**
+     * @return Whether values may need to be truncated to precision specified
+     *
+     * @since 2.20
+     */
+    protected boolean _truncates() {
+        return (_precision != null) && _precision.truncates();
+    }
+
     /**
      * @deprecated Since 2.15
      */
@@ -219,6 +429,61 @@ abstract class JSR310FormattedSerializerBase<T>
         return SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
     }
 
+    /**
+     * Method for accessing settings (bit flags, like {@link #SETTING_TIMESTAMP})
+     * this serializer uses with configuration of given provider. Since these
+     * only depend on enabled {@link SerializationFeature}s and whether time zone
+     * has been explicitly set (and settings of this serializer), they are
+     * resolved once for these (see {@link #_resolveSettings}) and reused for
+     * subsequent values.
+     *
+     * @since 2.20
+     */
+    protected final int _settings(SerializerProvider provider)
+    {
+        final SerializationConfig config = provider.getConfig();
+        final long key = ResolvedSettings.key(config.getSerializationFeatures(),
+                config.hasExplicitTimeZone());
+        long settings = _resolvedSettings;
+        if (!ResolvedSettings.isFor(settings, key)) {
+            settings = ResolvedSettings.pack(key, _resolveSettings(provider));
+            _resolvedSettings = settings;
+        }
+        return ResolvedSettings.flags(settings);
+    }
+
+    /**
+     * Method called to resolve settings (see {@link #_settings}) for
+     * configuration of given provider: sub-classes that need additional
+     * settings should override and add to settings base implementation returns.
+     * Settings may only depend on enabled {@link SerializationFeature}s and
+     * {@link SerializationConfig#hasExplicitTimeZone()}.
+     *
+     * @since 2.20
+     */
+    protected int _resolveSettings(SerializerProvider provider)
+    {
+        int settings = 0;
+        if (useTimestamp(provider)) {
+            settings |= SETTING_TIMESTAMP;
+        }
+        if (useNanoseconds(provider)) {
+            settings |= SETTING_NANOSECONDS;
+        }
+        return settings;
+    }
+
+    /**
+     * Helper method for checking whether values are to be written as a single
+     * number (see {@link JavaTimeFeature#USE_SINGLE_NUMBER_SHAPES}) when written
+     * as timestamps.
+     *
+     * @since 2.20
+     */
+    protected boolean _useSingleNumberShape() {
+        return _singleNumberShapes && (_shape == JsonFormat.Shape.NUMBER_INT);
+    }
+
     protected boolean useTimestamp(SerializerProvider ctxt) {
         if (_useTimestamp != null) {
             return _useTimestamp.booleanValue();
@@ -266,19 +531,13 @@ abstract class JSR310FormattedSerializerBase<T>
 
     // modules-java8#189: to be overridden by other formatters using this as base class
     protected DateTimeFormatter _useDateTimeFormatter(SerializerProvider prov, JsonFormat.Value format) {
-        DateTimeFormatter dtf;
-        final String pattern = format.getPattern();
         final Locale locale = format.hasLocale() ? format.getLocale() : prov.getLocale();
-        if (locale == null) {
-            dtf = DateTimeFormatter.ofPattern(pattern);
-        } else {
-            dtf = DateTimeFormatter.ofPattern(pattern, locale);
-        }
         //Issue #69: For instant serializers/deserializers we need to configure the formatter with
         //a time zone picked up from JsonFormat annotation, otherwise serialization might not work
-        if (format.hasTimeZone()) {
-            dtf = dtf.withZone(format.getTimeZone().toZoneId());
-        }
+        final ZoneId zone = format.hasTimeZone() ? format.getTimeZone().toZoneId() : null;
+        // Formatters are immutable so ones for identical settings may be shared
+        DateTimeFormatter dtf = DateTimeFormatterCache.sharedInstance().findOrCreate(format.getPattern(),
+                locale, zone, ResolverStyle.SMART, false);
         return dtf;
     }
 }
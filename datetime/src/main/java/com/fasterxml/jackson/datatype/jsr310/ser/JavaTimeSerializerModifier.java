@@ -7,6 +7,9 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.datatype.jsr310.util.TimestampDeltas;
 
 /**
  * @since 2.17
@@ -27,4 +30,21 @@ public class JavaTimeSerializerModifier extends BeanSerializerModifier {
         }
         return serializer;
     }
+
+    // @since 2.20: delta-encoded shape for Collections and arrays, if enabled
+    @Override
+    public JsonSerializer<?> modifyCollectionSerializer(SerializationConfig config, CollectionType valueType, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        if (TimestampDeltas.isSupported(valueType.getContentType().getRawClass())) {
+            return new TimestampDeltasSerializer(serializer, valueType);
+        }
+        return serializer;
+    }
+
+    @Override
+    public JsonSerializer<?> modifyArraySerializer(SerializationConfig config, ArrayType valueType, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        if (TimestampDeltas.isSupported(valueType.getContentType().getRawClass())) {
+            return new TimestampDeltasSerializer(serializer, valueType);
+        }
+        return serializer;
+    }
 }
@@ -29,6 +29,8 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrappe
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonStringFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.util.CompiledDateTimePattern;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
 
 /**
  * Serializer for Java 8 temporal {@link LocalDate}s.
@@ -55,6 +57,18 @@ public class LocalDateSerializer extends JSR310FormattedSerializerBase<LocalDate
         super(LocalDate.class, formatter);
     }
 
+    /**
+     * @since 2.20
+     */
+    protected LocalDateSerializer(LocalDateSerializer base, CompiledDateTimePattern compiledPattern) {
+        super(base, compiledPattern);
+    }
+
+    @Override
+    protected LocalDateSerializer withCompiledPattern(CompiledDateTimePattern compiledPattern) {
+        return new LocalDateSerializer(this, compiledPattern);
+    }
+
     @Override
     protected LocalDateSerializer withFormat(Boolean useTimestamp, DateTimeFormatter dtf, JsonFormat.Shape shape) {
         return new LocalDateSerializer(this, useTimestamp, dtf, shape);
@@ -63,16 +77,15 @@ public class LocalDateSerializer extends JSR310FormattedSerializerBase<LocalDate
     @Override
     public void serialize(LocalDate date, JsonGenerator g, SerializerProvider provider) throws IOException
     {
-        if (useTimestamp(provider)) {
+        if ((_settings(provider) & SETTING_TIMESTAMP) != 0) {
             if (_shape == JsonFormat.Shape.NUMBER_INT) {
                 g.writeNumber(date.toEpochDay());
             } else {
-                g.writeStartArray();
-                _serializeAsArrayContents(date, g, provider);
-                g.writeEndArray();
+                final int[] components = DateTimeOutput.intBuffer();
+                g.writeArray(components, 0, _arrayComponents(date, provider, components));
             }
         } else {
-            g.writeString((_formatter == null) ? date.toString() : date.format(_formatter));
+            _serializeAsString(date, g);
         }
     }
 
@@ -89,17 +102,57 @@ public class LocalDateSerializer extends JSR310FormattedSerializerBase<LocalDate
         } else if (shape == JsonToken.VALUE_NUMBER_INT) {
             g.writeNumber(value.toEpochDay());
         } else {
-            g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
+            _serializeAsString(value, g);
         }
         typeSer.writeTypeSuffix(g, typeIdDef);
     }
 
+    private final void _serializeAsString(LocalDate value, JsonGenerator g) throws IOException
+    {
+        if ((_formatter == null) || (_formatter == DateTimeFormatter.ISO_LOCAL_DATE)) {
+            final char[] buffer = DateTimeOutput.buffer();
+            int end = DateTimeOutput.appendLocalDate(buffer, 0, value);
+            if (end >= 0) {
+                g.writeString(buffer, 0, end);
+            } else {
+                g.writeString(value.toString());
+            }
+            return;
+        }
+        if (_compiledPattern != null) {
+            char[] buffer = DateTimeOutput.buffer(_compiledPattern.length());
+            int end = _compiledPattern.formatLocalDate(value, buffer, 0);
+            if (end >= 0) {
+                g.writeString(buffer, 0, end);
+                return;
+            }
+        }
+        g.writeString(value.format(_formatter));
+    }
+
     protected void _serializeAsArrayContents(LocalDate value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
-        g.writeNumber(value.getYear());
-        g.writeNumber(value.getMonthValue());
-        g.writeNumber(value.getDayOfMonth());
+        final int[] components = DateTimeOutput.intBuffer();
+        for (int i = 0, end = _arrayComponents(value, provider, components); i < end; ++i) {
+            g.writeNumber(components[i]);
+        }
+    }
+
+    /**
+     * Helper method for extracting components of array ("timestamp")
+     * representation of given value into given array.
+     *
+     * @return Number of components extracted
+     *
+     * @since 2.20
+     */
+    protected int _arrayComponents(LocalDate value, SerializerProvider provider, int[] components)
+    {
+        components[0] = value.getYear();
+        components[1] = value.getMonthValue();
+        components[2] = value.getDayOfMonth();
+        return 3;
     }
 
     @Override
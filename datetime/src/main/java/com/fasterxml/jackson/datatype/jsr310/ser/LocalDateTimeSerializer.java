@@ -18,6 +18,7 @@ package com.fasterxml.jackson.datatype.jsr310.ser;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 
@@ -27,6 +28,9 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.WritableTypeId;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.CompiledDateTimePattern;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
 
 /**
  * Serializer for Java 8 temporal {@link LocalDateTime}s.
@@ -50,12 +54,58 @@ public class LocalDateTimeSerializer extends JSR310FormattedSerializerBase<Local
 
     // protected in 2.14 (from private)
     protected LocalDateTimeSerializer(LocalDateTimeSerializer base, Boolean useTimestamp, Boolean useNanoseconds, DateTimeFormatter f) {
-        super(base, useTimestamp, useNanoseconds, f, null);
+        super(base, useTimestamp, useNanoseconds, f, base._singleNumberShapes ? base._shape : null);
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected LocalDateTimeSerializer(LocalDateTimeSerializer base, Boolean useTimestamp, Boolean useNanoseconds,
+            DateTimeFormatter f, JsonFormat.Shape shape) {
+        super(base, useTimestamp, useNanoseconds, f, shape);
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected LocalDateTimeSerializer(LocalDateTimeSerializer base, CompiledDateTimePattern compiledPattern) {
+        super(base, compiledPattern);
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected LocalDateTimeSerializer(LocalDateTimeSerializer base, TimestampPrecision precision) {
+        super(base, precision);
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected LocalDateTimeSerializer(LocalDateTimeSerializer base, boolean singleNumberShapes) {
+        super(base, singleNumberShapes);
+    }
+
+    @Override
+    protected LocalDateTimeSerializer withCompiledPattern(CompiledDateTimePattern compiledPattern) {
+        return new LocalDateTimeSerializer(this, compiledPattern);
+    }
+
+    @Override // since 2.20
+    protected LocalDateTimeSerializer withPrecision(TimestampPrecision precision) {
+        return new LocalDateTimeSerializer(this, precision);
+    }
+
+    @Override // since 2.20
+    protected LocalDateTimeSerializer withSingleNumberShapes(boolean singleNumberShapes) {
+        return new LocalDateTimeSerializer(this, singleNumberShapes);
     }
 
     @Override
     protected JSR310FormattedSerializerBase<LocalDateTime> withFormat(Boolean useTimestamp, DateTimeFormatter f, JsonFormat.Shape shape) {
-        return new LocalDateTimeSerializer(this, useTimestamp, _useNanoseconds, f);
+        // Shape only needs to be retained for single-number representation
+        return new LocalDateTimeSerializer(this, useTimestamp, _useNanoseconds, f,
+                _singleNumberShapes ? shape : null);
     }
 
     protected DateTimeFormatter _defaultFormatter() {
@@ -66,16 +116,16 @@ public class LocalDateTimeSerializer extends JSR310FormattedSerializerBase<Local
     public void serialize(LocalDateTime value, JsonGenerator g, SerializerProvider provider)
         throws IOException
     {
-        if (useTimestamp(provider)) {
-            g.writeStartArray();
-            _serializeAsArrayContents(value, g, provider);
-            g.writeEndArray();
-        } else {
-            DateTimeFormatter dtf = _formatter;
-            if (dtf == null) {
-                dtf = _defaultFormatter();
+        if ((_settings(provider) & SETTING_TIMESTAMP) != 0) {
+            // 2.20: epoch seconds in UTC, if explicitly requested
+            if (_useSingleNumberShape()) {
+                g.writeNumber(value.toEpochSecond(ZoneOffset.UTC));
+                return;
             }
-            g.writeString(value.format(dtf));
+            final int[] components = DateTimeOutput.intBuffer();
+            g.writeArray(components, 0, _arrayComponents(value, provider, components));
+        } else {
+            _serializeAsString(value, g);
         }
     }
 
@@ -86,43 +136,96 @@ public class LocalDateTimeSerializer extends JSR310FormattedSerializerBase<Local
         WritableTypeId typeIdDef = typeSer.writeTypePrefix(g,
                 typeSer.typeId(value, serializationShape(provider)));
         // need to write out to avoid double-writing array markers
-        if ((typeIdDef != null) && typeIdDef.valueShape == JsonToken.START_ARRAY) {
+        JsonToken shape = (typeIdDef == null) ? null : typeIdDef.valueShape;
+        if (shape == JsonToken.START_ARRAY) {
             _serializeAsArrayContents(value, g, provider);
+        } else if (shape == JsonToken.VALUE_NUMBER_INT) {
+            g.writeNumber(value.toEpochSecond(ZoneOffset.UTC));
         } else {
-            DateTimeFormatter dtf = _formatter;
-            if (dtf == null) {
-                dtf = _defaultFormatter();
-            }
-            g.writeString(value.format(dtf));
+            _serializeAsString(value, g);
         }
         typeSer.writeTypeSuffix(g, typeIdDef);
     }
 
+    private final void _serializeAsString(LocalDateTime value, JsonGenerator g) throws IOException
+    {
+        if (_truncates()) {
+            value = value.withNano(_truncateNanos(value.getNano()));
+        }
+        if (_compiledPattern != null) {
+            char[] buffer = DateTimeOutput.buffer(_compiledPattern.length());
+            int end = _compiledPattern.formatLocalDateTime(value, buffer, 0);
+            if (end >= 0) {
+                g.writeString(buffer, 0, end);
+                return;
+            }
+        }
+        DateTimeFormatter dtf = _formatter;
+        if (dtf == null) {
+            dtf = _defaultFormatter();
+        }
+        if (dtf == DateTimeFormatter.ISO_LOCAL_DATE_TIME) {
+            final char[] buffer = DateTimeOutput.buffer();
+            int end = DateTimeOutput.appendLocalDateTime(buffer, 0, value);
+            if (end >= 0) {
+                g.writeString(buffer, 0, end);
+                return;
+            }
+        }
+        g.writeString(value.format(dtf));
+    }
+
     private final void _serializeAsArrayContents(LocalDateTime value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
-        g.writeNumber(value.getYear());
-        g.writeNumber(value.getMonthValue());
-        g.writeNumber(value.getDayOfMonth());
-        g.writeNumber(value.getHour());
-        g.writeNumber(value.getMinute());
+        final int[] components = DateTimeOutput.intBuffer();
+        for (int i = 0, end = _arrayComponents(value, provider, components); i < end; ++i) {
+            g.writeNumber(components[i]);
+        }
+    }
+
+    /**
+     * Helper method for extracting components of array ("timestamp")
+     * representation of given value into given array.
+     *
+     * @return Number of components extracted
+     */
+    private int _arrayComponents(LocalDateTime value, SerializerProvider provider, int[] components)
+    {
+        if (_truncates()) {
+            value = value.withNano(_truncateNanos(value.getNano()));
+        }
+        components[0] = value.getYear();
+        components[1] = value.getMonthValue();
+        components[2] = value.getDayOfMonth();
+        components[3] = value.getHour();
+        components[4] = value.getMinute();
         final int secs = value.getSecond();
         final int nanos = value.getNano();
         if ((secs > 0) || (nanos > 0)) {
-            g.writeNumber(secs);
+            components[5] = secs;
             if (nanos > 0) {
-                if (useNanoseconds(provider)) {
-                    g.writeNumber(nanos);
+                if ((_settings(provider) & SETTING_NANOSECONDS) != 0) {
+                    components[6] = nanos;
                 } else {
-                    g.writeNumber(value.get(ChronoField.MILLI_OF_SECOND));
+                    components[6] = value.get(ChronoField.MILLI_OF_SECOND);
                 }
+                return 7;
             }
+            return 6;
         }
+        return 5;
     }
 
     @Override // since 2.9
     protected JsonToken serializationShape(SerializerProvider provider) {
-        return useTimestamp(provider) ? JsonToken.START_ARRAY : JsonToken.VALUE_STRING;
+        if (useTimestamp(provider)) {
+            if (_useSingleNumberShape()) {
+                return JsonToken.VALUE_NUMBER_INT;
+            }
+            return JsonToken.START_ARRAY;
+        }
+        return JsonToken.VALUE_STRING;
     }
 
     @Override
@@ -32,6 +32,9 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrappe
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonStringFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.CompiledDateTimePattern;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
 /**
  * Serializer for Java 8 temporal {@link LocalTime}s.
  *
@@ -57,12 +60,57 @@ public class LocalTimeSerializer extends JSR310FormattedSerializerBase<LocalTime
     }
 
     protected LocalTimeSerializer(LocalTimeSerializer base, Boolean useTimestamp, Boolean useNanoseconds, DateTimeFormatter formatter) {
-        super(base, useTimestamp, useNanoseconds, formatter, null);
+        super(base, useTimestamp, useNanoseconds, formatter, base._singleNumberShapes ? base._shape : null);
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected LocalTimeSerializer(LocalTimeSerializer base, Boolean useTimestamp, DateTimeFormatter formatter,
+            JsonFormat.Shape shape) {
+        super(base, useTimestamp, formatter, shape);
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected LocalTimeSerializer(LocalTimeSerializer base, CompiledDateTimePattern compiledPattern) {
+        super(base, compiledPattern);
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected LocalTimeSerializer(LocalTimeSerializer base, TimestampPrecision precision) {
+        super(base, precision);
+    }
+
+    /**
+     * @since 2.20
+     */
+    protected LocalTimeSerializer(LocalTimeSerializer base, boolean singleNumberShapes) {
+        super(base, singleNumberShapes);
+    }
+
+    @Override
+    protected LocalTimeSerializer withCompiledPattern(CompiledDateTimePattern compiledPattern) {
+        return new LocalTimeSerializer(this, compiledPattern);
+    }
+
+    @Override // since 2.20
+    protected LocalTimeSerializer withPrecision(TimestampPrecision precision) {
+        return new LocalTimeSerializer(this, precision);
+    }
+
+    @Override // since 2.20
+    protected LocalTimeSerializer withSingleNumberShapes(boolean singleNumberShapes) {
+        return new LocalTimeSerializer(this, singleNumberShapes);
     }
 
     @Override
     protected JSR310FormattedSerializerBase<LocalTime> withFormat(Boolean useTimestamp, DateTimeFormatter dtf, JsonFormat.Shape shape) {
-        return new LocalTimeSerializer(this, useTimestamp, dtf);
+        // Shape only needs to be retained for single-number representation
+        return new LocalTimeSerializer(this, useTimestamp, dtf, _singleNumberShapes ? shape : null);
     }
 
     // since 2.7: TODO in 2.8; change to use per-type defaulting
@@ -74,16 +122,15 @@ public class LocalTimeSerializer extends JSR310FormattedSerializerBase<LocalTime
     public void serialize(LocalTime value, JsonGenerator g, SerializerProvider provider)
         throws IOException
     {
-        if (useTimestamp(provider)) {
-            g.writeStartArray();
-            _serializeAsArrayContents(value, g, provider);
-            g.writeEndArray();
-        } else {
-            DateTimeFormatter dtf = _formatter;
-            if (dtf == null) {
-                dtf = _defaultFormatter();
+        if ((_settings(provider) & SETTING_TIMESTAMP) != 0) {
+            if (_useSingleNumberShape()) {
+                g.writeNumber(_timeOfDay(value, provider));
+                return;
             }
-            g.writeString(value.format(dtf));
+            final int[] components = DateTimeOutput.intBuffer();
+            g.writeArray(components, 0, _arrayComponents(value, provider, components));
+        } else {
+            _serializeAsString(value, g);
         }
     }
 
@@ -94,42 +141,111 @@ public class LocalTimeSerializer extends JSR310FormattedSerializerBase<LocalTime
         WritableTypeId typeIdDef = typeSer.writeTypePrefix(g,
                 typeSer.typeId(value, serializationShape(provider)));
         // need to write out to avoid double-writing array markers
-        if ((typeIdDef != null)
-                && typeIdDef.valueShape == JsonToken.START_ARRAY) {
+        JsonToken shape = (typeIdDef == null) ? null : typeIdDef.valueShape;
+        if (shape == JsonToken.START_ARRAY) {
             _serializeAsArrayContents(value, g, provider);
+        } else if (shape == JsonToken.VALUE_NUMBER_INT) {
+            g.writeNumber(_timeOfDay(value, provider));
         } else {
-            DateTimeFormatter dtf = _formatter;
-            if (dtf == null) {
-                dtf = _defaultFormatter();
-            }
-            g.writeString(value.format(dtf));
+            _serializeAsString(value, g);
         }
         typeSer.writeTypeSuffix(g, typeIdDef);
     }
 
+    private final void _serializeAsString(LocalTime value, JsonGenerator g) throws IOException
+    {
+        if (_truncates()) {
+            value = value.withNano(_truncateNanos(value.getNano()));
+        }
+        if (_compiledPattern != null) {
+            char[] buffer = DateTimeOutput.buffer(_compiledPattern.length());
+            int end = _compiledPattern.formatLocalTime(value, buffer, 0);
+            if (end >= 0) {
+                g.writeString(buffer, 0, end);
+                return;
+            }
+        }
+        DateTimeFormatter dtf = _formatter;
+        if (dtf == null) {
+            dtf = _defaultFormatter();
+        }
+        if (dtf == DateTimeFormatter.ISO_LOCAL_TIME) {
+            final char[] buffer = DateTimeOutput.buffer();
+            g.writeString(buffer, 0, DateTimeOutput.appendLocalTime(buffer, 0, value));
+            return;
+        }
+        g.writeString(value.format(dtf));
+    }
+
     private final void _serializeAsArrayContents(LocalTime value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
-        g.writeNumber(value.getHour());
-        g.writeNumber(value.getMinute());
+        final int[] components = DateTimeOutput.intBuffer();
+        for (int i = 0, end = _arrayComponents(value, provider, components); i < end; ++i) {
+            g.writeNumber(components[i]);
+        }
+    }
+
+    /**
+     * Helper method for extracting components of array ("timestamp")
+     * representation of given value into given array.
+     *
+     * @return Number of components extracted
+     */
+    private int _arrayComponents(LocalTime value, SerializerProvider provider, int[] components)
+    {
+        if (_truncates()) {
+            value = value.withNano(_truncateNanos(value.getNano()));
+        }
+        components[0] = value.getHour();
+        components[1] = value.getMinute();
         int secs = value.getSecond();
         int nanos = value.getNano();
         if ((secs > 0) || (nanos > 0))
         {
-            g.writeNumber(secs);
+            components[2] = secs;
             if (nanos > 0) {
-                if (useNanoseconds(provider)) {
-                    g.writeNumber(nanos);
+                if ((_settings(provider) & SETTING_NANOSECONDS) != 0) {
+                    components[3] = nanos;
                 } else {
-                    g.writeNumber(value.get(ChronoField.MILLI_OF_SECOND));
+                    components[3] = value.get(ChronoField.MILLI_OF_SECOND);
                 }
+                return 4;
             }
+            return 3;
+        }
+        return 2;
+    }
+
+    /**
+     * Helper method for finding single-number representation of given value, used
+     * with {@link JsonFormat.Shape#NUMBER_INT}: milli-of-day, unless
+     * {@link JsonFormat.Feature#WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS} is explicitly
+     * enabled for the property (in which case nano-of-day).
+     *
+     * @since 2.20
+     */
+    protected long _timeOfDay(LocalTime value, SerializerProvider provider)
+    {
+        if (_truncates()) {
+            value = value.withNano(_truncateNanos(value.getNano()));
+        }
+        final long nanoOfDay = value.toNanoOfDay();
+        if ((_settings(provider) & SETTING_NANOSECONDS) != 0) {
+            return nanoOfDay;
         }
+        return nanoOfDay / 1_000_000L;
     }
 
     @Override // since 2.9
     protected JsonToken serializationShape(SerializerProvider provider) {
-        return useTimestamp(provider) ? JsonToken.START_ARRAY : JsonToken.VALUE_STRING;
+        if (useTimestamp(provider)) {
+            if (_useSingleNumberShape()) {
+                return JsonToken.VALUE_NUMBER_INT;
+            }
+            return JsonToken.START_ARRAY;
+        }
+        return JsonToken.VALUE_STRING;
     }
 
     @Override
@@ -28,6 +28,7 @@ import com.fasterxml.jackson.core.type.WritableTypeId;
 
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
 
 /**
  * Serializer for Java 8 temporal {@link MonthDay}s.
@@ -52,13 +53,24 @@ public class MonthDaySerializer extends JSR310FormattedSerializerBase<MonthDay>
         super(MonthDay.class, formatter);
     }
 
-    private MonthDaySerializer(MonthDaySerializer base, Boolean useTimestamp, DateTimeFormatter formatter) {
-        super(base, useTimestamp, formatter, null);
+    private MonthDaySerializer(MonthDaySerializer base, Boolean useTimestamp, DateTimeFormatter formatter,
+            JsonFormat.Shape shape) {
+        super(base, useTimestamp, formatter, shape);
+    }
+
+    private MonthDaySerializer(MonthDaySerializer base, boolean singleNumberShapes) {
+        super(base, singleNumberShapes);
     }
 
     @Override
     protected MonthDaySerializer withFormat(Boolean useTimestamp, DateTimeFormatter formatter, JsonFormat.Shape shape) {
-        return new MonthDaySerializer(this, useTimestamp, formatter);
+        // Shape only needs to be retained for single-number representation
+        return new MonthDaySerializer(this, useTimestamp, formatter, _singleNumberShapes ? shape : null);
+    }
+
+    @Override // since 2.20
+    protected MonthDaySerializer withSingleNumberShapes(boolean singleNumberShapes) {
+        return new MonthDaySerializer(this, singleNumberShapes);
     }
 
     @Override
@@ -66,9 +78,12 @@ public class MonthDaySerializer extends JSR310FormattedSerializerBase<MonthDay>
         throws IOException
     {
         if (_useTimestampExplicitOnly(provider)) {
-            g.writeStartArray();
-            _serializeAsArrayContents(value, g, provider);
-            g.writeEndArray();
+            if (_useSingleNumberShape()) {
+                g.writeNumber(_dayOfYear(value));
+                return;
+            }
+            final int[] components = DateTimeOutput.intBuffer();
+            g.writeArray(components, 0, _arrayComponents(value, provider, components));
         } else {
             g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
         }
@@ -81,9 +96,11 @@ public class MonthDaySerializer extends JSR310FormattedSerializerBase<MonthDay>
         WritableTypeId typeIdDef = typeSer.writeTypePrefix(g,
                 typeSer.typeId(value, serializationShape(provider)));
         // need to write out to avoid double-writing array markers
-        if ((typeIdDef != null)
-                && typeIdDef.valueShape == JsonToken.START_ARRAY) {
+        JsonToken shape = (typeIdDef == null) ? null : typeIdDef.valueShape;
+        if (shape == JsonToken.START_ARRAY) {
             _serializeAsArrayContents(value, g, provider);
+        } else if (shape == JsonToken.VALUE_NUMBER_INT) {
+            g.writeNumber(_dayOfYear(value));
         } else {
             g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
         }
@@ -93,12 +110,46 @@ public class MonthDaySerializer extends JSR310FormattedSerializerBase<MonthDay>
     protected void _serializeAsArrayContents(MonthDay value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
-        g.writeNumber(value.getMonthValue());
-        g.writeNumber(value.getDayOfMonth());
+        final int[] components = DateTimeOutput.intBuffer();
+        for (int i = 0, end = _arrayComponents(value, provider, components); i < end; ++i) {
+            g.writeNumber(components[i]);
+        }
+    }
+
+    /**
+     * Helper method for finding single-number representation of given value, used
+     * with {@link JsonFormat.Shape#NUMBER_INT}: day-of-year (1 - 366) in a leap year,
+     * so that February 29 has a distinct value.
+     *
+     * @since 2.20
+     */
+    protected int _dayOfYear(MonthDay value) {
+        return value.getMonth().firstDayOfYear(true) + value.getDayOfMonth() - 1;
+    }
+
+    /**
+     * Helper method for extracting components of array ("timestamp")
+     * representation of given value into given array.
+     *
+     * @return Number of components extracted
+     *
+     * @since 2.20
+     */
+    protected int _arrayComponents(MonthDay value, SerializerProvider provider, int[] components)
+    {
+        components[0] = value.getMonthValue();
+        components[1] = value.getDayOfMonth();
+        return 2;
     }
 
     @Override // since 2.9
     protected JsonToken serializationShape(SerializerProvider provider) {
-        return _useTimestampExplicitOnly(provider) ? JsonToken.START_ARRAY : JsonToken.VALUE_STRING;
+        if (_useTimestampExplicitOnly(provider)) {
+            if (_useSingleNumberShape()) {
+                return JsonToken.VALUE_NUMBER_INT;
+            }
+            return JsonToken.START_ARRAY;
+        }
+        return JsonToken.VALUE_STRING;
     }
 }
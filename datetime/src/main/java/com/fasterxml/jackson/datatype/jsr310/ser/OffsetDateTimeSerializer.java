@@ -4,6 +4,10 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
+
 public class OffsetDateTimeSerializer extends InstantSerializerBase<OffsetDateTime>
 {
     private static final long serialVersionUID = 1L;
@@ -35,6 +39,13 @@ public class OffsetDateTimeSerializer extends InstantSerializerBase<OffsetDateTi
         super(base, useTimestamp, base._useNanoseconds, formatter, shape);
     }
 
+    /**
+     * @since 2.20
+     */
+    protected OffsetDateTimeSerializer(OffsetDateTimeSerializer base, TimestampPrecision precision) {
+        super(base, precision);
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<?> withFormat(Boolean useTimestamp,
         DateTimeFormatter formatter, JsonFormat.Shape shape)
@@ -46,4 +57,20 @@ public class OffsetDateTimeSerializer extends InstantSerializerBase<OffsetDateTi
     protected JSR310FormattedSerializerBase<?> withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
         return new OffsetDateTimeSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
     }
+
+    @Override // since 2.20
+    protected OffsetDateTimeSerializer withPrecision(TimestampPrecision precision) {
+        return new OffsetDateTimeSerializer(this, precision);
+    }
+
+    @Override // since 2.20
+    protected int _formatDefault(OffsetDateTime value, DateTimeFormatter defaultFormat,
+            SerializerProvider provider, char[] buffer)
+    {
+        if ((defaultFormat == DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+                && ((_settings(provider) & SETTING_CONTEXT_TIME_ZONE) == 0)) {
+            return DateTimeOutput.appendOffsetDateTime(buffer, 0, value.toLocalDateTime(), value.getOffset());
+        }
+        return -1;
+    }
 }
@@ -0,0 +1,44 @@
+package com.fasterxml.jackson.datatype.jsr310.ser;
+
+import java.io.IOException;
+import java.time.Period;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializerBase;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
+
+/**
+ * Serializer for {@link Period}s, which are written in format of
+ * {@link Period#toString()} (like {@code P1Y2M3D}), but without
+ * constructing intermediate {@link String}s.
+ *
+ * @since 2.20
+ */
+public class PeriodSerializer extends ToStringSerializerBase
+{
+    private static final long serialVersionUID = 1L;
+
+    public static final PeriodSerializer INSTANCE = new PeriodSerializer();
+
+    protected PeriodSerializer() { super(Period.class); }
+
+    @Override
+    public boolean isEmpty(SerializerProvider prov, Object value) {
+        // String representation is never empty
+        return false;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator g, SerializerProvider provider)
+        throws IOException
+    {
+        final char[] buffer = DateTimeOutput.buffer();
+        g.writeString(buffer, 0, DateTimeOutput.appendPeriod(buffer, 0, (Period) value));
+    }
+
+    @Override
+    public String valueToString(Object value) {
+        return value.toString();
+    }
+}
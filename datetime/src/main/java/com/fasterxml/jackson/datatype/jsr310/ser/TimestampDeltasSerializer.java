@@ -0,0 +1,175 @@
+package com.fasterxml.jackson.datatype.jsr310.ser;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonArrayFormatVisitor;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatTypes;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.util.TimestampDeltas;
+
+/**
+ * Serializer for Collections and arrays of {@link java.time.Instant}s and
+ * {@link java.time.LocalDate}s that may write values in compact, delta-encoded
+ * shape of {@code [base, delta1, delta2, ...]}: first element as integer
+ * timestamp, followed by differences of each element to the preceding one
+ * (so for sorted series with regular intervals, deltas are small numbers).
+ *<p>
+ * Delta encoding is enabled with {@link JsonFormat.Shape#ARRAY} and unit as
+ * pattern: name of a {@link com.fasterxml.jackson.datatype.jsr310.TimestampPrecision}
+ * for {@link java.time.Instant}s (which are truncated to that unit), and
+ * {@code "DAYS"} for {@link java.time.LocalDate}s:
+ *<pre>
+ *  &#64;JsonFormat(shape = JsonFormat.Shape.ARRAY, pattern = "SECONDS")
+ *  public List&lt;Instant&gt; timestamps;
+ *</pre>
+ * Otherwise serialization is delegated to the default serializer.
+ *
+ * @since 2.20
+ */
+public class TimestampDeltasSerializer extends StdSerializer<Object>
+    implements ContextualSerializer, ResolvableSerializer
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final JsonSerializer<Object> _defaultSerializer;
+
+    protected final Class<?> _elementType;
+
+    /**
+     * Converter for elements, if delta encoding is enabled; {@code null} if not.
+     */
+    protected final TimestampDeltas _deltas;
+
+    @SuppressWarnings("unchecked")
+    public TimestampDeltasSerializer(JsonSerializer<?> defaultSerializer, JavaType valueType)
+    {
+        super(valueType);
+        _defaultSerializer = (JsonSerializer<Object>) defaultSerializer;
+        _elementType = valueType.getContentType().getRawClass();
+        _deltas = null;
+    }
+
+    protected TimestampDeltasSerializer(TimestampDeltasSerializer base, TimestampDeltas deltas)
+    {
+        super(base);
+        _defaultSerializer = base._defaultSerializer;
+        _elementType = base._elementType;
+        _deltas = deltas;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+        throws JsonMappingException
+    {
+        JsonFormat.Value format = findFormatOverrides(prov, property, handledType());
+        TimestampDeltas deltas = TimestampDeltas.forFormat(_elementType, format);
+        if (deltas != null) {
+            return new TimestampDeltasSerializer(this, deltas);
+        }
+        // no need to stay in between if not enabled
+        return prov.handleSecondaryContextualization(_defaultSerializer, property);
+    }
+
+    @Override
+    public void resolve(SerializerProvider prov) throws JsonMappingException {
+        if (_defaultSerializer instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) _defaultSerializer).resolve(prov);
+        }
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider prov, Object value) {
+        if (_deltas == null) {
+            return _defaultSerializer.isEmpty(prov, value);
+        }
+        if (value instanceof Collection<?>) {
+            return ((Collection<?>) value).isEmpty();
+        }
+        return ((Object[]) value).length == 0;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator g, SerializerProvider provider)
+        throws IOException
+    {
+        if (_deltas == null) {
+            _defaultSerializer.serialize(value, g, provider);
+            return;
+        }
+        g.writeStartArray(value);
+        _serializeContents(value, g, provider);
+        g.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator g, SerializerProvider provider,
+            TypeSerializer typeSer) throws IOException
+    {
+        if (_deltas == null) {
+            _defaultSerializer.serializeWithType(value, g, provider, typeSer);
+            return;
+        }
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(g,
+                typeSer.typeId(value, JsonToken.START_ARRAY));
+        g.setCurrentValue(value);
+        _serializeContents(value, g, provider);
+        typeSer.writeTypeSuffix(g, typeIdDef);
+    }
+
+    protected void _serializeContents(Object value, JsonGenerator g, SerializerProvider provider)
+        throws IOException
+    {
+        final Iterator<?> it = (value instanceof Collection<?>)
+                ? ((Collection<?>) value).iterator()
+                : Arrays.asList((Object[]) value).iterator();
+        if (!it.hasNext()) {
+            return;
+        }
+        long previous = _toUnits(it.next(), provider);
+        g.writeNumber(previous);
+        while (it.hasNext()) {
+            final long units = _toUnits(it.next(), provider);
+            g.writeNumber(Math.subtractExact(units, previous));
+            previous = units;
+        }
+    }
+
+    private long _toUnits(Object element, SerializerProvider provider) throws IOException
+    {
+        if (element == null) {
+            provider.reportMappingProblem("Cannot write `null` element of %s as delta-encoded",
+                    handledType().getName());
+        }
+        return _deltas.toUnits(element);
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
+        throws JsonMappingException
+    {
+        if (_deltas == null) {
+            _defaultSerializer.acceptJsonFormatVisitor(visitor, typeHint);
+            return;
+        }
+        JsonArrayFormatVisitor v2 = visitor.expectArrayFormat(typeHint);
+        if (v2 != null) {
+            v2.itemsFormat(JsonFormatTypes.INTEGER);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrappe
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonStringFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
 
 /**
  * Serializer for Java 8 temporal {@link YearMonth}s.
@@ -53,23 +54,36 @@ public class YearMonthSerializer extends JSR310FormattedSerializerBase<YearMonth
     }
 
     private YearMonthSerializer(YearMonthSerializer base, Boolean useTimestamp,
-            DateTimeFormatter formatter) {
-        super(base, useTimestamp, formatter, null);
+            DateTimeFormatter formatter, JsonFormat.Shape shape) {
+        super(base, useTimestamp, formatter, shape);
+    }
+
+    private YearMonthSerializer(YearMonthSerializer base, boolean singleNumberShapes) {
+        super(base, singleNumberShapes);
     }
 
     @Override
     protected YearMonthSerializer withFormat(Boolean useTimestamp, DateTimeFormatter formatter,
             JsonFormat.Shape shape) {
-        return new YearMonthSerializer(this, useTimestamp, formatter);
+        // Shape only needs to be retained for single-number representation
+        return new YearMonthSerializer(this, useTimestamp, formatter, _singleNumberShapes ? shape : null);
+    }
+
+    @Override // since 2.20
+    protected YearMonthSerializer withSingleNumberShapes(boolean singleNumberShapes) {
+        return new YearMonthSerializer(this, singleNumberShapes);
     }
 
     @Override
     public void serialize(YearMonth value, JsonGenerator g, SerializerProvider provider) throws IOException
     {
         if (useTimestamp(provider)) {
-            g.writeStartArray();
-            _serializeAsArrayContents(value, g, provider);
-            g.writeEndArray();
+            if (_useSingleNumberShape()) {
+                g.writeNumber(_prolepticMonth(value));
+                return;
+            }
+            final int[] components = DateTimeOutput.intBuffer();
+            g.writeArray(components, 0, _arrayComponents(value, provider, components));
             return;
         }
         g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
@@ -82,9 +96,11 @@ public class YearMonthSerializer extends JSR310FormattedSerializerBase<YearMonth
         WritableTypeId typeIdDef = typeSer.writeTypePrefix(g,
                 typeSer.typeId(value, serializationShape(provider)));
         // need to write out to avoid double-writing array markers
-        if ((typeIdDef != null)
-                && typeIdDef.valueShape == JsonToken.START_ARRAY) {
+        JsonToken shape = (typeIdDef == null) ? null : typeIdDef.valueShape;
+        if (shape == JsonToken.START_ARRAY) {
             _serializeAsArrayContents(value, g, provider);
+        } else if (shape == JsonToken.VALUE_NUMBER_INT) {
+            g.writeNumber(_prolepticMonth(value));
         } else {
             g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
         }
@@ -94,8 +110,37 @@ public class YearMonthSerializer extends JSR310FormattedSerializerBase<YearMonth
     protected void _serializeAsArrayContents(YearMonth value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
-        g.writeNumber(value.getYear());
-        g.writeNumber(value.getMonthValue());
+        final int[] components = DateTimeOutput.intBuffer();
+        for (int i = 0, end = _arrayComponents(value, provider, components); i < end; ++i) {
+            g.writeNumber(components[i]);
+        }
+    }
+
+    /**
+     * Helper method for finding single-number representation of given value, used
+     * with {@link JsonFormat.Shape#NUMBER_INT}: proleptic month (see
+     * {@link java.time.temporal.ChronoField#PROLEPTIC_MONTH}), that is, number of
+     * months since year 0.
+     *
+     * @since 2.20
+     */
+    protected long _prolepticMonth(YearMonth value) {
+        return value.getYear() * 12L + (value.getMonthValue() - 1);
+    }
+
+    /**
+     * Helper method for extracting components of array ("timestamp")
+     * representation of given value into given array.
+     *
+     * @return Number of components extracted
+     *
+     * @since 2.20
+     */
+    protected int _arrayComponents(YearMonth value, SerializerProvider provider, int[] components)
+    {
+        components[0] = value.getYear();
+        components[1] = value.getMonthValue();
+        return 2;
     }
 
     @Override
@@ -115,6 +160,12 @@ public class YearMonthSerializer extends JSR310FormattedSerializerBase<YearMonth
 
     @Override // since 2.9
     protected JsonToken serializationShape(SerializerProvider provider) {
-        return useTimestamp(provider) ? JsonToken.START_ARRAY : JsonToken.VALUE_STRING;
+        if (useTimestamp(provider)) {
+            if (_useSingleNumberShape()) {
+                return JsonToken.VALUE_NUMBER_INT;
+            }
+            return JsonToken.START_ARRAY;
+        }
+        return JsonToken.VALUE_STRING;
     }
 }
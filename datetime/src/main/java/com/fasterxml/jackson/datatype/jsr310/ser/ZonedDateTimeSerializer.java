@@ -9,12 +9,22 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
 
 public class ZonedDateTimeSerializer extends InstantSerializerBase<ZonedDateTime> {
     private static final long serialVersionUID = 1L;
 
     public static final ZonedDateTimeSerializer INSTANCE = new ZonedDateTimeSerializer();
 
+    /**
+     * Setting (see {@link #_settings}) that indicates that values are to be
+     * written with zone id: same as {@link #shouldWriteWithZoneId}.
+     *
+     * @since 2.20
+     */
+    protected final static int SETTING_ZONE_ID = 0x0008;
+
     /**
      * Flag for <code>JsonFormat.Feature.WRITE_DATES_WITH_ZONE_ID</code>
      *
@@ -58,6 +68,14 @@ public class ZonedDateTimeSerializer extends InstantSerializerBase<ZonedDateTime
         _writeZoneId = writeZoneId;
     }
 
+    /**
+     * @since 2.20
+     */
+    protected ZonedDateTimeSerializer(ZonedDateTimeSerializer base, TimestampPrecision precision) {
+        super(base, precision);
+        _writeZoneId = base._writeZoneId;
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<?> withFormat(
         Boolean useTimestamp,
@@ -78,18 +96,34 @@ public class ZonedDateTimeSerializer extends InstantSerializerBase<ZonedDateTime
         return new ZonedDateTimeSerializer(this, _useTimestamp, writeNanoseconds, _formatter, writeZoneId);
     }
 
+    @Override // since 2.20
+    protected ZonedDateTimeSerializer withPrecision(TimestampPrecision precision) {
+        return new ZonedDateTimeSerializer(this, precision);
+    }
+
     @Override
     public void serialize(ZonedDateTime value, JsonGenerator g, SerializerProvider provider)
         throws IOException
     {
-        if (!useTimestamp(provider)) {
+        final int settings = _settings(provider);
+        if ((settings & SETTING_TIMESTAMP) == 0) {
             // [modules-java8#333]: `@JsonFormat` with pattern should override
             //   `SerializationFeature.WRITE_DATES_WITH_ZONE_ID`
             if ((_formatter != null) && (_shape == JsonFormat.Shape.STRING)) {
                 ; // use default handling
-            } else if (shouldWriteWithZoneId(provider)) {
+            } else if ((settings & SETTING_ZONE_ID) != 0) {
                 // write with zone
-                g.writeString(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value));
+                if (_truncates()) {
+                    value = _truncate(value);
+                }
+                final char[] buffer = DateTimeOutput.buffer();
+                final int end = DateTimeOutput.appendZonedDateTime(buffer, 0,
+                        value.toLocalDateTime(), value.getOffset(), value.getZone());
+                if (end >= 0) {
+                    g.writeString(buffer, 0, end);
+                } else {
+                    g.writeString(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value));
+                }
                 return;
             }
         }
@@ -104,12 +138,35 @@ public class ZonedDateTimeSerializer extends InstantSerializerBase<ZonedDateTime
         if (_formatter != null && _shape == JsonFormat.Shape.STRING) {
             // Why not `if (shouldWriteWithZoneId(provider))` ?
             if (Boolean.TRUE.equals(_writeZoneId)) {
-                formatted += "[" + value.getZone().getId() + "]";
+                final char[] zoneId = DateTimeOutput.bracketedZoneId(value.getZone());
+                formatted = new StringBuilder(formatted.length() + zoneId.length)
+                        .append(formatted).append(zoneId).toString();
             }
         }
         return formatted;
     }
 
+    @Override // since 2.20
+    protected int _formatDefault(ZonedDateTime value, DateTimeFormatter defaultFormat,
+            SerializerProvider provider, char[] buffer)
+    {
+        if ((defaultFormat == DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+                && ((_settings(provider) & SETTING_CONTEXT_TIME_ZONE) == 0)) {
+            return DateTimeOutput.appendOffsetDateTime(buffer, 0, value.toLocalDateTime(), value.getOffset());
+        }
+        return -1;
+    }
+
+    @Override // since 2.20
+    protected int _resolveSettings(SerializerProvider provider)
+    {
+        int settings = super._resolveSettings(provider);
+        if (shouldWriteWithZoneId(provider)) {
+            settings |= SETTING_ZONE_ID;
+        }
+        return settings;
+    }
+
     /**
      * @since 2.8
      */
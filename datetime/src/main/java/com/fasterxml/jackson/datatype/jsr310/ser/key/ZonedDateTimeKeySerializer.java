@@ -9,7 +9,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeOutput;
 
 public class ZonedDateTimeKeySerializer extends JsonSerializer<ZonedDateTime> {
 
@@ -29,7 +29,7 @@ public class ZonedDateTimeKeySerializer extends JsonSerializer<ZonedDateTime> {
             gen.writeFieldName(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value));
         } else if (useTimestamps(serializers)) {
             if (useNanos(serializers)) {
-                gen.writeFieldName(DecimalUtils.toBigDecimal(value.toEpochSecond(), value.getNano()).toString());
+                gen.writeFieldName(DateTimeOutput.toDecimalString(value.toEpochSecond(), value.getNano()));
             } else {
                 gen.writeFieldName(String.valueOf(value.toInstant().toEpochMilli()));
             }
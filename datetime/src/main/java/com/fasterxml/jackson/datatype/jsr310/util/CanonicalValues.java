@@ -0,0 +1,139 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.function.UnaryOperator;
+
+/**
+ * Helper class for replacing deserialized values with canonical instances
+ * of equal value, so that applications retaining large numbers of values
+ * do not hold many copies of the same value:
+ *<ul>
+ * <li>{@link Year}s and {@link YearMonth}s between {@link #MIN_YEAR} and
+ *   {@link #MAX_YEAR} (inclusive), as well as all {@link MonthDay}s, are
+ *   taken from precomputed tables
+ *  </li>
+ * <li>{@link LocalDate}s are deduplicated using a bounded, direct-mapped
+ *   cache keyed by epoch day: dates within a span of {@link #DATE_CACHE_SIZE}
+ *   days map to distinct entries, so for typical data (with dates clustered
+ *   around some years) nearly all repeated dates share an instance
+ *  </li>
+ *</ul>
+ * Values outside of these domains are returned as-is.
+ *<p>
+ * NOTE: {@link java.time.Month}s are enum constants and
+ * {@link java.time.ZoneOffset}s of whole quarter-hours are cached by the JDK
+ * already, so they need no interning.
+ *<p>
+ * NOTE: internal class, not considered part of public API.
+ *
+ * @since 2.20
+ */
+public final class CanonicalValues
+{
+    public final static int MIN_YEAR = 1900;
+
+    public final static int MAX_YEAR = 2199;
+
+    /**
+     * Number of entries in {@link LocalDate} cache; must be power of two.
+     */
+    public final static int DATE_CACHE_SIZE = 4096;
+
+    private final static LocalDate[] _dates = new LocalDate[DATE_CACHE_SIZE];
+
+    private CanonicalValues() { }
+
+    /**
+     * @return Function for finding canonical instances of given type, if
+     *    supported; {@code null} if not
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> UnaryOperator<T> canonicalizerFor(Class<T> type)
+    {
+        if (type == LocalDate.class) {
+            return (UnaryOperator<T>) (UnaryOperator<LocalDate>) CanonicalValues::canonical;
+        }
+        if (type == Year.class) {
+            return (UnaryOperator<T>) (UnaryOperator<Year>) CanonicalValues::canonical;
+        }
+        if (type == YearMonth.class) {
+            return (UnaryOperator<T>) (UnaryOperator<YearMonth>) CanonicalValues::canonical;
+        }
+        if (type == MonthDay.class) {
+            return (UnaryOperator<T>) (UnaryOperator<MonthDay>) CanonicalValues::canonical;
+        }
+        return null;
+    }
+
+    public static Year canonical(Year value)
+    {
+        if (value != null) {
+            final int ix = value.getValue() - MIN_YEAR;
+            if ((ix >= 0) && (ix < Tables.YEARS.length)) {
+                return Tables.YEARS[ix];
+            }
+        }
+        return value;
+    }
+
+    public static YearMonth canonical(YearMonth value)
+    {
+        if (value != null) {
+            final int ix = value.getYear() - MIN_YEAR;
+            if ((ix >= 0) && (ix < Tables.YEARS.length)) {
+                return Tables.YEAR_MONTHS[(ix * 12) + value.getMonthValue() - 1];
+            }
+        }
+        return value;
+    }
+
+    public static MonthDay canonical(MonthDay value)
+    {
+        if (value != null) {
+            return Tables.MONTH_DAYS[((value.getMonthValue() - 1) * 31) + value.getDayOfMonth() - 1];
+        }
+        return value;
+    }
+
+    public static LocalDate canonical(LocalDate value)
+    {
+        if (value != null) {
+            // Racy but safe: dates are immutable (with final fields), and at worst
+            // a concurrent update means an equal instance is not shared
+            final int ix = (int) value.toEpochDay() & (DATE_CACHE_SIZE - 1);
+            final LocalDate cached = _dates[ix];
+            if (value.equals(cached)) {
+                return cached;
+            }
+            _dates[ix] = value;
+        }
+        return value;
+    }
+
+    // Lazily initialized on first use, so no cost unless interning is enabled
+    private final static class Tables
+    {
+        final static Year[] YEARS = new Year[MAX_YEAR - MIN_YEAR + 1];
+        final static YearMonth[] YEAR_MONTHS = new YearMonth[YEARS.length * 12];
+        // indexed by `(month - 1) * 31 + (day - 1)`; invalid combinations left `null`
+        final static MonthDay[] MONTH_DAYS = new MonthDay[12 * 31];
+
+        static {
+            for (int i = 0; i < YEARS.length; ++i) {
+                YEARS[i] = Year.of(MIN_YEAR + i);
+                for (int m = 0; m < 12; ++m) {
+                    YEAR_MONTHS[(i * 12) + m] = YearMonth.of(MIN_YEAR + i, m + 1);
+                }
+            }
+            for (Month month : Month.values()) {
+                for (int d = 1, max = month.maxLength(); d <= max; ++d) {
+                    MONTH_DAYS[((month.getValue() - 1) * 31) + d - 1] = MonthDay.of(month, d);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.ResolverStyle;
+import java.util.Arrays;
+
+/**
+ * Specialized parser and formatter for date/time patterns (as used with
+ * {@code @JsonFormat(pattern=...)}) that consist only of fixed-width numeric
+ * fields and literals: for example {@code "yyyyMMddHHmmss"},
+ * {@code "yyyy-MM-dd HH:mm:ss.SSS"} or {@code "dd/MM/yyyy"}.
+ * Supported pattern letters are {@code yyyy}, {@code uuuu}, {@code MM}, {@code dd},
+ * {@code HH}, {@code mm}, {@code ss} and {@code S} (1 to 9); patterns with anything
+ * else (text fields, locale-dependent or variable-width fields, optional sections)
+ * are not compiled, and {@link java.time.format.DateTimeFormatter} is to be used instead.
+ *<p>
+ * As with {@link DateTimeInput}, parse methods return {@code null} -- and format
+ * methods {@code -1} -- for values they can not handle exactly the same way
+ * as the formatter built from the same pattern, so that caller can use the
+ * formatter for those.
+ *
+ * @since 2.20
+ */
+public final class CompiledDateTimePattern
+{
+    private final static int LITERAL = -1;
+
+    private final static int FIELD_YEAR = 0;
+    private final static int FIELD_MONTH = 1;
+    private final static int FIELD_DAY = 2;
+    private final static int FIELD_HOUR = 3;
+    private final static int FIELD_MINUTE = 4;
+    private final static int FIELD_SECOND = 5;
+    private final static int FIELD_FRACTION = 6;
+
+    private final static int KIND_DATE = 0;
+    private final static int KIND_DATE_TIME = 1;
+    private final static int KIND_TIME = 2;
+
+    private final String _pattern;
+
+    /**
+     * Type of each segment of the pattern: either {@link #LITERAL} or one
+     * of {@code FIELD_xxx} constants.
+     */
+    private final int[] _types;
+
+    /**
+     * For field segments, width of the field; for literals, the literal character.
+     */
+    private final int[] _args;
+
+    /**
+     * Length of all values matching the pattern.
+     */
+    private final int _length;
+
+    /**
+     * Whether year is year-of-era ({@code y}) and not proleptic year ({@code u}).
+     */
+    private final boolean _yearOfEra;
+
+    private final boolean _hasDate;
+
+    private final boolean _hasTime;
+
+    private CompiledDateTimePattern(String pattern, int[] types, int[] args, int length,
+            boolean yearOfEra, boolean hasDate, boolean hasTime)
+    {
+        _pattern = pattern;
+        _types = types;
+        _args = args;
+        _length = length;
+        _yearOfEra = yearOfEra;
+        _hasDate = hasDate;
+        _hasTime = hasTime;
+    }
+
+    /**
+     * Factory method for compiling given pattern, if possible.
+     *
+     * @return Compiled pattern, if pattern only has supported fixed-width numeric
+     *    fields and literals; {@code null} if not
+     */
+    public static CompiledDateTimePattern compile(String pattern)
+    {
+        final int patternLen = pattern.length();
+        // Never more segments than characters in pattern
+        final int[] types = new int[patternLen];
+        final int[] args = new int[patternLen];
+        int count = 0;
+        int length = 0;
+        int seenFields = 0;
+        boolean yearOfEra = false;
+
+        for (int i = 0; i < patternLen; ) {
+            final char c = pattern.charAt(i);
+            if (((c >= 'A') && (c <= 'Z')) || ((c >= 'a') && (c <= 'z'))) {
+                int end = i+1;
+                while ((end < patternLen) && (pattern.charAt(end) == c)) {
+                    ++end;
+                }
+                final int width = end - i;
+                i = end;
+                int field;
+                switch (c) {
+                case 'y':
+                case 'u':
+                    if (width != 4) {
+                        return null;
+                    }
+                    yearOfEra = (c == 'y');
+                    field = FIELD_YEAR;
+                    break;
+                case 'M':
+                    field = FIELD_MONTH;
+                    break;
+                case 'd':
+                    field = FIELD_DAY;
+                    break;
+                case 'H':
+                    field = FIELD_HOUR;
+                    break;
+                case 'm':
+                    field = FIELD_MINUTE;
+                    break;
+                case 's':
+                    field = FIELD_SECOND;
+                    break;
+                case 'S':
+                    if (width > 9) {
+                        return null;
+                    }
+                    field = FIELD_FRACTION;
+                    break;
+                default: // text, locale-dependent or otherwise unsupported
+                    return null;
+                }
+                // Other than year and fraction, must be 2 digits
+                if ((width != 2) && (field != FIELD_YEAR) && (field != FIELD_FRACTION)) {
+                    return null;
+                }
+                // and each field may only occur once
+                final int mask = (1 << field);
+                if ((seenFields & mask) != 0) {
+                    return null;
+                }
+                seenFields |= mask;
+                types[count] = field;
+                args[count++] = width;
+                length += width;
+            } else if (c == '\'') {
+                // Quoted literal; or, if doubled, single quote
+                ++i;
+                if ((i < patternLen) && (pattern.charAt(i) == '\'')) {
+                    types[count] = LITERAL;
+                    args[count++] = '\'';
+                    ++length;
+                    ++i;
+                    continue;
+                }
+                while (true) {
+                    if (i >= patternLen) { // unterminated
+                        return null;
+                    }
+                    char q = pattern.charAt(i++);
+                    if (q == '\'') {
+                        if ((i < patternLen) && (pattern.charAt(i) == '\'')) {
+                            ++i;
+                        } else {
+                            break;
+                        }
+                    }
+                    types[count] = LITERAL;
+                    args[count++] = q;
+                    ++length;
+                }
+            } else if ((c == '[') || (c == ']') || (c == '{') || (c == '}') || (c == '#')) {
+                // optional sections, reserved characters
+                return null;
+            } else {
+                types[count] = LITERAL;
+                args[count++] = c;
+                ++length;
+                ++i;
+            }
+        }
+
+        // Date needs all of year, month, day (or none)
+        final int dateFields = seenFields & 0x7;
+        if ((dateFields != 0) && (dateFields != 0x7)) {
+            return null;
+        }
+        // and time fields hour, minute, second, fraction, in that order
+        // (with only the lowest-resolution ones possibly missing)
+        final int timeFields = seenFields >> FIELD_HOUR;
+        if ((timeFields & (timeFields + 1)) != 0) {
+            return null;
+        }
+        if (seenFields == 0) {
+            return null;
+        }
+        return new CompiledDateTimePattern(pattern,
+                Arrays.copyOf(types, count), Arrays.copyOf(args, count),
+                length, yearOfEra, dateFields != 0, timeFields != 0);
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public String getPattern() {
+        return _pattern;
+    }
+
+    /**
+     * @return Length of values matching the pattern (and of formatted values)
+     */
+    public int length() {
+        return _length;
+    }
+
+    /**
+     * Method for checking whether parsing results are the same as those of
+     * a formatter using given resolver style. This is not the case for
+     * {@link ResolverStyle#STRICT} with year-of-era but no era, which
+     * formatter can not resolve into a date.
+     */
+    public boolean canParseWith(ResolverStyle style) {
+        return !(_yearOfEra && _hasDate && (style == ResolverStyle.STRICT));
+    }
+
+    /*
+    /**********************************************************************
+    /* Parsing
+    /**********************************************************************
+     */
+
+    /**
+     * @return LocalDate parsed, if input matched the pattern; {@code null} if not
+     */
+    public LocalDate parseLocalDate(char[] ch, int offset, int len) {
+        return (LocalDate) _parse(ch, offset, len, KIND_DATE);
+    }
+
+    /**
+     * @return LocalDateTime parsed, if input matched the pattern; {@code null} if not
+     */
+    public LocalDateTime parseLocalDateTime(char[] ch, int offset, int len) {
+        return (LocalDateTime) _parse(ch, offset, len, KIND_DATE_TIME);
+    }
+
+    /**
+     * @return LocalTime parsed, if input matched the pattern; {@code null} if not
+     */
+    public LocalTime parseLocalTime(char[] ch, int offset, int len) {
+        return (LocalTime) _parse(ch, offset, len, KIND_TIME);
+    }
+
+    private Object _parse(char[] ch, int ptr, int len, int kind)
+    {
+        if (len != _length) {
+            return null;
+        }
+        if ((kind != KIND_TIME) && !_hasDate) {
+            return null;
+        }
+        if ((kind != KIND_DATE) && !_hasTime) {
+            return null;
+        }
+        int year = 0, month = 0, day = 0;
+        int hour = 0, minute = 0, second = 0, nanos = 0;
+        final int[] types = _types;
+        for (int i = 0, end = types.length; i < end; ++i) {
+            final int type = types[i];
+            final int arg = _args[i];
+            if (type == LITERAL) {
+                if (ch[ptr++] != arg) {
+                    return null;
+                }
+                continue;
+            }
+            int value = 0;
+            for (final int fieldEnd = ptr + arg; ptr < fieldEnd; ++ptr) {
+                int d = ch[ptr] - '0';
+                if ((d < 0) || (d > 9)) {
+                    return null;
+                }
+                value = (value * 10) + d;
+            }
+            switch (type) {
+            case FIELD_YEAR:
+                year = value;
+                break;
+            case FIELD_MONTH:
+                month = value;
+                break;
+            case FIELD_DAY:
+                day = value;
+                break;
+            case FIELD_HOUR:
+                hour = value;
+                break;
+            case FIELD_MINUTE:
+                minute = value;
+                break;
+            case FIELD_SECOND:
+                second = value;
+                break;
+            default: // FIELD_FRACTION
+                nanos = value * DateTimeInput.FRACTION_SCALE[arg];
+                break;
+            }
+        }
+        // Need to validate all fields, even ones not used for result type
+        if (_hasDate) {
+            // Day-of-month overflow handling depends on resolver style; leave to formatter
+            if ((_yearOfEra && (year == 0)) || !DateTimeInput._isValidDate(year, month, day)) {
+                return null;
+            }
+        }
+        if ((hour > 23) || (minute > 59) || (second > 59)) {
+            return null;
+        }
+        switch (kind) {
+        case KIND_DATE:
+            return LocalDate.of(year, month, day);
+        case KIND_DATE_TIME:
+            return LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+        default:
+            return LocalTime.of(hour, minute, second, nanos);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Formatting
+    /**********************************************************************
+     */
+
+    /**
+     * Method for formatting given value into given buffer, which must have
+     * at least {@link #length()} characters available from given offset.
+     *
+     * @return Offset after formatted value, if value could be formatted; -1 if not
+     */
+    public int formatLocalDate(LocalDate value, char[] buffer, int offset) {
+        if (_hasTime) {
+            return -1;
+        }
+        return _format(buffer, offset, value.getYear(), value.getMonthValue(), value.getDayOfMonth(),
+                0, 0, 0, 0);
+    }
+
+    /**
+     * Method for formatting given value into given buffer, which must have
+     * at least {@link #length()} characters available from given offset.
+     *
+     * @return Offset after formatted value, if value could be formatted; -1 if not
+     */
+    public int formatLocalDateTime(LocalDateTime value, char[] buffer, int offset) {
+        return _format(buffer, offset, value.getYear(), value.getMonthValue(), value.getDayOfMonth(),
+                value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+    }
+
+    /**
+     * Method for formatting given value into given buffer, which must have
+     * at least {@link #length()} characters available from given offset.
+     *
+     * @return Offset after formatted value, if value could be formatted; -1 if not
+     */
+    public int formatLocalTime(LocalTime value, char[] buffer, int offset) {
+        if (_hasDate) {
+            return -1;
+        }
+        return _format(buffer, offset, 0, 0, 0,
+                value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+    }
+
+    private int _format(char[] buffer, int ptr, int year, int month, int day,
+            int hour, int minute, int second, int nanos)
+    {
+        // Years beyond 4 digits get a sign; year-of-era differs from year before 1 CE
+        if (_hasDate && ((year < (_yearOfEra ? 1 : 0)) || (year > 9999))) {
+            return -1;
+        }
+        final int[] types = _types;
+        for (int i = 0, end = types.length; i < end; ++i) {
+            final int arg = _args[i];
+            int value;
+            switch (types[i]) {
+            case LITERAL:
+                buffer[ptr++] = (char) arg;
+                continue;
+            case FIELD_YEAR:
+                value = year;
+                break;
+            case FIELD_MONTH:
+                value = month;
+                break;
+            case FIELD_DAY:
+                value = day;
+                break;
+            case FIELD_HOUR:
+                value = hour;
+                break;
+            case FIELD_MINUTE:
+                value = minute;
+                break;
+            case FIELD_SECOND:
+                value = second;
+                break;
+            default: // FIELD_FRACTION, truncated
+                value = nanos / DateTimeInput.FRACTION_SCALE[arg];
+                break;
+            }
+            for (int ix = ptr + arg - 1; ix >= ptr; --ix) {
+                buffer[ix] = (char) ('0' + (value % 10));
+                value /= 10;
+            }
+            ptr += arg;
+        }
+        return ptr;
+    }
+
+    @Override
+    public String toString() {
+        return "[CompiledDateTimePattern '"+_pattern+"']";
+    }
+}
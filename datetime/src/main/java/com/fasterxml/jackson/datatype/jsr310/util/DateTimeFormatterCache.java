@@ -0,0 +1,174 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+/**
+ * Bounded, thread-safe cache of {@link DateTimeFormatter}s constructed from
+ * {@code @JsonFormat} patterns, to avoid re-building identical formatters
+ * whenever (de)serializers are contextualized. Formatters are immutable
+ * so they may be freely shared; a single module-wide instance is accessed
+ * with {@link #sharedInstance()}.
+ *<p>
+ * Entries are keyed by pattern, locale, time zone, resolver style and
+ * case-(in)sensitivity; least-recently used entries are evicted once
+ * maximum size is reached.
+ *
+ * @since 2.20
+ */
+public final class DateTimeFormatterCache
+{
+    /**
+     * Default maximum number of formatters to retain: large enough for
+     * all distinct patterns typical applications use.
+     */
+    public final static int DEFAULT_MAX_ENTRIES = 200;
+
+    private final static DateTimeFormatterCache SHARED = new DateTimeFormatterCache(DEFAULT_MAX_ENTRIES);
+
+    private final LRUMap<Key, DateTimeFormatter> _formatters;
+
+    private final LongAdder _hits = new LongAdder();
+
+    private final LongAdder _misses = new LongAdder();
+
+    public DateTimeFormatterCache(int maxEntries) {
+        _formatters = new LRUMap<>(Math.min(16, maxEntries), maxEntries);
+    }
+
+    /**
+     * Accessor for the module-wide cache instance that (de)serializers use.
+     */
+    public static DateTimeFormatterCache sharedInstance() {
+        return SHARED;
+    }
+
+    /**
+     * Method for finding formatter for given pattern and settings, constructing
+     * and caching one if none found.
+     *
+     * @param pattern Formatter pattern, as accepted by {@link DateTimeFormatterBuilder#appendPattern}
+     * @param locale Locale to use; {@code null} for default (formatting) Locale
+     * @param zone Zone override to use, if any; {@code null} for none
+     * @param resolverStyle Resolver style to use
+     * @param caseInsensitive Whether parsing is to be case-insensitive
+     *
+     * @return Formatter for given settings, never {@code null}
+     *
+     * @throws IllegalArgumentException if pattern is invalid
+     */
+    public DateTimeFormatter findOrCreate(String pattern, Locale locale, ZoneId zone,
+            ResolverStyle resolverStyle, boolean caseInsensitive)
+    {
+        if (locale == null) {
+            locale = Locale.getDefault(Locale.Category.FORMAT);
+        }
+        final Key key = new Key(pattern, locale, zone, resolverStyle, caseInsensitive);
+        DateTimeFormatter dtf = _formatters.get(key);
+        if (dtf != null) {
+            _hits.increment();
+            return dtf;
+        }
+        _misses.increment();
+        dtf = _build(key);
+        // In case of a race, make sure to use the formatter that got cached,
+        // so that all callers see the same instance
+        DateTimeFormatter old = _formatters.putIfAbsent(key, dtf);
+        return (old == null) ? dtf : old;
+    }
+
+    /**
+     * @return Number of lookups that found a cached formatter
+     */
+    public long getHitCount() {
+        return _hits.sum();
+    }
+
+    /**
+     * @return Number of lookups that had to construct a new formatter
+     */
+    public long getMissCount() {
+        return _misses.sum();
+    }
+
+    /**
+     * @return Number of formatters currently cached
+     */
+    public int size() {
+        return _formatters.size();
+    }
+
+    /**
+     * Method for removing all cached formatters and resetting statistics.
+     */
+    public void clear() {
+        _formatters.clear();
+        _hits.reset();
+        _misses.reset();
+    }
+
+    private static DateTimeFormatter _build(Key key)
+    {
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        if (key._caseInsensitive) {
+            builder.parseCaseInsensitive();
+        }
+        builder.appendPattern(key._pattern);
+        DateTimeFormatter dtf = builder.toFormatter(key._locale)
+                .withResolverStyle(key._resolverStyle);
+        if (key._zone != null) {
+            dtf = dtf.withZone(key._zone);
+        }
+        return dtf;
+    }
+
+    private final static class Key
+    {
+        final String _pattern;
+        final Locale _locale;
+        final ZoneId _zone;
+        final ResolverStyle _resolverStyle;
+        final boolean _caseInsensitive;
+        private final int _hashCode;
+
+        Key(String pattern, Locale locale, ZoneId zone, ResolverStyle resolverStyle,
+                boolean caseInsensitive)
+        {
+            _pattern = pattern;
+            _locale = locale;
+            _zone = zone;
+            _resolverStyle = resolverStyle;
+            _caseInsensitive = caseInsensitive;
+            int h = pattern.hashCode();
+            h = 31 * h + locale.hashCode();
+            h = 31 * h + Objects.hashCode(zone);
+            h = 31 * h + resolverStyle.hashCode();
+            _hashCode = caseInsensitive ? ~h : h;
+        }
+
+        @Override
+        public int hashCode() {
+            return _hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return (_hashCode == other._hashCode)
+                    && (_caseInsensitive == other._caseInsensitive)
+                    && (_resolverStyle == other._resolverStyle)
+                    && _pattern.equals(other._pattern)
+                    && _locale.equals(other._locale)
+                    && Objects.equals(_zone, other._zone);
+        }
+    }
+}
@@ -0,0 +1,819 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Hand-written parsers for the default ISO-8601 textual representations of
+ * {@code java.time} types, used as a fast alternative to
+ * {@link java.time.format.DateTimeFormatter} based parsing.
+ *<p>
+ * Parsers only accept the canonical subset of the format (4-digit years, upper-case
+ * {@code T} and {@code Z} markers, fractions of 1 to 9 digits and so on), and
+ * return {@code null} for everything else -- including all invalid input -- so
+ * that callers can fall back to formatter-based parsing and get exactly the same
+ * results (and error messages) as before.
+ *
+ * @since 2.20
+ */
+public final class DateTimeInput
+{
+    private final static int KIND_INSTANT = 0;
+    private final static int KIND_OFFSET_DATE_TIME = 1;
+    private final static int KIND_ZONED_DATE_TIME = 2;
+
+    private final static int SECONDS_PER_DAY = 86400;
+
+    private final static long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Marker value returned by {@link #_parseOffset} for invalid offsets
+     * (since all negative values are legal results)
+     */
+    final static int OFFSET_INVALID = Integer.MIN_VALUE;
+
+    /**
+     * Number of days from year 0 to 1970, same as used by {@code LocalDate}.
+     */
+    private final static long DAYS_0000_TO_1970 = (146097 * 5L) - (30L * 365L + 7L);
+
+    final static int[] FRACTION_SCALE = new int[] {
+        0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    /**
+     * Canonical {@link ZoneOffset} instances for all offsets that are multiples
+     * of 15 minutes (which covers all offsets in actual use), to avoid lookups
+     * (and boxing) via {@link ZoneOffset#ofTotalSeconds}.
+     */
+    private final static ZoneOffset[] QUARTER_HOUR_OFFSETS;
+    static {
+        final int maxQuarters = 18 * 4;
+        ZoneOffset[] offsets = new ZoneOffset[maxQuarters * 2 + 1];
+        for (int i = 0; i < offsets.length; ++i) {
+            offsets[i] = ZoneOffset.ofTotalSeconds((i - maxQuarters) * 900);
+        }
+        QUARTER_HOUR_OFFSETS = offsets;
+    }
+
+    private DateTimeInput() { }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Helper method for accessing characters of given String for parsing
+     * without allocating: characters are copied into per-thread buffer
+     * (see {@link DateTimeOutput#buffer(int)}), so contents are only valid
+     * until the next call from same thread.
+     *
+     * @return Buffer that contains characters of given String, starting at offset 0
+     */
+    public static char[] charsOf(String str) {
+        final int len = str.length();
+        char[] buffer = DateTimeOutput.buffer(len);
+        str.getChars(0, len, buffer, 0);
+        return buffer;
+    }
+
+    /**
+     * Method for parsing {@link Instant} from the representation produced by
+     * {@link java.time.format.DateTimeFormatter#ISO_INSTANT}; zero offsets
+     * ({@code +00}, {@code +0000}, {@code +00:00}) are accepted as aliases of {@code Z}.
+     *
+     * @return Instant parsed, if input was in supported format; {@code null} if not
+     */
+    public static Instant parseInstant(char[] ch, int offset, int len) {
+        return (Instant) _parseDateTime(ch, offset, len, KIND_INSTANT);
+    }
+
+    public static Instant parseInstant(String str) {
+        return parseInstant(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link OffsetDateTime} from the representation produced by
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}; offsets
+     * may also be given in colon-less forms ({@code +HH}, {@code +HHMM}).
+     *
+     * @return OffsetDateTime parsed, if input was in supported format; {@code null} if not
+     */
+    public static OffsetDateTime parseOffsetDateTime(char[] ch, int offset, int len) {
+        return (OffsetDateTime) _parseDateTime(ch, offset, len, KIND_OFFSET_DATE_TIME);
+    }
+
+    public static OffsetDateTime parseOffsetDateTime(String str) {
+        return parseOffsetDateTime(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link ZonedDateTime} from the representation produced by
+     * {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME}: same as
+     * offset date-time, optionally followed by a zone id within brackets.
+     *
+     * @return ZonedDateTime parsed, if input was in supported format; {@code null} if not
+     */
+    public static ZonedDateTime parseZonedDateTime(char[] ch, int offset, int len) {
+        return (ZonedDateTime) _parseDateTime(ch, offset, len, KIND_ZONED_DATE_TIME);
+    }
+
+    public static ZonedDateTime parseZonedDateTime(String str) {
+        return parseZonedDateTime(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link LocalDate} from the representation produced by
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}.
+     *
+     * @return LocalDate parsed, if input was in supported format; {@code null} if not
+     */
+    public static LocalDate parseLocalDate(char[] ch, int offset, int len) {
+        if (len != 10) {
+            return null;
+        }
+        final int date = _parseDate(ch, offset);
+        return (date < 0) ? null : _localDate(date);
+    }
+
+    public static LocalDate parseLocalDate(String str) {
+        return parseLocalDate(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link LocalDateTime} from the representation produced by
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     *
+     * @return LocalDateTime parsed, if input was in supported format; {@code null} if not
+     */
+    public static LocalDateTime parseLocalDateTime(char[] ch, int offset, int len) {
+        // shortest acceptable: "yyyy-MM-ddTHH:mm"
+        if (len < 16) {
+            return null;
+        }
+        final int date = _parseDate(ch, offset);
+        if ((date < 0) || (ch[offset+10] != 'T')) {
+            return null;
+        }
+        final long time = _parseTime(ch, offset+11, offset+len, false);
+        if ((time < 0L) || ((11 + _timeLength(time)) != len)) {
+            return null;
+        }
+        return LocalDateTime.of(_localDate(date), _localTime(time));
+    }
+
+    public static LocalDateTime parseLocalDateTime(String str) {
+        return parseLocalDateTime(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link LocalTime} from the representation produced by
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_TIME}.
+     *
+     * @return LocalTime parsed, if input was in supported format; {@code null} if not
+     */
+    public static LocalTime parseLocalTime(char[] ch, int offset, int len) {
+        final long time = _parseTime(ch, offset, offset+len, false);
+        if ((time < 0L) || (_timeLength(time) != len)) {
+            return null;
+        }
+        return _localTime(time);
+    }
+
+    public static LocalTime parseLocalTime(String str) {
+        return parseLocalTime(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link OffsetTime} from the representation produced by
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_TIME}; offset must
+     * be either {@code Z} or {@code +HH:MM}.
+     *
+     * @return OffsetTime parsed, if input was in supported format; {@code null} if not
+     */
+    public static OffsetTime parseOffsetTime(char[] ch, int offset, int len) {
+        final int end = offset+len;
+        final long time = _parseTime(ch, offset, end, false);
+        if (time < 0L) {
+            return null;
+        }
+        final int ptr = offset + _timeLength(time);
+        if (ptr == end) {
+            return null;
+        }
+        final int zoneOffset = _parseOffset(ch, ptr, end, false);
+        if ((zoneOffset == OFFSET_INVALID) || ((ptr + _offsetLength(zoneOffset)) != end)) {
+            return null;
+        }
+        return OffsetTime.of(_localTime(time), zoneOffset(_offsetSeconds(zoneOffset)));
+    }
+
+    public static OffsetTime parseOffsetTime(String str) {
+        return parseOffsetTime(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link ZoneOffset} from one of representations accepted by
+     * {@link ZoneOffset#of(String)}: {@code Z}, {@code +HH}, {@code +HHMM}
+     * or {@code +HH:MM}.
+     *
+     * @return ZoneOffset parsed, if input was in supported format; {@code null} if not
+     */
+    public static ZoneOffset parseZoneOffset(char[] ch, int offset, int len) {
+        if (len == 0) {
+            return null;
+        }
+        final int zoneOffset = _parseOffset(ch, offset, offset+len, true);
+        if ((zoneOffset == OFFSET_INVALID) || (_offsetLength(zoneOffset) != len)) {
+            return null;
+        }
+        return zoneOffset(_offsetSeconds(zoneOffset));
+    }
+
+    /**
+     * Method for parsing {@link YearMonth} from the representation produced by
+     * {@link YearMonth#toString()} for 4-digit years ({@code yyyy-MM}).
+     *
+     * @return YearMonth parsed, if input was in supported format; {@code null} if not
+     */
+    public static YearMonth parseYearMonth(char[] ch, int offset, int len) {
+        if (len != 7) {
+            return null;
+        }
+        final int year = _parse4(ch, offset);
+        final int month = _parse2(ch, offset+5);
+        if ((year < 0) || (ch[offset+4] != '-') || (month < 1) || (month > 12)) {
+            return null;
+        }
+        return YearMonth.of(year, month);
+    }
+
+    public static YearMonth parseYearMonth(String str) {
+        return parseYearMonth(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link MonthDay} from the representation produced by
+     * {@link MonthDay#toString()} ({@code --MM-dd}).
+     *
+     * @return MonthDay parsed, if input was in supported format; {@code null} if not
+     */
+    public static MonthDay parseMonthDay(char[] ch, int offset, int len) {
+        if ((len != 7) || (ch[offset] != '-') || (ch[offset+1] != '-') || (ch[offset+4] != '-')) {
+            return null;
+        }
+        final int month = _parse2(ch, offset+2);
+        final int day = _parse2(ch, offset+5);
+        // Leap year, as February 29 is a valid MonthDay
+        if (!_isValidDate(2000, month, day)) {
+            return null;
+        }
+        return MonthDay.of(month, day);
+    }
+
+    public static MonthDay parseMonthDay(String str) {
+        return parseMonthDay(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link Duration} from any representation accepted by
+     * {@link Duration#parse}: {@code PnDTnHnMn.nS} with optional leading sign,
+     * optionally signed components (of which at least one is required), either
+     * case of letters and either dot or comma as decimal separator.
+     * Components with more than 18 digits and values that would overflow are
+     * not handled.
+     *
+     * @return Duration parsed, if input was in supported format; {@code null} if not
+     */
+    public static Duration parseDuration(char[] ch, int offset, int len)
+    {
+        final int end = offset + len;
+        int ptr = offset;
+        // shortest acceptable: "PT0S" or "P0D"
+        if (len < 3) {
+            return null;
+        }
+        final boolean negate = (ch[ptr] == '-');
+        if (negate || (ch[ptr] == '+')) {
+            ++ptr;
+        }
+        if (((ch[ptr] | 0x20) != 'p') || (++ptr == end)) {
+            return null;
+        }
+        long days = 0L;
+        long hours = 0L;
+        long minutes = 0L;
+        long seconds = 0L;
+        int nanos = 0;
+        // Units must come in order of 'D', 'T', 'H', 'M', 'S'; and each at most once
+        int unitIndex = 0;
+        while (ptr < end) {
+            if ((ch[ptr] | 0x20) == 't') {
+                // and 'T' must be followed by at least one component
+                if ((unitIndex > 1) || (++ptr == end)) {
+                    return null;
+                }
+                unitIndex = 2;
+                continue;
+            }
+            final boolean negative = (ch[ptr] == '-');
+            if (negative || (ch[ptr] == '+')) {
+                ++ptr;
+            }
+            final int numStart = ptr;
+            long value = 0L;
+            for (; ptr < end; ++ptr) {
+                int d = ch[ptr] - '0';
+                if ((d < 0) || (d > 9)) {
+                    break;
+                }
+                value = (value * 10) + d;
+            }
+            final int digits = ptr - numStart;
+            // 18 digits can not overflow
+            if ((digits == 0) || (digits > 18) || (ptr == end)) {
+                return null;
+            }
+            if (negative) {
+                value = -value;
+            }
+            final char unit = ch[ptr++];
+            switch (unit) {
+            case 'D': case 'd':
+                if (unitIndex != 0) {
+                    return null;
+                }
+                days = value;
+                unitIndex = 1;
+                break;
+            case 'H': case 'h':
+                if (unitIndex != 2) {
+                    return null;
+                }
+                hours = value;
+                unitIndex = 3;
+                break;
+            case 'M': case 'm':
+                if ((unitIndex < 2) || (unitIndex > 3)) {
+                    return null;
+                }
+                minutes = value;
+                unitIndex = 4;
+                break;
+            case 'S': case 's': case '.': case ',':
+                if ((unitIndex < 2) || (unitIndex > 4)) {
+                    return null;
+                }
+                if ((unit == '.') || (unit == ',')) {
+                    // 0 to 9 fractional digits
+                    final int fractStart = ptr;
+                    final int fractEnd = Math.min(end, fractStart + 9);
+                    for (; ptr < fractEnd; ++ptr) {
+                        int d = ch[ptr] - '0';
+                        if ((d < 0) || (d > 9)) {
+                            break;
+                        }
+                        nanos = (nanos * 10) + d;
+                    }
+                    if ((ptr == end) || ((ch[ptr] | 0x20) != 's')) {
+                        return null;
+                    }
+                    nanos *= FRACTION_SCALE[ptr - fractStart];
+                    ++ptr;
+                    // As with `Duration.parse()`, sign of seconds applies to fraction too
+                    if (negative) {
+                        nanos = -nanos;
+                    }
+                }
+                seconds = value;
+                unitIndex = 5;
+                break;
+            default:
+                return null;
+            }
+        }
+        try {
+            // Same order of operations as with `Duration.parse()`, to overflow the same way
+            long totalSecs = Math.addExact(Math.multiplyExact(days, 86400L),
+                    Math.addExact(Math.multiplyExact(hours, 3600L),
+                            Math.addExact(Math.multiplyExact(minutes, 60L), seconds)));
+            Duration d = Duration.ofSeconds(totalSecs, nanos);
+            return negate ? d.negated() : d;
+        } catch (ArithmeticException e) { // let `Duration.parse()` report the problem
+            return null;
+        }
+    }
+
+    public static Duration parseDuration(String str) {
+        return parseDuration(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Method for parsing {@link Period} from any representation accepted by
+     * {@link Period#parse}: {@code PnYnMnWnD} with optional leading sign,
+     * optionally signed components (of which at least one is required) and
+     * either case of letters. Components with more than 9 digits and values
+     * that would overflow are not handled.
+     *
+     * @return Period parsed, if input was in supported format; {@code null} if not
+     */
+    public static Period parsePeriod(char[] ch, int offset, int len)
+    {
+        final int end = offset + len;
+        int ptr = offset;
+        // shortest acceptable: "P0D"
+        if (len < 3) {
+            return null;
+        }
+        final boolean negate = (ch[ptr] == '-');
+        if (negate || (ch[ptr] == '+')) {
+            ++ptr;
+        }
+        if (((ch[ptr] | 0x20) != 'p') || (++ptr == end)) {
+            return null;
+        }
+        int years = 0;
+        int months = 0;
+        int weeks = 0;
+        int days = 0;
+        // Units must come in order of 'Y', 'M', 'W', 'D'; and each at most once
+        int unitIndex = 0;
+        while (ptr < end) {
+            final boolean negative = (ch[ptr] == '-');
+            if (negative || (ch[ptr] == '+')) {
+                ++ptr;
+            }
+            final int numStart = ptr;
+            int value = 0;
+            for (; ptr < end; ++ptr) {
+                int d = ch[ptr] - '0';
+                if ((d < 0) || (d > 9)) {
+                    break;
+                }
+                value = (value * 10) + d;
+            }
+            final int digits = ptr - numStart;
+            // 9 digits can not overflow
+            if ((digits == 0) || (digits > 9) || (ptr == end)) {
+                return null;
+            }
+            if (negative != negate) {
+                value = -value;
+            }
+            switch (ch[ptr++]) {
+            case 'Y': case 'y':
+                if (unitIndex > 0) {
+                    return null;
+                }
+                years = value;
+                unitIndex = 1;
+                break;
+            case 'M': case 'm':
+                if (unitIndex > 1) {
+                    return null;
+                }
+                months = value;
+                unitIndex = 2;
+                break;
+            case 'W': case 'w':
+                if (unitIndex > 2) {
+                    return null;
+                }
+                weeks = value;
+                unitIndex = 3;
+                break;
+            case 'D': case 'd':
+                if (unitIndex > 3) {
+                    return null;
+                }
+                days = value;
+                unitIndex = 4;
+                break;
+            default:
+                return null;
+            }
+        }
+        try {
+            return Period.of(years, months, Math.addExact(days, Math.multiplyExact(weeks, 7)));
+        } catch (ArithmeticException e) { // let `Period.parse()` report the problem
+            return null;
+        }
+    }
+
+    public static Period parsePeriod(String str) {
+        return parsePeriod(charsOf(str), 0, str.length());
+    }
+
+    /**
+     * Accessor for canonical {@link ZoneOffset} instance for given total offset
+     * in seconds. Caller is expected to have validated the range.
+     */
+    public static ZoneOffset zoneOffset(int totalSeconds) {
+        if ((totalSeconds % 900) == 0) {
+            return QUARTER_HOUR_OFFSETS[totalSeconds / 900 + (18 * 4)];
+        }
+        return ZoneOffset.ofTotalSeconds(totalSeconds);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    // Single pass over "yyyy-MM-ddTHH:mm[:ss[.fffffffff]]<offset>[\[zone\]]"
+    private static Object _parseDateTime(char[] ch, final int start, final int len, final int kind)
+    {
+        // shortest acceptable: "yyyy-MM-ddTHH:mmZ"
+        if (len < 17) {
+            return null;
+        }
+        final int end = start + len;
+        final int date = _parseDate(ch, start);
+        if ((date < 0) || (ch[start+10] != 'T')) {
+            return null;
+        }
+        // seconds are mandatory for Instant
+        final long time = _parseTime(ch, start+11, end, kind == KIND_INSTANT);
+        if (time < 0L) {
+            return null;
+        }
+        int ptr = start + 11 + _timeLength(time);
+        if (ptr == end) {
+            return null;
+        }
+        final int offset = _parseOffset(ch, ptr, end, true);
+        if (offset == OFFSET_INVALID) {
+            return null;
+        }
+        final char offsetSign = ch[ptr];
+        ptr += _offsetLength(offset);
+        final int offsetSecs = _offsetSeconds(offset);
+
+        if (kind == KIND_INSTANT) {
+            // Only zero offsets are aliases for "Z"; handling of anything else
+            // by `ISO_INSTANT` varies by JDK version
+            if ((offsetSecs != 0) || (offsetSign == '-') || (ptr != end)) {
+                return null;
+            }
+            final long nanoOfDay = _nanoOfDay(time);
+            long epochSecond = (_epochDay(_year(date), _month(date), _day(date)) * SECONDS_PER_DAY)
+                    + (nanoOfDay / NANOS_PER_SECOND);
+            return Instant.ofEpochSecond(epochSecond, nanoOfDay % NANOS_PER_SECOND);
+        }
+        final ZoneOffset zoneOffset = zoneOffset(offsetSecs);
+        final LocalDateTime dateTime = LocalDateTime.of(_localDate(date), _localTime(time));
+        if (ptr == end) {
+            if (kind == KIND_OFFSET_DATE_TIME) {
+                return OffsetDateTime.of(dateTime, zoneOffset);
+            }
+            return ZonedDateTime.of(dateTime, zoneOffset);
+        }
+        // Only ZonedDateTime may have trailing zone id, within brackets
+        if ((kind != KIND_ZONED_DATE_TIME) || (ch[ptr] != '[') || (ch[end-1] != ']')) {
+            return null;
+        }
+        ZoneId zone = _parseZoneId(ch, ptr+1, end-1);
+        if (zone == null) {
+            return null;
+        }
+        // Same as resolution by `ZonedDateTime.from()`: offset determines instant,
+        // which is then expressed in the zone
+        return ZonedDateTime.ofInstant(dateTime, zoneOffset, zone);
+    }
+
+    /**
+     * Helper method for parsing "yyyy-MM-dd" starting at given offset; caller must
+     * ensure there are at least 10 characters available.
+     *
+     * @return Date fields packed in an int (see {@link #_year}, {@link #_month},
+     *    {@link #_day}) if valid; -1 if not
+     */
+    static int _parseDate(char[] ch, int ix)
+    {
+        final int year = _parse4(ch, ix);
+        final int month = _parse2(ch, ix+5);
+        final int day = _parse2(ch, ix+8);
+        if ((year < 0) || (ch[ix+4] != '-') || (ch[ix+7] != '-')
+                || !_isValidDate(year, month, day)) {
+            return -1;
+        }
+        return (year << 9) | (month << 5) | day;
+    }
+
+    static int _year(int date) { return date >> 9; }
+    static int _month(int date) { return (date >> 5) & 0xF; }
+    static int _day(int date) { return date & 0x1F; }
+
+    static LocalDate _localDate(int date) {
+        return LocalDate.of(_year(date), _month(date), _day(date));
+    }
+
+    /**
+     * Helper method for parsing "HH:mm[:ss[.fffffffff]]" starting at given offset,
+     * up to (but not necessarily all the way to) given end offset.
+     *
+     * @return Nano-of-day and number of characters consumed, packed in a long
+     *    (see {@link #_nanoOfDay}, {@link #_timeLength}) if valid; -1 if not
+     */
+    static long _parseTime(char[] ch, int ptr, final int end, boolean requireSeconds)
+    {
+        final int start = ptr;
+        if (ptr + 5 > end) {
+            return -1L;
+        }
+        final int hour = _parse2(ch, ptr);
+        final int minute = _parse2(ch, ptr+3);
+        if ((hour < 0) || (hour > 23) || (ch[ptr+2] != ':') || (minute < 0) || (minute > 59)) {
+            return -1L;
+        }
+        ptr += 5;
+        int second = 0;
+        int nanos = 0;
+        if ((ptr < end) && (ch[ptr] == ':')) {
+            if (ptr + 3 > end) {
+                return -1L;
+            }
+            second = _parse2(ch, ptr+1);
+            if ((second < 0) || (second > 59)) {
+                return -1L;
+            }
+            ptr += 3;
+            if ((ptr < end) && (ch[ptr] == '.')) {
+                final int fractStart = ++ptr;
+                final int fractEnd = Math.min(end, fractStart + 9);
+                for (; ptr < fractEnd; ++ptr) {
+                    int d = ch[ptr] - '0';
+                    if ((d < 0) || (d > 9)) {
+                        break;
+                    }
+                    nanos = (nanos * 10) + d;
+                }
+                final int digits = ptr - fractStart;
+                // Neither empty fraction nor more than 9 digits allowed
+                if ((digits == 0)
+                        || ((ptr < end) && (ch[ptr] >= '0') && (ch[ptr] <= '9'))) {
+                    return -1L;
+                }
+                nanos *= FRACTION_SCALE[digits];
+            }
+        } else if (requireSeconds) {
+            return -1L;
+        }
+        long nanoOfDay = (((hour * 3600) + (minute * 60) + second) * NANOS_PER_SECOND) + nanos;
+        return (nanoOfDay << 8) | (ptr - start);
+    }
+
+    static long _nanoOfDay(long time) { return time >>> 8; }
+    static int _timeLength(long time) { return (int) (time & 0xFF); }
+
+    static LocalTime _localTime(long time) {
+        return LocalTime.ofNanoOfDay(_nanoOfDay(time));
+    }
+
+    /**
+     * Helper method for parsing offset starting at given offset: either "Z"
+     * or "+HH:MM"; and if {@code lenient}, also "+HH" and "+HHMM".
+     * Parsing stops at the end of the offset, which need not be the end of input.
+     *
+     * @return Offset in seconds and number of characters consumed, packed in
+     *    an int (see {@link #_offsetSeconds}, {@link #_offsetLength}) if valid;
+     *    {@link #OFFSET_INVALID} if not
+     */
+    static int _parseOffset(char[] ch, int ptr, final int end, boolean lenient)
+    {
+        final char c = ch[ptr];
+        if (c == 'Z') {
+            return 1;
+        }
+        if (((c != '+') && (c != '-')) || (ptr + 3 > end)) {
+            return OFFSET_INVALID;
+        }
+        final int start = ptr;
+        final int hours = _parse2(ch, ptr+1);
+        int minutes = 0;
+        ptr += 3;
+        if ((ptr < end) && (ch[ptr] != '[')) {
+            if (ch[ptr] == ':') {
+                ++ptr;
+            } else if (!lenient) {
+                return OFFSET_INVALID;
+            }
+            if (ptr + 2 > end) {
+                return OFFSET_INVALID;
+            }
+            minutes = _parse2(ch, ptr);
+            ptr += 2;
+        } else if (!lenient) {
+            return OFFSET_INVALID;
+        }
+        if ((hours < 0) || (minutes < 0) || (minutes > 59)
+                || (hours > 18) || ((hours == 18) && (minutes > 0))) {
+            return OFFSET_INVALID;
+        }
+        int secs = (hours * 3600) + (minutes * 60);
+        if (c == '-') {
+            secs = -secs;
+        }
+        return (secs << 8) | (ptr - start);
+    }
+
+    static int _offsetSeconds(int offset) { return offset >> 8; }
+    static int _offsetLength(int offset) { return offset & 0xFF; }
+
+    private static ZoneId _parseZoneId(char[] ch, int start, int end)
+    {
+        if (start >= end) {
+            return null;
+        }
+        for (int i = start; i < end; ++i) {
+            char c = ch[i];
+            if (!(((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z'))
+                    || ((c >= '0') && (c <= '9'))
+                    || (c == '/') || (c == '_') || (c == '+') || (c == '-'))) {
+                return null;
+            }
+        }
+        try {
+            return ZoneIdCache.sharedInstance().zoneIdOf(new String(ch, start, end - start));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return Value of 2 digits at given offset, if both are digits; -1 if not
+     */
+    static int _parse2(char[] ch, int ix) {
+        int d1 = ch[ix] - '0';
+        int d2 = ch[ix+1] - '0';
+        if ((d1 < 0) || (d1 > 9) || (d2 < 0) || (d2 > 9)) {
+            return -1;
+        }
+        return (d1 * 10) + d2;
+    }
+
+    /**
+     * @return Value of 4 digits at given offset, if all are digits; -1 if not
+     */
+    static int _parse4(char[] ch, int ix) {
+        int hi = _parse2(ch, ix);
+        int lo = _parse2(ch, ix+2);
+        if ((hi < 0) || (lo < 0)) {
+            return -1;
+        }
+        return (hi * 100) + lo;
+    }
+
+    static boolean _isLeapYear(int year) {
+        return ((year & 3) == 0) && (((year % 100) != 0) || ((year % 400) == 0));
+    }
+
+    static boolean _isValidDate(int year, int month, int day) {
+        if ((month < 1) || (month > 12) || (day < 1)) {
+            return false;
+        }
+        if (day <= 28) {
+            return true;
+        }
+        switch (month) {
+        case 2:
+            return day <= (_isLeapYear(year) ? 29 : 28);
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return day <= 30;
+        default:
+            return day <= 31;
+        }
+    }
+
+    // Same calculation as `LocalDate.toEpochDay()`, for non-negative years
+    static long _epochDay(int year, int month, int day) {
+        long y = year;
+        long total = (365 * y) + ((y + 3) / 4) - ((y + 99) / 100) + ((y + 399) / 400)
+                + (((367 * month) - 362) / 12) + (day - 1);
+        if (month > 2) {
+            --total;
+            if (!_isLeapYear(year)) {
+                --total;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -0,0 +1,576 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.util.LRUMap;
+import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+
+/**
+ * Helper class that contains methods for writing date/time values directly
+ * into {@code char[]} buffers and {@link JsonGenerator}s, without
+ * intermediate {@link String}s or {@link BigDecimal}s.
+ *<p>
+ * NOTE: internal class, not considered part of public API.
+ *
+ * @since 2.20
+ */
+public final class DateTimeOutput
+{
+    /**
+     * Length of per-thread buffers used for writing: enough for all
+     * values written.
+     */
+    final static int BUFFER_LENGTH = 100;
+
+    // Generators copy contents passed so buffers can be reused for all calls
+    private final static ThreadLocal<char[]> _buffers =
+            ThreadLocal.withInitial(() -> new char[BUFFER_LENGTH]);
+
+    /**
+     * Length of per-thread {@code int} buffers: enough for all components
+     * of values written as arrays.
+     */
+    final static int INT_BUFFER_LENGTH = 8;
+
+    private final static ThreadLocal<int[]> _intBuffers =
+            ThreadLocal.withInitial(() -> new int[INT_BUFFER_LENGTH]);
+
+    private final static long SECONDS_PER_DAY = 86400L;
+
+    // Range of epoch seconds for years 0000 - 9999 (inclusive), which
+    // default ISO-8601 formats write without sign
+    private final static long MIN_SECOND_4_DIGIT_YEAR = -62167219200L;
+    private final static long MAX_SECOND_4_DIGIT_YEAR = 253402300799L;
+
+    private final static int MAX_CACHED_ZONE_IDS = 1000;
+
+    private final static LRUMap<ZoneId, char[]> _bracketedZoneIds =
+            new LRUMap<>(16, MAX_CACHED_ZONE_IDS);
+
+    private DateTimeOutput() { }
+
+    /**
+     * Accessor for per-thread buffer (of {@link #BUFFER_LENGTH} characters)
+     * that may be used for writing a single value: contents are only valid
+     * until the next call from same thread.
+     */
+    public static char[] buffer() {
+        return _buffers.get();
+    }
+
+    /**
+     * Accessor for per-thread {@code int} buffer (of {@link #INT_BUFFER_LENGTH}
+     * elements) that may be used for collecting components of a single value
+     * written as array: contents are only valid until the next call from same thread.
+     */
+    public static int[] intBuffer() {
+        return _intBuffers.get();
+    }
+
+    /**
+     * Alternative to {@link #buffer()} for callers that need buffer of at least
+     * given length: per-thread buffer is returned if long enough; otherwise
+     * a new one is allocated.
+     */
+    public static char[] buffer(int minLength) {
+        return (minLength <= BUFFER_LENGTH) ? _buffers.get() : new char[minLength];
+    }
+
+    /*
+    /**********************************************************************
+    /* ISO-8601 date/time values
+    /**********************************************************************
+     */
+
+    /**
+     * Method for appending {@link java.time.Instant} with given epoch seconds and
+     * nanoseconds, in format identical to that of {@code Instant.toString()}
+     * (and {@link java.time.format.DateTimeFormatter#ISO_INSTANT}).
+     *
+     * @return Offset after the last character appended; or -1 if the year is
+     *    outside of range 0000 - 9999 (in which case nothing is appended)
+     */
+    public static int appendInstant(char[] buffer, int offset, long epochSecond, int nanos)
+    {
+        if ((epochSecond < MIN_SECOND_4_DIGIT_YEAR) || (epochSecond > MAX_SECOND_4_DIGIT_YEAR)) {
+            return -1;
+        }
+        final long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        int ix = _appendEpochDay(buffer, offset, epochDay);
+        buffer[ix++] = 'T';
+        ix = _appendTime(buffer, ix, secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60);
+        if (nanos > 0) {
+            buffer[ix++] = '.';
+            // Instant uses groups of 3 digits
+            if ((nanos % 1_000_000) == 0) {
+                ix = appendPadded(buffer, ix, nanos / 1_000_000, 3);
+            } else if ((nanos % 1000) == 0) {
+                ix = appendPadded(buffer, ix, nanos / 1000, 6);
+            } else {
+                ix = appendPadded(buffer, ix, nanos, 9);
+            }
+        }
+        buffer[ix++] = 'Z';
+        return ix;
+    }
+
+    /**
+     * Method for appending date-time with offset, in format identical to that of
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @return Offset after the last character appended; or -1 if the year is
+     *    outside of range 0000 - 9999 (in which case nothing is appended)
+     */
+    public static int appendOffsetDateTime(char[] buffer, int offset,
+            LocalDateTime dateTime, ZoneOffset zoneOffset)
+    {
+        int ix = appendLocalDateTime(buffer, offset, dateTime);
+        if (ix < 0) {
+            return -1;
+        }
+        return appendZoneOffset(buffer, ix, zoneOffset);
+    }
+
+    /**
+     * Method for appending date-time with offset and zone id, in format identical
+     * to that of {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME}:
+     * that is, same as {@link #appendOffsetDateTime} followed by bracketed zone
+     * id, unless zone is a {@link ZoneOffset}.
+     *
+     * @return Offset after the last character appended; or -1 if the year is
+     *    outside of range 0000 - 9999, or if value does not fit in the buffer
+     *    (in which case contents of the buffer are undefined)
+     */
+    public static int appendZonedDateTime(char[] buffer, int offset,
+            LocalDateTime dateTime, ZoneOffset zoneOffset, ZoneId zone)
+    {
+        int ix = appendOffsetDateTime(buffer, offset, dateTime, zoneOffset);
+        if ((ix < 0) || (zone instanceof ZoneOffset)) {
+            return ix;
+        }
+        final char[] zoneId = bracketedZoneId(zone);
+        if ((ix + zoneId.length) > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(zoneId, 0, buffer, ix, zoneId.length);
+        return ix + zoneId.length;
+    }
+
+    /**
+     * Accessor for id of given zone, surrounded by brackets (like
+     * {@code [Europe/Paris]}): since zone ids used are usually few, these are
+     * cached.
+     *<p>
+     * NOTE: returned array is shared and must not be modified.
+     */
+    public static char[] bracketedZoneId(ZoneId zone)
+    {
+        char[] result = _bracketedZoneIds.get(zone);
+        if (result == null) {
+            final String id = zone.getId();
+            final int len = id.length();
+            result = new char[len + 2];
+            result[0] = '[';
+            id.getChars(0, len, result, 1);
+            result[len + 1] = ']';
+            _bracketedZoneIds.put(zone, result);
+        }
+        return result;
+    }
+
+    /**
+     * Method for appending date-time, in format identical to that of
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     *
+     * @return Offset after the last character appended; or -1 if the year is
+     *    outside of range 0000 - 9999 (in which case nothing is appended)
+     */
+    public static int appendLocalDateTime(char[] buffer, int offset, LocalDateTime dateTime)
+    {
+        int ix = appendLocalDate(buffer, offset, dateTime.toLocalDate());
+        if (ix < 0) {
+            return -1;
+        }
+        buffer[ix++] = 'T';
+        return appendLocalTime(buffer, ix, dateTime.toLocalTime());
+    }
+
+    /**
+     * Method for appending date, in format identical to that of
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}.
+     *
+     * @return Offset after the last character appended; or -1 if the year is
+     *    outside of range 0000 - 9999 (in which case nothing is appended)
+     */
+    public static int appendLocalDate(char[] buffer, int offset, LocalDate date)
+    {
+        final int year = date.getYear();
+        if ((year < 0) || (year > 9999)) {
+            return -1;
+        }
+        return _appendDate(buffer, offset, year, date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Method for appending time, in format identical to that of
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_TIME}: that is,
+     * seconds are always included, and fraction (if any) without trailing zeroes.
+     *
+     * @return Offset after the last character appended
+     */
+    public static int appendLocalTime(char[] buffer, int offset, LocalTime time)
+    {
+        int ix = _appendTime(buffer, offset, time.getHour(), time.getMinute(), time.getSecond());
+        int nanos = time.getNano();
+        if (nanos > 0) {
+            buffer[ix++] = '.';
+            int digits = 9;
+            while ((nanos % 10) == 0) {
+                nanos /= 10;
+                --digits;
+            }
+            ix = appendPadded(buffer, ix, nanos, digits);
+        }
+        return ix;
+    }
+
+    /**
+     * Method for appending offset in format of {@link ZoneOffset#getId()}
+     * (same as used by ISO-8601 formatters): either {@code Z} or {@code +HH:MM},
+     * with optional {@code :ss}.
+     *
+     * @return Offset after the last character appended
+     */
+    public static int appendZoneOffset(char[] buffer, int offset, ZoneOffset zoneOffset)
+    {
+        final String id = zoneOffset.getId();
+        final int len = id.length();
+        id.getChars(0, len, buffer, offset);
+        return offset + len;
+    }
+
+    private static int _appendEpochDay(char[] buffer, int offset, long epochDay)
+    {
+        // Conversion from days to civil date, see "chrono-Compatible Low-Level
+        // Date Algorithms" by Howard Hinnant; years start from March
+        final long zeroDay = epochDay + 719468L;
+        final long era = Math.floorDiv(zeroDay, 146097L);
+        final int dayOfEra = (int) (zeroDay - era * 146097L);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int mp = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        final int month = (mp < 10) ? (mp + 3) : (mp - 9);
+        final int year = (int) (yearOfEra + era * 400L) + ((month <= 2) ? 1 : 0);
+        return _appendDate(buffer, offset, year, month, day);
+    }
+
+    private static int _appendDate(char[] buffer, int offset, int year, int month, int day)
+    {
+        int ix = appendPadded(buffer, offset, year, 4);
+        buffer[ix++] = '-';
+        ix = _append2(buffer, ix, month);
+        buffer[ix++] = '-';
+        return _append2(buffer, ix, day);
+    }
+
+    private static int _appendTime(char[] buffer, int offset, int hour, int minute, int second)
+    {
+        int ix = _append2(buffer, offset, hour);
+        buffer[ix++] = ':';
+        ix = _append2(buffer, ix, minute);
+        buffer[ix++] = ':';
+        return _append2(buffer, ix, second);
+    }
+
+    private static int _append2(char[] buffer, int offset, int value)
+    {
+        buffer[offset] = (char) ('0' + (value / 10));
+        buffer[offset+1] = (char) ('0' + (value % 10));
+        return offset+2;
+    }
+
+    /*
+    /**********************************************************************
+    /* ISO-8601 durations
+    /**********************************************************************
+     */
+
+    /**
+     * Method for appending {@link Duration} in format identical to that of
+     * {@link Duration#toString()}, like {@code PT8H6M12.345S}.
+     *
+     * @return Offset after the last character appended
+     */
+    public static int appendDuration(char[] buffer, int offset, Duration duration)
+    {
+        final long seconds = duration.getSeconds();
+        final int nanos = duration.getNano();
+        int ix = offset;
+        buffer[ix++] = 'P';
+        buffer[ix++] = 'T';
+        if ((seconds == 0L) && (nanos == 0)) {
+            buffer[ix++] = '0';
+            buffer[ix++] = 'S';
+            return ix;
+        }
+        // As with `Duration.toString()`, negative values with fraction are written
+        // using negative whole seconds and fraction
+        final boolean negativeFraction = (seconds < 0L) && (nanos > 0);
+        final long effectiveSeconds = negativeFraction ? (seconds + 1L) : seconds;
+        final long hours = effectiveSeconds / 3600L;
+        final int minutes = (int) ((effectiveSeconds % 3600L) / 60L);
+        final int secs = (int) (effectiveSeconds % 60L);
+        if (hours != 0L) {
+            ix = appendLong(buffer, ix, hours);
+            buffer[ix++] = 'H';
+        }
+        if (minutes != 0) {
+            ix = appendLong(buffer, ix, minutes);
+            buffer[ix++] = 'M';
+        }
+        if ((secs == 0) && (nanos == 0) && (ix > offset + 2)) {
+            return ix;
+        }
+        if (negativeFraction && (secs == 0)) {
+            buffer[ix++] = '-';
+            buffer[ix++] = '0';
+        } else {
+            ix = appendLong(buffer, ix, secs);
+        }
+        if (nanos > 0) {
+            buffer[ix++] = '.';
+            ix = appendPadded(buffer, ix, negativeFraction ? (1_000_000_000 - nanos) : nanos, 9);
+            while (buffer[ix-1] == '0') {
+                --ix;
+            }
+        }
+        buffer[ix++] = 'S';
+        return ix;
+    }
+
+    /**
+     * Method for appending {@link Period} in format identical to that of
+     * {@link Period#toString()}, like {@code P1Y2M3D}.
+     *
+     * @return Offset after the last character appended
+     */
+    public static int appendPeriod(char[] buffer, int offset, Period period)
+    {
+        final int years = period.getYears();
+        final int months = period.getMonths();
+        final int days = period.getDays();
+        int ix = offset;
+        buffer[ix++] = 'P';
+        if ((years | months | days) == 0) {
+            buffer[ix++] = '0';
+            buffer[ix++] = 'D';
+            return ix;
+        }
+        if (years != 0) {
+            ix = appendLong(buffer, ix, years);
+            buffer[ix++] = 'Y';
+        }
+        if (months != 0) {
+            ix = appendLong(buffer, ix, months);
+            buffer[ix++] = 'M';
+        }
+        if (days != 0) {
+            ix = appendLong(buffer, ix, days);
+            buffer[ix++] = 'D';
+        }
+        return ix;
+    }
+
+    /*
+    /**********************************************************************
+    /* Decimal timestamps
+    /**********************************************************************
+     */
+
+    /**
+     * Method for writing given seconds and nanoseconds as a decimal number,
+     * with output identical to that of
+     * {@code g.writeNumber(DecimalUtils.toBigDecimal(seconds, nanoseconds))}
+     * (negated, if {@code negate} is true).
+     *<p>
+     * Textual representation is written directly for generators that accept
+     * number text (see {@link JsonGenerator#canWriteFormattedNumbers()}, as well as
+     * all JSON generators); others
+     * (binary formats, {@link com.fasterxml.jackson.databind.util.TokenBuffer})
+     * retain {@link BigDecimal} values as-is, so they are given one.
+     */
+    public static void writeDecimal(JsonGenerator g, long seconds, int nanoseconds,
+            boolean negate) throws IOException
+    {
+        if (!_acceptsNumberText(g) || !_isPlainDecimal(seconds, nanoseconds)) {
+            BigDecimal bd = DecimalUtils.toBigDecimal(seconds, nanoseconds);
+            g.writeNumber(negate ? bd.negate() : bd);
+            return;
+        }
+        final char[] buffer = _buffers.get();
+        int ix = 0;
+        // "-0.0" would not be produced by negating BigDecimal
+        if (negate && (seconds != 0L || nanoseconds != 0)) {
+            buffer[ix++] = '-';
+        }
+        g.writeNumber(buffer, 0, appendDecimal(buffer, ix, seconds, nanoseconds));
+    }
+
+    /**
+     * Alternative to {@link #writeDecimal(JsonGenerator, long, int, boolean)} that
+     * writes given number of fractional digits (truncating nanoseconds if
+     * necessary), or, if {@code fractionDigits} is 0, as few digits as possible
+     * (but at least one). Value is always written in plain (non-scientific)
+     * notation.
+     */
+    public static void writeDecimal(JsonGenerator g, long seconds, int nanoseconds,
+            boolean negate, int fractionDigits) throws IOException
+    {
+        final char[] buffer = _buffers.get();
+        int ix = 0;
+        if (negate && (seconds != 0L || nanoseconds != 0)) {
+            buffer[ix++] = '-';
+        }
+        final int end = appendDecimal(buffer, ix, seconds, nanoseconds, fractionDigits);
+        if (_acceptsNumberText(g)) {
+            g.writeNumber(buffer, 0, end);
+        } else {
+            g.writeNumber(new BigDecimal(buffer, 0, end));
+        }
+    }
+
+    // JSON generators all accept number text, even if the UTF-8 one does not
+    // report it with `canWriteFormattedNumbers()`
+    private static boolean _acceptsNumberText(JsonGenerator g) {
+        return g.canWriteFormattedNumbers() || (g instanceof JsonGeneratorImpl);
+    }
+
+    /**
+     * Method that produces same {@link String} as
+     * {@code DecimalUtils.toBigDecimal(seconds, nanoseconds).toString()}.
+     */
+    public static String toDecimalString(long seconds, int nanoseconds)
+    {
+        if (!_isPlainDecimal(seconds, nanoseconds)) {
+            return DecimalUtils.toBigDecimal(seconds, nanoseconds).toString();
+        }
+        final char[] buffer = _buffers.get();
+        return new String(buffer, 0, appendDecimal(buffer, 0, seconds, nanoseconds));
+    }
+
+    /**
+     * Method for appending seconds and nanoseconds in format produced by
+     * {@link DecimalUtils#toDecimal}: that is, {@code seconds} followed by
+     * a period and 9 digits of nanoseconds (or just {@code "0.0"} for zero).
+     *
+     * @return Offset after the last character appended
+     */
+    public static int appendDecimal(char[] buffer, int offset, long seconds, int nanoseconds)
+    {
+        if (seconds == 0L && nanoseconds == 0) {
+            buffer[offset] = '0';
+            buffer[offset+1] = '.';
+            buffer[offset+2] = '0';
+            return offset+3;
+        }
+        int ix = appendLong(buffer, offset, seconds);
+        buffer[ix++] = '.';
+        return appendPadded(buffer, ix, nanoseconds, 9);
+    }
+
+    /**
+     * Alternative to {@link #appendDecimal(char[], int, long, int)} that appends
+     * given number of fractional digits (truncating nanoseconds if necessary),
+     * or, if {@code fractionDigits} is 0, as few digits as possible (but at
+     * least one).
+     *
+     * @return Offset after the last character appended
+     */
+    public static int appendDecimal(char[] buffer, int offset, long seconds, int nanoseconds,
+            int fractionDigits)
+    {
+        int ix = appendLong(buffer, offset, seconds);
+        buffer[ix++] = '.';
+        if (fractionDigits > 0) {
+            for (int i = fractionDigits; i < 9; ++i) {
+                nanoseconds /= 10;
+            }
+            return appendPadded(buffer, ix, nanoseconds, fractionDigits);
+        }
+        if (nanoseconds == 0) {
+            buffer[ix] = '0';
+            return ix+1;
+        }
+        int digits = 9;
+        while ((nanoseconds % 10) == 0) {
+            nanoseconds /= 10;
+            --digits;
+        }
+        return appendPadded(buffer, ix, nanoseconds, digits);
+    }
+
+    // `BigDecimal.toString()` uses scientific notation when the (adjusted)
+    // exponent is below -6, which only occurs for fractions below 1e-6
+    private static boolean _isPlainDecimal(long seconds, int nanoseconds) {
+        return (seconds != 0L) || (nanoseconds == 0) || (nanoseconds >= 1000);
+    }
+
+    /*
+    /**********************************************************************
+    /* Numbers
+    /**********************************************************************
+     */
+
+    /**
+     * Method for appending decimal representation of given {@code long}
+     * (same as {@link Long#toString(long)}).
+     *
+     * @return Offset after the last character appended
+     */
+    public static int appendLong(char[] buffer, int offset, long value)
+    {
+        // Use negative values to also handle Long.MIN_VALUE
+        if (value < 0L) {
+            buffer[offset++] = '-';
+        } else {
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v <= -10L; v /= 10L) {
+            ++digits;
+        }
+        int ix = offset + digits;
+        do {
+            buffer[--ix] = (char) ('0' - (int) (value % 10L));
+            value /= 10L;
+        } while (value != 0L);
+        return offset + digits;
+    }
+
+    /**
+     * Method for appending non-negative {@code int} value with exactly
+     * given number of digits, padded with leading zeroes.
+     *
+     * @return Offset after the last character appended
+     */
+    public static int appendPadded(char[] buffer, int offset, int value, int digits)
+    {
+        for (int ix = offset + digits; --ix >= offset; ) {
+            buffer[ix] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+        return offset + digits;
+    }
+}
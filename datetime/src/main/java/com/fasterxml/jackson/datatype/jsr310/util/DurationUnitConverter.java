@@ -1,13 +1,17 @@
 package com.fasterxml.jackson.datatype.jsr310.util;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import static com.fasterxml.jackson.datatype.jsr310.util.DurationUnitConverter.DurationSerialization.deserializer;
 
 /**
@@ -20,41 +24,88 @@ import static com.fasterxml.jackson.datatype.jsr310.util.DurationUnitConverter.D
 public class DurationUnitConverter {
 
     protected static class DurationSerialization {
-        final Function<Duration, Long> serializer;
-        final Function<Long, Duration> deserializer;
+        // @since 2.20: primitive functions, to avoid boxing
+        final ToLongFunction<Duration> serializer;
+        final LongFunction<Duration> deserializer;
 
         DurationSerialization(
-                Function<Duration, Long> serializer,
-                Function<Long, Duration> deserializer) {
+                ToLongFunction<Duration> serializer,
+                LongFunction<Duration> deserializer) {
             this.serializer = serializer;
             this.deserializer = deserializer;
         }
 
-        static Function<Long, Duration> deserializer(TemporalUnit unit) {
+        static LongFunction<Duration> deserializer(TemporalUnit unit) {
             return v -> Duration.of(v, unit);
         }
     }
 
-    private final static Map<String, DurationSerialization> UNITS;
+    // Canonical instances (since 2.20), as converters are stateless
+    private final static Map<String, DurationUnitConverter> UNITS;
 
     static {
-        Map<String, DurationSerialization> units = new LinkedHashMap<>();
-        units.put(ChronoUnit.NANOS.name(), new DurationSerialization(Duration::toNanos, deserializer(ChronoUnit.NANOS)));
-        units.put(ChronoUnit.MICROS.name(), new DurationSerialization(d -> d.toNanos() / 1000, deserializer(ChronoUnit.MICROS)));
-        units.put(ChronoUnit.MILLIS.name(), new DurationSerialization(Duration::toMillis, deserializer(ChronoUnit.MILLIS)));
-        units.put(ChronoUnit.SECONDS.name(), new DurationSerialization(Duration::getSeconds, deserializer(ChronoUnit.SECONDS)));
-        units.put(ChronoUnit.MINUTES.name(), new DurationSerialization(Duration::toMinutes, deserializer(ChronoUnit.MINUTES)));
-        units.put(ChronoUnit.HOURS.name(), new DurationSerialization(Duration::toHours, deserializer(ChronoUnit.HOURS)));
-        units.put(ChronoUnit.HALF_DAYS.name(), new DurationSerialization(d -> d.toHours() / 12, deserializer(ChronoUnit.HALF_DAYS)));
-        units.put(ChronoUnit.DAYS.name(), new DurationSerialization(Duration::toDays, deserializer(ChronoUnit.DAYS)));
+        Map<String, DurationUnitConverter> units = new LinkedHashMap<>();
+        units.put(ChronoUnit.NANOS.name(), new DurationUnitConverter(
+                new DurationSerialization(Duration::toNanos, Duration::ofNanos), 0));
+        units.put(ChronoUnit.MICROS.name(), new DurationUnitConverter(
+                new DurationSerialization(DurationUnitConverter::toMicros, deserializer(ChronoUnit.MICROS)), 3));
+        units.put(ChronoUnit.MILLIS.name(), new DurationUnitConverter(
+                new DurationSerialization(Duration::toMillis, Duration::ofMillis), 6));
+        units.put(ChronoUnit.SECONDS.name(), new DurationUnitConverter(
+                new DurationSerialization(Duration::getSeconds, Duration::ofSeconds), 9));
+        units.put(ChronoUnit.MINUTES.name(), new DurationUnitConverter(
+                new DurationSerialization(Duration::toMinutes, Duration::ofMinutes), -1));
+        units.put(ChronoUnit.HOURS.name(), new DurationUnitConverter(
+                new DurationSerialization(Duration::toHours, Duration::ofHours), -1));
+        units.put(ChronoUnit.HALF_DAYS.name(), new DurationUnitConverter(
+                new DurationSerialization(d -> d.toHours() / 12, deserializer(ChronoUnit.HALF_DAYS)), -1));
+        units.put(ChronoUnit.DAYS.name(), new DurationUnitConverter(
+                new DurationSerialization(Duration::toDays, Duration::ofDays), -1));
         UNITS = units;
     }
 
+    private final static int[] POWERS_OF_TEN = new int[] {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
 
     final DurationSerialization serialization;
 
+    /**
+     * Number of fractional digits needed to express durations exactly as
+     * decimal number of units (like 9 for seconds); or -1 for units longer
+     * than a second, for which fractions are not supported.
+     */
+    private final int _fractionDigits;
+
+    /**
+     * Whether this converter converts to and from decimal numbers of units
+     * (instead of integers).
+     */
+    private final boolean _fractions;
+
+    /**
+     * Converter for same unit, but with (if this converter is without) or
+     * without (if this converter is with) fractions; {@code null} if fractions
+     * are not supported for the unit.
+     */
+    private final DurationUnitConverter _other;
+
     DurationUnitConverter(DurationSerialization serialization) {
+        this(serialization, -1);
+    }
+
+    private DurationUnitConverter(DurationSerialization serialization, int fractionDigits) {
         this.serialization = serialization;
+        _fractionDigits = fractionDigits;
+        _fractions = false;
+        _other = (fractionDigits < 0) ? null : new DurationUnitConverter(this);
+    }
+
+    private DurationUnitConverter(DurationUnitConverter base) {
+        serialization = base.serialization;
+        _fractionDigits = base._fractionDigits;
+        _fractions = true;
+        _other = base;
     }
 
     public Duration convert(long value) {
@@ -62,7 +113,95 @@ public class DurationUnitConverter {
     }
 
     public long convert(Duration duration) {
-        return serialization.serializer.apply(duration);
+        return serialization.serializer.applyAsLong(duration);
+    }
+
+    /**
+     * Accessor for converter for the same unit that converts to and from
+     * decimal numbers of units, like {@code 1.5} for 1500 milliseconds with
+     * unit of {@code SECONDS}.
+     *
+     * @return Converter with fractions, if supported for the unit (which
+     *    is the case for units up to {@code SECONDS}); {@code null} if not
+     *
+     * @since 2.20
+     */
+    public DurationUnitConverter withFractions() {
+        return _fractions ? this : _other;
+    }
+
+    /**
+     * @return Whether this converter converts to and from decimal numbers of units
+     *
+     * @since 2.20
+     */
+    public boolean hasFractions() {
+        return _fractions;
+    }
+
+    /**
+     * Method for converting decimal number of units, given as whole units and
+     * fraction in billionths of unit (sum of which is the value, so either
+     * may be negative), into duration. Fractions of nanoseconds are truncated.
+     *
+     * @since 2.20
+     */
+    public Duration convert(long units, int fraction) {
+        final Duration d = serialization.deserializer.apply(units);
+        if (_fractionDigits <= 0) {
+            return d;
+        }
+        return d.plusNanos(fraction / POWERS_OF_TEN[9 - _fractionDigits]);
+    }
+
+    /**
+     * Method for writing given duration as decimal number of units, with all
+     * fractional digits needed to express it exactly (or, if {@code shortest}
+     * is true, with as few digits as possible, but at least one).
+     *
+     * @throws ArithmeticException if whole units would overflow a {@code long}
+     *
+     * @since 2.20
+     */
+    public void writeDecimal(JsonGenerator g, Duration duration, boolean shortest)
+        throws IOException
+    {
+        long seconds = duration.getSeconds();
+        int nanos = duration.getNano();
+        final boolean negative = (seconds < 0L);
+        if (negative) { // same as `duration.abs()`, including overflow check
+            if (nanos == 0) {
+                seconds = Math.negateExact(seconds);
+            } else {
+                seconds = -(seconds + 1L);
+                nanos = 1_000_000_000 - nanos;
+            }
+        }
+        final int unitNanos = POWERS_OF_TEN[_fractionDigits];
+        final long units = Math.addExact(Math.multiplyExact(seconds, 1_000_000_000L / unitNanos),
+                nanos / unitNanos);
+        final int fraction = (nanos % unitNanos) * POWERS_OF_TEN[9 - _fractionDigits];
+        DateTimeOutput.writeDecimal(g, units, fraction, negative, shortest ? 0 : _fractionDigits);
+    }
+
+    /**
+     * Method for converting given duration into microseconds, truncating
+     * towards zero (same as {@code duration.toNanos() / 1000} but without
+     * overflowing for durations longer than about 292 years).
+     *
+     * @throws ArithmeticException if result would overflow a {@code long}
+     *
+     * @since 2.20
+     */
+    static long toMicros(Duration duration) {
+        long seconds = duration.getSeconds();
+        long micros = duration.getNano() / 1000;
+        // avoid overflow for the smallest values; and truncate towards zero
+        if ((seconds < 0L) && (duration.getNano() > 0)) {
+            seconds += 1L;
+            micros = -((1_000_000_000 - duration.getNano()) / 1000);
+        }
+        return Math.addExact(Math.multiplyExact(seconds, 1_000_000L), micros);
     }
 
     /**
@@ -75,8 +214,11 @@ public class DurationUnitConverter {
                 + "\"";
     }
 
+    /**
+     * @return Converter for unit with given name (like {@code "SECONDS"}), if any;
+     *    {@code null} if none. Since 2.20, instances are shared.
+     */
     public static DurationUnitConverter from(String unit) {
-        DurationSerialization def = UNITS.get(unit);
-        return (def == null) ? null : new DurationUnitConverter(def);
+        return UNITS.get(unit);
     }
 }
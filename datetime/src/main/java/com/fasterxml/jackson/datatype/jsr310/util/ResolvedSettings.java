@@ -0,0 +1,64 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+/**
+ * Helper methods for packing settings (bit flags) that a (de)serializer has
+ * resolved, along with the configuration inputs they were resolved from,
+ * into a single {@code long}: this allows retaining most recently resolved
+ * settings without retaining configuration objects themselves (which could
+ * keep mappers, and their class loaders, from being collected), and without
+ * allocating anything when configuration changes.
+ *<p>
+ * Configuration inputs are limited to a feature bitmask
+ * (like {@link com.fasterxml.jackson.databind.SerializationConfig#getSerializationFeatures()})
+ * and whether time zone has been explicitly set: settings may only depend on these
+ * (and on settings of (de)serializer itself).
+ *<p>
+ * NOTE: internal class, not considered part of public API.
+ *
+ * @since 2.20
+ */
+public final class ResolvedSettings
+{
+    /**
+     * Value that does not match any key, used as the initial value.
+     */
+    public final static long NONE = 0L;
+
+    private final static long VALID = 1L << 30;
+
+    private final static long EXPLICIT_TIME_ZONE = 1L << 31;
+
+    private final static long FLAGS_MASK = 0xFFFFL;
+
+    private ResolvedSettings() { }
+
+    /**
+     * @param featureMask Bitmask of enabled features of configuration
+     * @param explicitTimeZone Whether configuration has explicitly set time zone
+     *
+     * @return Key that represents given configuration inputs
+     */
+    public static long key(int featureMask, boolean explicitTimeZone) {
+        long key = (((long) featureMask) << 32) | VALID;
+        return explicitTimeZone ? (key | EXPLICIT_TIME_ZONE) : key;
+    }
+
+    /**
+     * @param key Key constructed with {@link #key}
+     * @param flags Settings resolved for key; only lowest 16 bits may be used
+     */
+    public static long pack(long key, int flags) {
+        return key | (flags & FLAGS_MASK);
+    }
+
+    /**
+     * @return Whether packed settings were resolved for given key
+     */
+    public static boolean isFor(long packed, long key) {
+        return (packed & ~FLAGS_MASK) == key;
+    }
+
+    public static int flags(long packed) {
+        return (int) (packed & FLAGS_MASK);
+    }
+}
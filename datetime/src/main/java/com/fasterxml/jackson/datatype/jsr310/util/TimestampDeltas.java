@@ -0,0 +1,101 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+
+/**
+ * Helper class for delta-encoded Collections and arrays of {@link Instant}s
+ * and {@link LocalDate}s, written as {@code [base, delta1, delta2, ...]}:
+ * converts values to and from integer timestamps in the unit of deltas
+ * (units of {@link TimestampPrecision} since epoch for {@link Instant}s,
+ * and epoch days for {@link LocalDate}s).
+ *<p>
+ * Delta encoding is enabled with {@link JsonFormat.Shape#ARRAY} and name of
+ * the unit as pattern: name of a {@link TimestampPrecision} for {@link Instant}s
+ * and {@link #UNIT_DAYS} for {@link LocalDate}s.
+ *<p>
+ * NOTE: internal class, not considered part of public API.
+ *
+ * @since 2.20
+ */
+public final class TimestampDeltas
+{
+    /**
+     * Name of the only unit supported for {@link LocalDate}s.
+     */
+    public final static String UNIT_DAYS = "DAYS";
+
+    private final static TimestampDeltas EPOCH_DAYS = new TimestampDeltas(null);
+
+    /**
+     * Unit of {@link Instant} timestamps; {@code null} for epoch days
+     */
+    private final TimestampPrecision _precision;
+
+    private TimestampDeltas(TimestampPrecision precision) {
+        _precision = precision;
+    }
+
+    /**
+     * @return Whether Collections and arrays of given element type may be delta-encoded
+     */
+    public static boolean isSupported(Class<?> elementType) {
+        return (elementType == Instant.class) || (elementType == LocalDate.class);
+    }
+
+    /**
+     * Method for checking whether given format enables delta encoding for
+     * elements of given type.
+     *
+     * @return Converter for elements, if delta encoding is enabled; {@code null} if not
+     */
+    public static TimestampDeltas forFormat(Class<?> elementType, JsonFormat.Value format)
+    {
+        if ((format == null) || (format.getShape() != JsonFormat.Shape.ARRAY)
+                || !format.hasPattern()) {
+            return null;
+        }
+        final String pattern = format.getPattern();
+        if (elementType == LocalDate.class) {
+            return UNIT_DAYS.equals(pattern) ? EPOCH_DAYS : null;
+        }
+        if (elementType == Instant.class) {
+            TimestampPrecision precision = TimestampPrecision.forPattern(pattern);
+            if (precision != null) {
+                return new TimestampDeltas(precision);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Integer timestamp of given element; for {@link Instant}s, truncated
+     *    to the unit
+     *
+     * @throws ArithmeticException if timestamp would overflow a {@code long}
+     */
+    public long toUnits(Object value) {
+        if (_precision == null) {
+            return ((LocalDate) value).toEpochDay();
+        }
+        final Instant instant = (Instant) value;
+        return _precision.toTimestamp(instant.getEpochSecond(), instant.getNano());
+    }
+
+    /**
+     * @return Element for given integer timestamp
+     *
+     * @throws DateTimeException if timestamp is out of range of element type
+     */
+    public Object fromUnits(long units) {
+        if (_precision == null) {
+            return LocalDate.ofEpochDay(units);
+        }
+        return Instant.ofEpochSecond(_precision.secondsOf(units), _precision.nanosOf(units));
+    }
+}
@@ -0,0 +1,122 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+/**
+ * Bounded, thread-safe cache of {@link ZoneId}s (including {@link ZoneOffset}s)
+ * resolved from textual zone ids, to avoid repeating prefix checks, region
+ * lookups and offset parsing for every value read: typically only few distinct
+ * zone ids occur, so nearly all lookups are hits. Zone ids are immutable so
+ * they may be freely shared; a single module-wide instance is accessed with
+ * {@link #sharedInstance()}.
+ *<p>
+ * Only successfully resolved ids are cached; least-recently used entries
+ * are evicted once maximum size is reached.
+ *<p>
+ * NOTE: internal class, not considered part of public API.
+ *
+ * @since 2.20
+ */
+public final class ZoneIdCache
+{
+    /**
+     * Default maximum number of zone ids to retain: well above number of
+     * distinct zones typical applications see.
+     */
+    public final static int DEFAULT_MAX_ENTRIES = 500;
+
+    private final static ZoneIdCache SHARED = new ZoneIdCache(DEFAULT_MAX_ENTRIES);
+
+    private final LRUMap<String, ZoneId> _zoneIds;
+
+    private final LongAdder _hits = new LongAdder();
+
+    private final LongAdder _misses = new LongAdder();
+
+    public ZoneIdCache(int maxEntries) {
+        _zoneIds = new LRUMap<>(Math.min(16, maxEntries), maxEntries);
+    }
+
+    /**
+     * Accessor for the module-wide cache instance that (de)serializers use.
+     */
+    public static ZoneIdCache sharedInstance() {
+        return SHARED;
+    }
+
+    /**
+     * @return Same as {@code ZoneId.of(id)}
+     *
+     * @throws DateTimeException if id is invalid or region is not found
+     */
+    public ZoneId zoneIdOf(String id)
+    {
+        ZoneId zoneId = _zoneIds.get(id);
+        if (zoneId != null) {
+            _hits.increment();
+            return zoneId;
+        }
+        _misses.increment();
+        return _cache(id, ZoneId.of(id));
+    }
+
+    /**
+     * @return Same as {@code ZoneOffset.of(id)}
+     *
+     * @throws DateTimeException if id is not a valid offset id
+     */
+    public ZoneOffset zoneOffsetOf(String id)
+    {
+        // Both methods resolve ids of offsets (and only those) to same
+        // offsets, so entries can be shared; but region ids need to fail
+        ZoneId zoneId = _zoneIds.get(id);
+        if (zoneId instanceof ZoneOffset) {
+            _hits.increment();
+            return (ZoneOffset) zoneId;
+        }
+        _misses.increment();
+        return (ZoneOffset) _cache(id, ZoneOffset.of(id));
+    }
+
+    /**
+     * @return Number of lookups that found a cached zone id
+     */
+    public long getHitCount() {
+        return _hits.sum();
+    }
+
+    /**
+     * @return Number of lookups that had to resolve zone id
+     */
+    public long getMissCount() {
+        return _misses.sum();
+    }
+
+    /**
+     * @return Number of zone ids currently cached
+     */
+    public int size() {
+        return _zoneIds.size();
+    }
+
+    /**
+     * Method for removing all cached zone ids and resetting statistics.
+     */
+    public void clear() {
+        _zoneIds.clear();
+        _hits.reset();
+        _misses.reset();
+    }
+
+    private ZoneId _cache(String id, ZoneId zoneId) {
+        // In case of a race, make sure to use the zone id that got cached,
+        // so that all callers see the same instance
+        ZoneId old = _zoneIds.putIfAbsent(id, zoneId);
+        return (old == null) ? zoneId : old;
+    }
+}
@@ -0,0 +1,78 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+/**
+ * Helper class used for finding {@link ZoneId} of {@link TimeZone}s configured
+ * for (de)serialization contexts: since these are same for all values read
+ * or written with same configuration, and typically only few distinct time
+ * zones are used, results are retained in a bounded cache (keyed by time zone id)
+ * shared by all (de)serializers.
+ *<p>
+ * NOTE: internal class, not considered part of public API.
+ *
+ * @since 2.20
+ */
+public final class ZoneIdResolver
+{
+    /**
+     * Maximum number of time zone ids to retain: well above number of
+     * distinct time zones typical applications configure.
+     */
+    public final static int MAX_ENTRIES = 100;
+
+    private final static LRUMap<String, Resolved> _resolved
+        = new LRUMap<>(16, MAX_ENTRIES);
+
+    private ZoneIdResolver() { }
+
+    /**
+     * @return Same as {@code timeZone.toZoneId()}
+     */
+    public static ZoneId zoneIdOf(TimeZone timeZone) {
+        return _resolve(timeZone)._zoneId;
+    }
+
+    /**
+     * @return Same as {@code timeZone.toZoneId().normalized()}
+     */
+    public static ZoneId normalizedZoneIdOf(TimeZone timeZone) {
+        return _resolve(timeZone)._normalized;
+    }
+
+    /**
+     * @return Number of time zone ids currently cached
+     */
+    public static int size() {
+        return _resolved.size();
+    }
+
+    private static Resolved _resolve(TimeZone timeZone)
+    {
+        // TimeZones are mutable, but conversion only depends on id
+        final String id = timeZone.getID();
+        Resolved r = _resolved.get(id);
+        if (r == null) {
+            r = new Resolved(timeZone.toZoneId());
+            Resolved old = _resolved.putIfAbsent(id, r);
+            if (old != null) {
+                r = old;
+            }
+        }
+        return r;
+    }
+
+    private final static class Resolved
+    {
+        final ZoneId _zoneId;
+        final ZoneId _normalized;
+
+        Resolved(ZoneId zoneId) {
+            _zoneId = zoneId;
+            _normalized = zoneId.normalized();
+        }
+    }
+}
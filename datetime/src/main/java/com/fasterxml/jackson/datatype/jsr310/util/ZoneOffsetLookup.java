@@ -0,0 +1,121 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Helper class for finding offsets of {@link ZoneId}s for local date-times,
+ * without having to go through {@link ZoneRules} transitions for every value:
+ * for each zone, range of local date-times for which the most recently found
+ * offset is valid (that is, period between two offset transitions) is retained,
+ * and values within that range need no further lookups.
+ *<p>
+ * NOTE: internal class, not considered part of public API.
+ *
+ * @since 2.20
+ */
+public final class ZoneOffsetLookup
+{
+    // Only contains region-based zones, so size is bounded by the number of zone ids
+    private final static ConcurrentHashMap<ZoneId, Interval> _intervals = new ConcurrentHashMap<>();
+
+    private ZoneOffsetLookup() { }
+
+    /**
+     * Method that returns same offset as
+     * {@code zone.getRules().getOffset(dateTime)}: that is, for local
+     * date-times within gaps and overlaps, offset before transition.
+     */
+    public static ZoneOffset offsetOfLocal(ZoneId zone, LocalDateTime dateTime)
+    {
+        if (zone instanceof ZoneOffset) {
+            return (ZoneOffset) zone;
+        }
+        final long localSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        Interval interval = _intervals.get(zone);
+        if ((interval != null) && interval.contains(localSecond)) {
+            return interval.offset;
+        }
+        final ZoneRules rules = zone.getRules();
+        final ZoneOffset offset = rules.getOffset(dateTime);
+        interval = _interval(rules, localSecond, offset);
+        if (interval != null) {
+            _intervals.put(zone, interval);
+        }
+        return offset;
+    }
+
+    /**
+     * Helper method for finding range of local date-times, containing given one,
+     * within which offset stays the same.
+     *
+     * @return Range found, if any; {@code null} if value is within a gap, overlap
+     *    (or otherwise a range could not be determined)
+     */
+    private static Interval _interval(ZoneRules rules, long localSecond, ZoneOffset offset)
+    {
+        if (rules.isFixedOffset()) {
+            return new Interval(Long.MIN_VALUE, Long.MAX_VALUE, offset);
+        }
+        final Instant instant = Instant.ofEpochSecond(localSecond - offset.getTotalSeconds());
+        final ZoneOffsetTransition prev = rules.previousTransition(instant.plusSeconds(1L));
+        final ZoneOffsetTransition next = rules.nextTransition((prev == null) ? instant : prev.getInstant());
+        long start = Long.MIN_VALUE;
+        if (prev != null) {
+            if (!offset.equals(prev.getOffsetAfter())) {
+                return null;
+            }
+            // Local date-times up to the end of gap/overlap are still in previous offset
+            start = prev.toEpochSecond() + _max(prev);
+        }
+        long end = Long.MAX_VALUE;
+        if (next != null) {
+            if (!offset.equals(next.getOffsetBefore())) {
+                return null;
+            }
+            // but local date-times within gap/overlap of the next transition
+            // have the offset before it
+            end = next.toEpochSecond() + _max(next);
+            if ((next.toEpochSecond() + _min(next)) < start) {
+                return null;
+            }
+        }
+        if ((localSecond < start) || (localSecond >= end)) {
+            return null;
+        }
+        return new Interval(start, end, offset);
+    }
+
+    private static int _max(ZoneOffsetTransition t) {
+        return Math.max(t.getOffsetBefore().getTotalSeconds(), t.getOffsetAfter().getTotalSeconds());
+    }
+
+    private static int _min(ZoneOffsetTransition t) {
+        return Math.min(t.getOffsetBefore().getTotalSeconds(), t.getOffsetAfter().getTotalSeconds());
+    }
+
+    /**
+     * Range of local date-times (as epoch seconds in UTC), start inclusive and
+     * end exclusive, within which offset stays the same.
+     */
+    private final static class Interval
+    {
+        final long start, end;
+        final ZoneOffset offset;
+
+        Interval(long start, long end, ZoneOffset offset) {
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+        }
+
+        boolean contains(long localSecond) {
+            return (localSecond >= start) && (localSecond < end);
+        }
+    }
+}
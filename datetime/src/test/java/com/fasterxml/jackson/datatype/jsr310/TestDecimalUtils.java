@@ -100,4 +100,46 @@ public class TestDecimalUtils extends ModuleTestBase
         BigDecimal value = new BigDecimal("1e10000000");
         checkExtractSecondsAndNanos(0L, 0, value);
     }
+
+    // Decoding from text must produce same results as BigDecimal-based extraction
+    @Test
+    public void testExtractSecondsAndNanosFromText()
+    {
+        for (String str : new String[] {
+                "0", "0.0", "-0.0", "0e5", "1", "15.72", "-15.72", "19827342231.192837465",
+                "19827342231.999999999", "-22704862.599000000", "-0.5", "+1.5", ".25", "5.",
+                "1588748889.1234567891234", "-1588748889.0000000019", "0.0000000009", "1e10",
+                "1.5E3", "-1.5e-3", "123456789e-9", "1234567890123e-3", "999999999999999999.9",
+                "-999999999999999999.9", "1e-9999", "0e9999", "0.000000000000000000000001e20",
+        }) {
+            BigDecimal bd = new BigDecimal(str);
+            for (boolean adjust : new boolean[] { true, false }) {
+                assertEquals(DecimalUtils.extractSecondsAndNanos(bd, "/", TestDecimalUtils::_pair, adjust),
+                        DecimalUtils.extractSecondsAndNanos(str.toCharArray(), 0, str.length(),
+                                "/", TestDecimalUtils::_pair, adjust), str);
+            }
+        }
+    }
+
+    // Values not decoded from text, for caller to use BigDecimal
+    @Test
+    public void testExtractSecondsAndNanosFromTextUnsupported()
+    {
+        for (String str : new String[] {
+                "", "-", ".", "e5", "1e", "1e+", "1.5x", "1..5", "--1", "NaN", "Infinity",
+                "1234567890123456789.5", "1e18", "1e10000", "1e99999", "0x10",
+        }) {
+            assertNull(DecimalUtils.extractSecondsAndNanos(str.toCharArray(), 0, str.length(),
+                    "/", TestDecimalUtils::_pair, true), str);
+        }
+        // but decoding must work with offsets
+        char[] ch = "[1.5,-2.25]".toCharArray();
+        assertEquals("1/500000000", DecimalUtils.extractSecondsAndNanos(ch, 1, 3, "/", TestDecimalUtils::_pair, true));
+        assertEquals("-2/250000000", DecimalUtils.extractSecondsAndNanos(ch, 5, 5, "/", TestDecimalUtils::_pair, true));
+        assertEquals("-2/-250000000", DecimalUtils.extractSecondsAndNanos(ch, 5, 5, "/", TestDecimalUtils::_pair, false));
+    }
+
+    private static String _pair(long seconds, int nanos, String separator) {
+        return seconds + separator + nanos;
+    }
 }
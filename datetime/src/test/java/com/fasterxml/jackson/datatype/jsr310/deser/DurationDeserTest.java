@@ -295,6 +295,19 @@ public class DurationDeserTest extends ModuleTestBase
         assertNull(READER.readValue("\"   \""), "The value should be null.");
     }
 
+    // Values in canonical form parsed from parser's buffer, others via String
+    @Test
+    public void testDeserializationAsString04() throws Exception
+    {
+        Duration[] values = newMapper().readValue(a2q(
+                "['PT-0.5S', ' PT1H ', 'P2DT3H', 'pt1m', 'PT8H6M12.000345S']"),
+                Duration[].class);
+        assertArrayEquals(new Duration[] {
+                Duration.ofMillis(-500), Duration.ofHours(1), Duration.ofHours(51),
+                Duration.ofMinutes(1), Duration.ofSeconds(29172L, 345_000L)
+        }, values);
+    }
+
     @Test
     public void testDeserializationWithTypeInfo01() throws Exception
     {
@@ -547,6 +560,27 @@ public class DurationDeserTest extends ModuleTestBase
         assertEquals(Duration.parse("PT25.5S"),  wrapper.value);
     }
 
+    // Since 2.20, decimal numbers of units with `Shape.NUMBER_FLOAT`
+    @Test
+    public void shouldReadDecimalUnits_whenFloatShape() throws Exception {
+        ObjectMapper mapper = newMapper();
+        mapper.configOverride(Duration.class)
+            .setFormat(JsonFormat.Value.forPattern("MILLIS").withShape(JsonFormat.Shape.NUMBER_FLOAT));
+        assertEquals(Duration.ofNanos(1_500_000_001L),
+                mapper.readValue(a2q("{'value':1500.000001}"), Wrapper.class).value);
+        assertEquals(Duration.ofNanos(-1_500_500_000L),
+                mapper.readValue(a2q("{'value':-1500.5}"), Wrapper.class).value);
+        // integers as before
+        assertEquals(Duration.ofMillis(25L),
+                mapper.readValue(a2q("{'value':25}"), Wrapper.class).value);
+
+        mapper = newMapper();
+        mapper.configOverride(Duration.class)
+            .setFormat(JsonFormat.Value.forPattern("SECONDS").withShape(JsonFormat.Shape.NUMBER_FLOAT));
+        Duration d = Duration.ofSeconds(-12345L, 67_890);
+        assertEquals(d, mapper.readValue(mapper.writeValueAsString(new Wrapper(d)), Wrapper.class).value);
+    }
+
     @Test
     public void shouldIgnoreUnitPattern_whenValueIsString() throws Exception {
         ObjectMapper mapper = _mapperForPatternOverride("MINUTES");
@@ -0,0 +1,125 @@
+package com.fasterxml.jackson.datatype.jsr310.deser;
+
+import java.time.*;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for `JavaTimeFeature.USE_FAST_ISO_DATE_TIME_PARSER`: results must be
+// identical to those of formatter-based parsing
+public class InstantDeserFastParsingTest
+    extends ModuleTestBase
+{
+    private final ObjectMapper FAST_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule()
+                    .enable(JavaTimeFeature.USE_FAST_ISO_DATE_TIME_PARSER))
+            .build();
+
+    private final ObjectMapper DEFAULT_MAPPER = newMapper();
+
+    @Test
+    public void testInstant() throws Exception {
+        for (String str : new String[] {
+                "2020-05-06T07:08:09Z",
+                "2020-05-06T07:08:09.123456789Z",
+                "2020-05-06T07:08:09.1+00:00",
+                "2020-05-06T07:08:09+0000",
+                "2020-05-06T07:08:09+00",
+                // not handled by fast parser, but must still work
+                "2020-05-06T07:08:09+01:00",
+                "+12020-05-06T07:08:09Z",
+                "1588748889",
+                "1588748889.123",
+        }) {
+            _verifySame(Instant.class, str);
+        }
+    }
+
+    @Test
+    public void testOffsetDateTime() throws Exception {
+        for (String str : new String[] {
+                "2020-05-06T07:08:09Z",
+                "2020-05-06T07:08Z",
+                "2020-05-06T07:08:09.123-05:30",
+                "2020-05-06T07:08:09+0200",
+                "2020-05-06T07:08:09+02",
+                "2020-05-06t07:08:09+02:00",
+        }) {
+            _verifySame(OffsetDateTime.class, str);
+        }
+    }
+
+    @Test
+    public void testZonedDateTime() throws Exception {
+        for (String str : new String[] {
+                "2020-05-06T07:08:09Z",
+                "2020-05-06T07:08:09.5+02:00[Europe/Paris]",
+                "2020-05-06T07:08:09Z[UTC]",
+                "2021-11-07T01:30:00-06:00[America/Chicago]",
+                "2020-05-06T07:08:09+0200",
+        }) {
+            _verifySame(ZonedDateTime.class, str);
+        }
+    }
+
+    @Test
+    public void testAdjustToContextTimeZone() throws Exception {
+        final String json = q("2020-05-06T07:08:09.5+02:00");
+        ObjectReader r = FAST_MAPPER.readerFor(OffsetDateTime.class)
+                .with(TimeZone.getTimeZone(Z_CHICAGO))
+                .with(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        OffsetDateTime value = r.readValue(json);
+        assertEquals(OffsetDateTime.parse("2020-05-06T00:08:09.5-05:00"), value);
+
+        ZonedDateTime zoned = r.forType(ZonedDateTime.class).readValue(json);
+        assertEquals(Z_CHICAGO, zoned.getZone());
+        assertEquals(value.toInstant(), zoned.toInstant());
+    }
+
+    @Test
+    public void testInvalidInput() throws Exception {
+        for (String str : new String[] {
+                "2020-02-30T07:08:09Z",
+                "2020-05-06T25:08:09Z",
+                "2020-05-06T07:08:09+19:00",
+        }) {
+            InvalidFormatException e = assertThrows(InvalidFormatException.class,
+                    () -> FAST_MAPPER.readValue(q(str), Instant.class));
+            InvalidFormatException e0 = assertThrows(InvalidFormatException.class,
+                    () -> DEFAULT_MAPPER.readValue(q(str), Instant.class));
+            assertEquals(e0.getOriginalMessage(), e.getOriginalMessage());
+        }
+    }
+
+    // Values parsed directly from parser's buffer, at non-zero offsets
+    @Test
+    public void testFromParserBuffer() throws Exception {
+        final String json = a2q("['2020-05-06T07:08:09Z','2020-05-06T07:08:10.5+00:00',"
+                +"' 2020-05-06T07:08:11Z ','1588748892']");
+        Instant[] values = FAST_MAPPER.readValue(json, Instant[].class);
+        assertArrayEquals(DEFAULT_MAPPER.readValue(json, Instant[].class), values);
+        assertEquals(Instant.parse("2020-05-06T07:08:11Z"), values[2]);
+
+        final String json2 = a2q("['2020-05-06T07:08:09+01:00','2020-05-06T07:08Z']");
+        OffsetDateTime[] odts = FAST_MAPPER.readValue(json2, OffsetDateTime[].class);
+        assertArrayEquals(DEFAULT_MAPPER.readValue(json2, OffsetDateTime[].class), odts);
+        assertEquals(Instant.parse("2020-05-06T06:08:09Z"), odts[0].toInstant());
+    }
+
+    private void _verifySame(Class<?> type, String str) throws Exception {
+        final String json = q(str);
+        assertEquals(DEFAULT_MAPPER.readValue(json, type),
+                FAST_MAPPER.readValue(json, type), str);
+    }
+}
@@ -0,0 +1,75 @@
+package com.fasterxml.jackson.datatype.jsr310.deser;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests to verify that both primitive and Function-based conversion
+// functions work for (sub-classes of) InstantDeserializer
+public class InstantDeserializerFunctionsTest
+    extends ModuleTestBase
+{
+    @SuppressWarnings("serial")
+    static class FunctionInstantDeserializer extends InstantDeserializer<Instant>
+    {
+        public FunctionInstantDeserializer() {
+            super(Instant.class, DateTimeFormatter.ISO_INSTANT,
+                    Instant::from,
+                    (Function<FromIntegerArguments, Instant>) a -> Instant.ofEpochMilli(a.value + 1L),
+                    (Function<FromDecimalArguments, Instant>) a -> Instant.ofEpochSecond(a.integer + 1L, a.fraction),
+                    null, true, true, false);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    static class PrimitiveInstantDeserializer extends InstantDeserializer<Instant>
+    {
+        public PrimitiveInstantDeserializer() {
+            super(Instant.class, DateTimeFormatter.ISO_INSTANT,
+                    Instant::from,
+                    (millis, zoneId) -> Instant.ofEpochMilli(millis + 1L),
+                    (seconds, nanos, zoneId) -> Instant.ofEpochSecond(seconds + 1L, nanos),
+                    null, true, true, false);
+        }
+    }
+
+    @Test
+    public void testFunctionBased() throws Exception {
+        _verify(new FunctionInstantDeserializer());
+    }
+
+    @Test
+    public void testPrimitive() throws Exception {
+        PrimitiveInstantDeserializer deser = new PrimitiveInstantDeserializer();
+        _verify(deser);
+        // Function-based accessors must be available as well
+        assertEquals(Instant.ofEpochMilli(1001L), deser.fromMilliseconds.apply(
+                new InstantDeserializer.FromIntegerArguments(1000L, null)));
+        assertEquals(Instant.ofEpochSecond(11L, 5), deser.fromNanoseconds.apply(
+                new InstantDeserializer.FromDecimalArguments(10L, 5, null)));
+    }
+
+    private void _verify(InstantDeserializer<Instant> deser) throws Exception {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new SimpleModule().addDeserializer(Instant.class, deser))
+                .build();
+        assertEquals(Instant.ofEpochMilli(1001L),
+                mapper.readerFor(Instant.class)
+                    .without(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                    .readValue("1000"));
+        assertEquals(Instant.ofEpochSecond(11L, 500_000_000), mapper.readValue("10.5", Instant.class));
+        assertEquals(Instant.ofEpochSecond(11L, 250_000_000), mapper.readValue(q("10.25"), Instant.class));
+        assertEquals(Instant.parse("2020-05-06T07:08:09Z"),
+                mapper.readValue(q("2020-05-06T07:08:09Z"), Instant.class));
+    }
+}
@@ -0,0 +1,128 @@
+package com.fasterxml.jackson.datatype.jsr310.key;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Caching of values by key deserializers, and fast parsing of ISO keys (since 2.20)
+public class KeyDeserializerCacheTest extends ModuleTestBase
+{
+    private final ObjectMapper CACHING_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule().enable(JavaTimeFeature.CACHE_DESERIALIZED_KEYS))
+            .build();
+
+    private final ObjectMapper MAPPER = newMapper();
+
+    @Test
+    public void testCaching() throws Exception
+    {
+        TypeReference<Map<LocalDate, String>> type = new TypeReference<Map<LocalDate, String>>() { };
+        final String json = a2q("{'2024-02-29':'a'}");
+        LocalDate first = CACHING_MAPPER.readValue(json, type).keySet().iterator().next();
+        LocalDate second = CACHING_MAPPER.readValue(json, type).keySet().iterator().next();
+        assertEquals(LocalDate.of(2024, 2, 29), first);
+        assertSame(first, second);
+
+        // but not by default
+        first = MAPPER.readValue(json, type).keySet().iterator().next();
+        second = MAPPER.readValue(json, type).keySet().iterator().next();
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testProblemsNotCached() throws Exception
+    {
+        TypeReference<Map<LocalDate, String>> type = new TypeReference<Map<LocalDate, String>>() { };
+        final String json = a2q("{'2024-02-30':'a'}");
+        for (int i = 0; i < 2; ++i) {
+            try {
+                CACHING_MAPPER.readValue(json, type);
+                fail("Should not pass");
+            } catch (InvalidFormatException e) {
+                verifyException(e, "Invalid date 'FEBRUARY 30'");
+            }
+        }
+        // Replacement values from handlers depend on configuration, so are not cached
+        final LocalDate replacement = LocalDate.of(2024, 3, 1);
+        Map<LocalDate, String> map = CACHING_MAPPER.readerFor(type)
+                .withHandler(new DeserializationProblemHandler() {
+                    @Override
+                    public Object handleWeirdKey(DeserializationContext ctxt, Class<?> rawKeyType,
+                            String keyValue, String failureMsg) {
+                        return replacement;
+                    }
+                })
+                .readValue(json);
+        assertEquals(replacement, map.keySet().iterator().next());
+        assertThrows(InvalidFormatException.class, () -> CACHING_MAPPER.readValue(json, type));
+    }
+
+    // Fast parsers must produce same results as formatters, and leave all
+    // other forms to them
+    @Test
+    public void testSameAsFormatters() throws Exception
+    {
+        _verify(LocalDate.class, s -> LocalDate.parse(s, DateTimeFormatter.ISO_LOCAL_DATE),
+                "2024-02-29", "-0001-01-01", "+10000-01-01");
+        _verify(LocalDateTime.class, s -> LocalDateTime.parse(s, DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                "2024-02-29T10:15", "2024-02-29T10:15:30", "2024-02-29T10:15:30.1", "2024-02-29T10:15:30.123456789");
+        _verify(LocalTime.class, s -> LocalTime.parse(s, DateTimeFormatter.ISO_LOCAL_TIME),
+                "10:15", "10:15:30", "23:59:59.999999999");
+        _verify(OffsetTime.class, s -> OffsetTime.parse(s, DateTimeFormatter.ISO_OFFSET_TIME),
+                "10:15Z", "10:15:30+01:00", "10:15:30.5-05:30", "10:15:30+01:00:30");
+        _verify(Instant.class, s -> DateTimeFormatter.ISO_INSTANT.parse(s, Instant::from),
+                "2024-02-29T10:15:30Z", "2024-02-29T10:15:30.000000001Z", "1969-12-31T23:59:59.5Z");
+        _verify(OffsetDateTime.class, s -> OffsetDateTime.parse(s, DateTimeFormatter.ISO_OFFSET_DATE_TIME),
+                "2024-02-29T10:15Z", "2024-02-29T10:15:30+01:00", "2024-02-29T10:15:30.25-00:00",
+                "2024-02-29T10:15:30+01:00:30");
+        _verify(ZonedDateTime.class, ZonedDateTime::parse,
+                "2024-02-29T10:15:30Z", "2024-02-29T10:15:30+01:00",
+                "2024-02-29T10:15:30+01:00[Europe/Paris]", "2024-02-29T10:15:30Z[UTC]");
+        _verify(YearMonth.class, YearMonth::parse, "2024-02", "0000-12", "+10000-01", "-2024-01");
+        _verify(MonthDay.class, MonthDay::parse, "--02-29", "--12-31", "--01-01");
+        _verify(Duration.class, Duration::parse, "PT1H30M", "-PT0.5S", "P2DT-1H", "pt1,5s");
+        _verify(Period.class, Period::parse, "P1Y2M3D", "-P1W", "P-1Y", "P0D");
+
+        // Colon-less offsets are not accepted by formatters, so are not accepted as keys either
+        for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, CACHING_MAPPER }) {
+            assertThrows(InvalidFormatException.class, () -> mapper.readValue(
+                    a2q("{'2024-02-29T10:15:30+0100':'a'}"),
+                    new TypeReference<Map<OffsetDateTime, String>>() { }));
+            assertThrows(InvalidFormatException.class, () -> mapper.readValue(
+                    a2q("{'--02-30':'a'}"),
+                    new TypeReference<Map<MonthDay, String>>() { }));
+            assertThrows(InvalidFormatException.class, () -> mapper.readValue(
+                    a2q("{'2024-13':'a'}"),
+                    new TypeReference<Map<YearMonth, String>>() { }));
+        }
+    }
+
+    private <T> void _verify(Class<T> keyType, Function<String, T> parser, String... keys)
+        throws Exception
+    {
+        for (String key : keys) {
+            final T expected = parser.apply(key);
+            for (ObjectMapper mapper : new ObjectMapper[] { MAPPER, CACHING_MAPPER }) {
+                Map<?, ?> map = mapper.readValue(a2q("{'"+key+"':'a'}"),
+                        mapper.getTypeFactory().constructMapType(Map.class, keyType, String.class));
+                assertEquals(expected, map.keySet().iterator().next(), "For key '"+key+"'");
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.fasterxml.jackson.datatype.jsr310.misc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.OptBoolean;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for (de)serialization with fixed-width numeric patterns, which
+// use `CompiledDateTimePattern` instead of `DateTimeFormatter`
+public class CompiledPatternRoundtripTest
+    extends ModuleTestBase
+{
+    static class Values {
+        @JsonFormat(pattern = "yyyyMMddHHmmss")
+        public LocalDateTime compact;
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSS")
+        public LocalDateTime withMillis;
+
+        @JsonFormat(pattern = "dd/MM/yyyy")
+        public LocalDate date;
+
+        @JsonFormat(pattern = "HH'h'mm")
+        public LocalTime time;
+
+        @JsonFormat(pattern = "yyyy-MM-dd", lenient = OptBoolean.FALSE)
+        public LocalDate strictDate;
+
+        @JsonFormat(pattern = "uuuu-MM-dd", lenient = OptBoolean.FALSE)
+        public LocalDate strictDate2;
+    }
+
+    private final ObjectMapper MAPPER = newMapper();
+
+    @Test
+    public void testRoundtrip() throws Exception {
+        Values input = new Values();
+        input.compact = LocalDateTime.of(2020, 5, 6, 7, 8, 9, 123_456_789);
+        input.withMillis = LocalDateTime.of(1999, 12, 31, 23, 59, 59, 987_654_321);
+        input.date = LocalDate.of(2024, 2, 29);
+        input.time = LocalTime.of(9, 5);
+        input.strictDate2 = LocalDate.of(2001, 1, 2);
+
+        String json = MAPPER.writeValueAsString(input);
+        assertEquals(a2q("{'compact':'20200506070809','withMillis':'1999-12-31 23:59:59.987',"
+                +"'date':'29/02/2024','time':'09h05','strictDate':null,'strictDate2':'2001-01-02'}"),
+                json);
+
+        Values result = MAPPER.readValue(json, Values.class);
+        assertEquals(LocalDateTime.of(2020, 5, 6, 7, 8, 9), result.compact);
+        assertEquals(LocalDateTime.of(1999, 12, 31, 23, 59, 59, 987_000_000), result.withMillis);
+        assertEquals(input.date, result.date);
+        assertEquals(input.time, result.time);
+        assertEquals(input.strictDate2, result.strictDate2);
+    }
+
+    // Values compiled pattern can not handle must work as before
+    @Test
+    public void testFallbacks() throws Exception {
+        Values input = new Values();
+        input.date = LocalDate.of(12345, 1, 2);
+        String json = MAPPER.writeValueAsString(input);
+        assertTrue(json.contains(q("02/01/+12345")), json);
+
+        // Day-of-month overflow is resolved (in "smart" mode) by formatter
+        Values result = MAPPER.readValue(a2q("{'date':'31/04/2020'}"), Values.class);
+        assertEquals(LocalDate.of(2020, 4, 30), result.date);
+        // and input with whitespace is trimmed
+        result = MAPPER.readValue(a2q("{'date':' 30/04/2020 '}"), Values.class);
+        assertEquals(LocalDate.of(2020, 4, 30), result.date);
+    }
+
+    @Test
+    public void testStrict() throws Exception {
+        // "yyyy" does not work with strict resolution
+        assertThrows(InvalidFormatException.class,
+                () -> MAPPER.readValue(a2q("{'strictDate':'2020-01-02'}"), Values.class));
+        assertThrows(InvalidFormatException.class,
+                () -> MAPPER.readValue(a2q("{'strictDate2':'2020-04-31'}"), Values.class));
+    }
+
+    @Test
+    public void testInvalid() throws Exception {
+        InvalidFormatException e = assertThrows(InvalidFormatException.class,
+                () -> MAPPER.readValue(a2q("{'compact':'20201306070809'}"), Values.class));
+        verifyException(e, "20201306070809");
+        assertThrows(InvalidFormatException.class,
+                () -> MAPPER.readValue(a2q("{'time':'25h00'}"), Values.class));
+    }
+}
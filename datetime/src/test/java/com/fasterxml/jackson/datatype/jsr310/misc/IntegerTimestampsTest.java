@@ -0,0 +1,123 @@
+package com.fasterxml.jackson.datatype.jsr310.misc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+import com.fasterxml.jackson.datatype.jsr310.TimestampPrecision;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Integer timestamps in units of precision, like epoch microseconds
+public class IntegerTimestampsTest extends ModuleTestBase
+{
+    static class MicrosBean {
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT, pattern = "MICROSECONDS")
+        public Instant instant;
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT, pattern = "NANOSECONDS")
+        public OffsetDateTime offsetDateTime;
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT, pattern = "SECONDS")
+        public ZonedDateTime zonedDateTime;
+
+        @JsonFormat(pattern = "MICROS")
+        public Duration duration;
+    }
+
+    static class LocalTimeBean {
+        @JsonFormat(pattern = "MILLISECONDS")
+        public LocalTime time;
+    }
+
+    private final ObjectMapper MAPPER = mapperBuilder()
+            .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    public void testRoundtrip() throws Exception
+    {
+        MicrosBean bean = new MicrosBean();
+        bean.instant = Instant.ofEpochSecond(1588748889L, 123_456_789);
+        bean.offsetDateTime = OffsetDateTime.ofInstant(Instant.ofEpochSecond(-2L, 5), ZoneOffset.UTC);
+        bean.zonedDateTime = ZonedDateTime.ofInstant(Instant.ofEpochSecond(1588748889L, 999_999_999), ZoneOffset.UTC);
+        bean.duration = Duration.ofDays(200_000L).plusNanos(1_999);
+
+        String json = MAPPER.writeValueAsString(bean);
+        assertEquals(a2q("{'instant':1588748889123456,"
+                +"'offsetDateTime':-1999999995,"
+                +"'zonedDateTime':1588748889,"
+                +"'duration':17280000000000001}"),
+                json);
+        // regardless of whether decimal timestamps are enabled or not
+        assertEquals(json, MAPPER.writer()
+                .without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .writeValueAsString(bean));
+
+        MicrosBean result = MAPPER.readValue(json, MicrosBean.class);
+        assertEquals(Instant.ofEpochSecond(1588748889L, 123_456_000), result.instant);
+        assertEquals(bean.offsetDateTime, result.offsetDateTime);
+        assertEquals(bean.zonedDateTime.withNano(0), result.zonedDateTime);
+        assertEquals(Duration.ofDays(200_000L).plusNanos(1_000), result.duration);
+
+        // also as Strings
+        result = MAPPER.readValue(a2q("{'instant':'-1'}"), MicrosBean.class);
+        assertEquals(Instant.ofEpochSecond(-1L, 999_999_000), result.instant);
+    }
+
+    @Test
+    public void testOverflow() throws Exception
+    {
+        MicrosBean bean = new MicrosBean();
+        // epoch nanoseconds only cover years 1677 - 2262
+        bean.offsetDateTime = OffsetDateTime.of(2300, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        try {
+            MAPPER.writeValueAsString(bean);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "overflow");
+        }
+    }
+
+    @Test
+    public void testTimestampConversions()
+    {
+        assertEquals(Long.MIN_VALUE, TimestampPrecision.NANOSECONDS.toTimestamp(
+                TimestampPrecision.NANOSECONDS.secondsOf(Long.MIN_VALUE),
+                TimestampPrecision.NANOSECONDS.nanosOf(Long.MIN_VALUE)));
+        assertEquals(Long.MAX_VALUE, TimestampPrecision.NANOSECONDS.toTimestamp(
+                TimestampPrecision.NANOSECONDS.secondsOf(Long.MAX_VALUE),
+                TimestampPrecision.NANOSECONDS.nanosOf(Long.MAX_VALUE)));
+        assertEquals(-1L, TimestampPrecision.MICROSECONDS.toTimestamp(-1L, 999_999_999));
+        assertEquals(-1_000_001L, TimestampPrecision.MICROSECONDS.toTimestamp(-2L, 999_999_999));
+        assertEquals(-1L, TimestampPrecision.MILLISECONDS.secondsOf(-1L));
+        assertEquals(999_000_000, TimestampPrecision.MILLISECONDS.nanosOf(-1L));
+        assertThrows(ArithmeticException.class,
+                () -> TimestampPrecision.MICROSECONDS.toTimestamp(Instant.MAX.getEpochSecond(), 0));
+    }
+
+    // Names of precisions must not be taken as patterns when reading
+    @Test
+    public void testPrecisionRoundtrip() throws Exception
+    {
+        LocalTimeBean bean = new LocalTimeBean();
+        bean.time = LocalTime.of(1, 2, 3, 456_789_123);
+        String json = MAPPER.writer()
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsString(bean);
+        assertEquals(a2q("{'time':'01:02:03.456'}"), json);
+        assertEquals(LocalTime.of(1, 2, 3, 456_000_000),
+                MAPPER.readValue(json, LocalTimeBean.class).time);
+    }
+}
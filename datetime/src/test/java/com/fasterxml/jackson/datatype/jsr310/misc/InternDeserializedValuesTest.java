@@ -0,0 +1,75 @@
+package com.fasterxml.jackson.datatype.jsr310.misc;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InternDeserializedValuesTest extends ModuleTestBase
+{
+    static class Row {
+        public LocalDate date;
+        public Year year;
+        public YearMonth yearMonth;
+        public MonthDay monthDay;
+
+        @JsonFormat(pattern = "dd/MM/yyyy")
+        public LocalDate customDate;
+    }
+
+    private final ObjectMapper INTERNING_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule().enable(JavaTimeFeature.INTERN_DESERIALIZED_VALUES))
+            .build();
+
+    private final String ROWS = a2q("["
+            + "{'date':'2024-02-29','year':2024,'yearMonth':'2024-02','monthDay':'--02-29','customDate':'29/02/2024'},"
+            + "{'date':'2024-02-29','year':2024,'yearMonth':'2024-02','monthDay':'--02-29','customDate':'29/02/2024'}"
+            + "]");
+
+    @Test
+    public void testInterning() throws Exception
+    {
+        List<Row> rows = INTERNING_MAPPER.readValue(ROWS, new TypeReference<List<Row>>() { });
+        Row first = rows.get(0), second = rows.get(1);
+        assertEquals(LocalDate.of(2024, 2, 29), first.date);
+        assertEquals(Year.of(2024), first.year);
+        assertEquals(YearMonth.of(2024, 2), first.yearMonth);
+        assertEquals(MonthDay.of(2, 29), first.monthDay);
+        assertSame(first.date, second.date);
+        assertSame(first.year, second.year);
+        assertSame(first.yearMonth, second.yearMonth);
+        assertSame(first.monthDay, second.monthDay);
+        // contextualized (custom pattern) deserializers intern too
+        assertSame(first.date, first.customDate);
+    }
+
+    @Test
+    public void testOutsideOfTables() throws Exception
+    {
+        List<YearMonth> values = INTERNING_MAPPER.readValue(a2q("['1066-10','1066-10']"),
+                new TypeReference<List<YearMonth>>() { });
+        assertEquals(YearMonth.of(1066, 10), values.get(0));
+        assertEquals(values.get(0), values.get(1));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception
+    {
+        List<Row> rows = newMapper().readValue(ROWS, new TypeReference<List<Row>>() { });
+        assertEquals(rows.get(0).yearMonth, rows.get(1).yearMonth);
+        assertNotSame(rows.get(0).yearMonth, rows.get(1).yearMonth);
+    }
+}
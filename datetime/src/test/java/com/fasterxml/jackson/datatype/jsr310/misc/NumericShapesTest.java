@@ -0,0 +1,191 @@
+package com.fasterxml.jackson.datatype.jsr310.misc;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.Temporal;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Single-number representations enabled with `JsonFormat.Shape.NUMBER_INT`
+// and `JavaTimeFeature.USE_SINGLE_NUMBER_SHAPES`
+public class NumericShapesTest extends ModuleTestBase
+{
+    static class Numbers {
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)
+        public LocalTime time;
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)
+        public LocalDateTime dateTime;
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)
+        public YearMonth yearMonth;
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)
+        public MonthDay monthDay;
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)
+        public Year year;
+    }
+
+    static class NanoOfDay {
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT, with = {
+                JsonFormat.Feature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS,
+                JsonFormat.Feature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS })
+        public LocalTime time;
+    }
+
+    static class Typed {
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_ARRAY)
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)
+        public Temporal value;
+
+        protected Typed() { }
+        public Typed(Temporal v) { value = v; }
+    }
+
+    private final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule().enable(JavaTimeFeature.USE_SINGLE_NUMBER_SHAPES))
+            .build();
+
+    // By default, `NUMBER_INT` shape means timestamps as arrays, same as before 2.20
+    @Test
+    public void testDisabledByDefault() throws Exception
+    {
+        final ObjectMapper mapper = newMapper();
+        Numbers input = new Numbers();
+        input.time = LocalTime.of(1, 2, 3, 456_000_789);
+        input.dateTime = LocalDateTime.of(2020, 5, 6, 7, 8, 9, 123_456_789);
+        input.yearMonth = YearMonth.of(2020, 5);
+        input.monthDay = MonthDay.of(12, 31);
+        input.year = Year.of(2020);
+        final String json = mapper.writeValueAsString(input);
+        assertEquals(a2q("{'time':[1,2,3,456000789],"
+                +"'dateTime':[2020,5,6,7,8,9,123456789],"
+                +"'yearMonth':[2020,5],"
+                +"'monthDay':[12,31],"
+                +"'year':2020}"), json);
+        assertEquals(json, mapper.writer()
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsString(input));
+
+        Numbers result = mapper.readValue(json, Numbers.class);
+        assertEquals(input.time, result.time);
+        assertEquals(input.dateTime, result.dateTime);
+        assertEquals(input.yearMonth, result.yearMonth);
+        assertEquals(input.monthDay, result.monthDay);
+
+        // and single numbers are not accepted
+        assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue(a2q("{'dateTime':1588748889}"), Numbers.class));
+        assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue(a2q("{'yearMonth':24244}"), Numbers.class));
+    }
+
+    @Test
+    public void testRoundtrip() throws Exception
+    {
+        Numbers input = new Numbers();
+        input.time = LocalTime.of(1, 2, 3, 456_000_000);
+        input.dateTime = LocalDateTime.of(2020, 5, 6, 7, 8, 9);
+        input.yearMonth = YearMonth.of(2020, 5);
+        input.monthDay = MonthDay.of(12, 31);
+        input.year = Year.of(2020);
+
+        String json = MAPPER.writeValueAsString(input);
+        assertEquals(a2q("{'time':3723456,"
+                +"'dateTime':1588748889,"
+                +"'yearMonth':24244,"
+                +"'monthDay':366,"
+                +"'year':2020}"), json);
+        // also regardless of `WRITE_DATES_AS_TIMESTAMPS`
+        assertEquals(json, MAPPER.writer()
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsString(input));
+
+        Numbers result = MAPPER.readValue(json, Numbers.class);
+        assertEquals(input.time, result.time);
+        assertEquals(input.dateTime, result.dateTime);
+        assertEquals(input.yearMonth, result.yearMonth);
+        assertEquals(input.monthDay, result.monthDay);
+        assertEquals(input.year, result.year);
+    }
+
+    @Test
+    public void testEdgeValues() throws Exception
+    {
+        Numbers input = new Numbers();
+        input.time = LocalTime.of(23, 59, 59, 999_000_000);
+        input.dateTime = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999);
+        input.yearMonth = YearMonth.of(-1, 12);
+        input.monthDay = MonthDay.of(2, 29);
+        String json = MAPPER.writeValueAsString(input);
+        assertEquals(a2q("{'time':86399999,"
+                +"'dateTime':-1,"
+                +"'yearMonth':-1,"
+                +"'monthDay':60,"
+                +"'year':null}"), json);
+        Numbers result = MAPPER.readValue(json, Numbers.class);
+        assertEquals(input.time, result.time);
+        // fractional seconds are not included
+        assertEquals(input.dateTime.withNano(0), result.dateTime);
+        assertEquals(input.yearMonth, result.yearMonth);
+        assertEquals(input.monthDay, result.monthDay);
+    }
+
+    @Test
+    public void testNanoOfDay() throws Exception
+    {
+        NanoOfDay input = new NanoOfDay();
+        input.time = LocalTime.MAX;
+        String json = MAPPER.writeValueAsString(input);
+        assertEquals(a2q("{'time':86399999999999}"), json);
+        assertEquals(input.time, MAPPER.readValue(json, NanoOfDay.class).time);
+
+        // whereas milli-of-day truncates sub-millisecond precision
+        Numbers millis = new Numbers();
+        millis.time = input.time;
+        assertEquals(a2q("{'time':86399999,'dateTime':null,'yearMonth':null,"
+                +"'monthDay':null,'year':null}"), MAPPER.writeValueAsString(millis));
+    }
+
+    @Test
+    public void testPolymorphic() throws Exception
+    {
+        final LocalDateTime dateTime = LocalDateTime.of(2020, 5, 6, 7, 8, 9);
+        String json = MAPPER.writeValueAsString(new Typed(dateTime));
+        assertEquals(a2q("{'value':['java.time.LocalDateTime',1588748889]}"), json);
+        assertEquals(dateTime, MAPPER.readValue(json, Typed.class).value);
+    }
+
+    @Test
+    public void testInvalidValues() throws Exception
+    {
+        assertThrows(InvalidFormatException.class,
+                () -> MAPPER.readValue(a2q("{'monthDay':367}"), Numbers.class));
+        assertThrows(InvalidFormatException.class,
+                () -> MAPPER.readValue(a2q("{'time':-1}"), Numbers.class));
+        assertThrows(InvalidFormatException.class,
+                () -> MAPPER.readValue(a2q("{'yearMonth':9223372036854775807}"), Numbers.class));
+        // but without shape, numbers are not accepted
+        assertThrows(MismatchedInputException.class,
+                () -> MAPPER.readValue("1588748889", LocalDateTime.class));
+        assertThrows(MismatchedInputException.class,
+                () -> MAPPER.readValue("24244", YearMonth.class));
+    }
+}
@@ -0,0 +1,109 @@
+package com.fasterxml.jackson.datatype.jsr310.misc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Settings that depend on configuration are resolved once per configuration,
+// so need to verify that (de)serializers shared by differently configured
+// readers and writers still observe their configuration
+public class ResolvedSettingsTest extends ModuleTestBase
+{
+    private final ObjectMapper MAPPER = newMapper();
+
+    @Test
+    public void testSerializationWithChangingConfig() throws Exception
+    {
+        final Instant instant = Instant.parse("2020-05-06T07:08:09.123456789Z");
+        final ZonedDateTime zdt = ZonedDateTime.parse("2020-05-06T09:08:09+02:00[Europe/Paris]");
+        final Duration duration = Duration.ofSeconds(3, 5);
+
+        ObjectWriter timestamps = MAPPER.writer()
+                .with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .with(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        ObjectWriter millis = timestamps.without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS);
+        ObjectWriter strings = MAPPER.writer()
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .without(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        ObjectWriter withZoneId = strings.with(SerializationFeature.WRITE_DATES_WITH_ZONE_ID);
+        ObjectWriter contextZone = strings.with(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)
+                .with(TimeZone.getTimeZone("America/Chicago"));
+
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("1588748889.123456789", timestamps.writeValueAsString(instant));
+            assertEquals("1588748889123", millis.writeValueAsString(instant));
+            assertEquals(q("2020-05-06T07:08:09.123456789Z"), strings.writeValueAsString(instant));
+
+            assertEquals("3.000000005", timestamps.writeValueAsString(duration));
+            assertEquals("3000", millis.writeValueAsString(duration));
+            assertEquals(q("PT3.000000005S"), strings.writeValueAsString(duration));
+
+            assertEquals(q("2020-05-06T09:08:09+02:00"), strings.writeValueAsString(zdt));
+            assertEquals(q("2020-05-06T09:08:09+02:00[Europe/Paris]"), withZoneId.writeValueAsString(zdt));
+            assertEquals(q("2020-05-06T02:08:09-05:00"), contextZone.writeValueAsString(zdt));
+            assertEquals("1588748889.000000000", timestamps.writeValueAsString(zdt));
+        }
+    }
+
+    // Serializers like `InstantSerializer.INSTANCE` are shared by all mappers, so
+    // writers of different mappers alternating must not observe each other's settings
+    @Test
+    public void testAlternatingWriters() throws Exception
+    {
+        final Instant instant = Instant.parse("2020-05-06T07:08:09.5Z");
+        ObjectWriter w1 = newMapper().writer()
+                .with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS);
+        ObjectWriter w2 = newMapper().writer()
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .with(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE);
+        // same features, differing only by whether time zone is explicitly set
+        ObjectWriter w3 = w2.with(TimeZone.getTimeZone("UTC"));
+
+        for (int i = 0; i < 5; ++i) {
+            assertEquals("1588748889500", w1.writeValueAsString(instant));
+            assertEquals(q("2020-05-06T07:08:09.500Z"), w2.writeValueAsString(instant));
+            assertEquals(q("2020-05-06T07:08:09.500Z"), w3.writeValueAsString(instant));
+            assertEquals(q("2020-05-06T07:08:09.5Z"),
+                    w3.writeValueAsString(instant.atOffset(ZoneOffset.ofHours(2))));
+            assertEquals(q("2020-05-06T09:08:09.5+02:00"),
+                    w2.writeValueAsString(instant.atOffset(ZoneOffset.ofHours(2))));
+            assertEquals("1588748889500",
+                    w1.writeValueAsString(instant.atOffset(ZoneOffset.ofHours(2))));
+        }
+    }
+
+    @Test
+    public void testDeserializationWithChangingConfig() throws Exception
+    {
+        ObjectReader r = MAPPER.readerFor(OffsetDateTime.class);
+        ObjectReader adjusting = r.with(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        ObjectReader nonAdjusting = r.without(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        ObjectReader nanos = adjusting.with(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
+        ObjectReader millis = adjusting.without(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
+        final String json = q("2020-05-06T09:08:09+02:00");
+
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(ZoneOffset.UTC, ((OffsetDateTime) adjusting.readValue(json)).getOffset());
+            assertEquals(ZoneOffset.ofHours(2), ((OffsetDateTime) nonAdjusting.readValue(json)).getOffset());
+            assertEquals(Instant.ofEpochSecond(1000L),
+                    ((OffsetDateTime) nanos.readValue("1000")).toInstant());
+            assertEquals(Instant.ofEpochMilli(1000L),
+                    ((OffsetDateTime) millis.readValue("1000")).toInstant());
+        }
+    }
+}
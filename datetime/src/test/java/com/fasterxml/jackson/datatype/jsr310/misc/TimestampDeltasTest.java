@@ -0,0 +1,160 @@
+package com.fasterxml.jackson.datatype.jsr310.misc;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonMerge;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Delta-encoded shape of `[base, delta1, delta2, ...]` for Collections and arrays
+public class TimestampDeltasTest extends ModuleTestBase
+{
+    static class Series {
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY, pattern = "SECONDS")
+        public List<Instant> seconds;
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY, pattern = "MILLISECONDS")
+        public Instant[] millis;
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY, pattern = "DAYS")
+        public Set<LocalDate> dates;
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY, pattern = "DAYS")
+        public LocalDate[] dateArray;
+
+        // not delta-encoded
+        public List<Instant> plain;
+    }
+
+    static class NonEmptySeries {
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY, pattern = "SECONDS")
+        public List<Instant> seconds = new ArrayList<>();
+    }
+
+    static class MergedSeries {
+        @JsonMerge
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY, pattern = "SECONDS")
+        public List<Instant> seconds = new ArrayList<>(Arrays.asList(Instant.EPOCH));
+
+        @JsonMerge
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY, pattern = "MILLISECONDS")
+        public Instant[] millis = new Instant[] { Instant.EPOCH };
+    }
+
+    static class UnmodifiableSeries {
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY, pattern = "DAYS")
+        public List<LocalDate> dates = Collections.emptyList();
+    }
+
+    private final ObjectMapper MAPPER = newMapper();
+
+    @Test
+    public void testRoundtrip() throws Exception
+    {
+        Series input = new Series();
+        input.seconds = Arrays.asList(Instant.ofEpochSecond(1588748889L),
+                Instant.ofEpochSecond(1588748890L), Instant.ofEpochSecond(1588748891L),
+                Instant.ofEpochSecond(1588748890L));
+        input.millis = new Instant[] { Instant.ofEpochMilli(-1L), Instant.ofEpochMilli(1L) };
+        input.dates = new TreeSet<>(Arrays.asList(LocalDate.of(2020, 2, 28),
+                LocalDate.of(2020, 2, 29), LocalDate.of(2020, 3, 1)));
+        input.dateArray = new LocalDate[0];
+        input.plain = Arrays.asList(Instant.ofEpochSecond(1588748889L));
+
+        String json = MAPPER.writeValueAsString(input);
+        assertEquals(a2q("{'seconds':[1588748889,1,1,-1],"
+                +"'millis':[-1,2],"
+                +"'dates':[18320,1,1],"
+                +"'dateArray':[],"
+                +"'plain':[1588748889.000000000]}"), json);
+
+        Series result = MAPPER.readValue(json, Series.class);
+        assertEquals(input.seconds, result.seconds);
+        assertArrayEquals(input.millis, result.millis);
+        assertEquals(input.dates, result.dates);
+        assertArrayEquals(input.dateArray, result.dateArray);
+        assertEquals(input.plain, result.plain);
+    }
+
+    @Test
+    public void testTruncation() throws Exception
+    {
+        Series input = new Series();
+        input.seconds = Arrays.asList(Instant.ofEpochSecond(-1L, 500_000_000),
+                Instant.ofEpochSecond(0L, 999_999_999));
+        assertEquals(a2q("{'seconds':[-1,1],'millis':null,'dates':null,'dateArray':null,'plain':null}"),
+                MAPPER.writeValueAsString(input));
+    }
+
+    @Test
+    public void testEmptyInclusion() throws Exception
+    {
+        assertEquals("{}", MAPPER.writeValueAsString(new NonEmptySeries()));
+    }
+
+    @Test
+    public void testInvalidValues() throws Exception
+    {
+        try {
+            MAPPER.readValue(a2q("{'seconds':[1,'2']}"), Series.class);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "expected VALUE_NUMBER_INT");
+        }
+        try {
+            MAPPER.readValue(a2q("{'seconds':[1,9223372036854775807]}"), Series.class);
+            fail("Should not pass");
+        } catch (MismatchedInputException e) {
+            verifyException(e, "overflows");
+        }
+        assertThrows(InvalidFormatException.class,
+                () -> MAPPER.readValue(a2q("{'dates':[0,999999999999]}"), Series.class));
+
+        Series input = new Series();
+        input.seconds = Arrays.asList(Instant.EPOCH, null);
+        try {
+            MAPPER.writeValueAsString(input);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Cannot write `null` element");
+        }
+    }
+
+    @Test
+    public void testMerging() throws Exception
+    {
+        MergedSeries series = MAPPER.readValue(a2q("{'seconds':[10,5],'millis':[1000]}"),
+                MergedSeries.class);
+        assertEquals(Arrays.asList(Instant.EPOCH, Instant.ofEpochSecond(10L),
+                Instant.ofEpochSecond(15L)), series.seconds);
+        assertArrayEquals(new Instant[] { Instant.EPOCH, Instant.ofEpochSecond(1L) },
+                series.millis);
+    }
+
+    // Abstract types map to default implementations as usual
+    @Test
+    public void testDefaultImplementation() throws Exception
+    {
+        UnmodifiableSeries result = MAPPER.readValue(a2q("{'dates':[0,1]}"),
+                UnmodifiableSeries.class);
+        assertEquals(Arrays.asList(LocalDate.of(1970, 1, 1), LocalDate.of(1970, 1, 2)),
+                result.dates);
+    }
+}
@@ -287,6 +287,26 @@ public class DurationSerTest extends ModuleTestBase
         assertEquals("1", mapper.writeValueAsString(Duration.ofHours(36)));
     }
 
+    // Since 2.20, decimal numbers of units with `Shape.NUMBER_FLOAT`
+    @Test
+    public void shouldSerializeAsDecimalUnits_whenFloatShape() throws Exception
+    {
+        ObjectMapper mapper = _mapperForFloatPatternOverride("SECONDS");
+        assertEquals("1.500000000", mapper.writeValueAsString(Duration.ofMillis(1500)));
+        assertEquals("-1.500000000", mapper.writeValueAsString(Duration.ofMillis(-1500)));
+
+        mapper = _mapperForFloatPatternOverride("MILLIS");
+        assertEquals("1500.000001", mapper.writeValueAsString(Duration.ofSeconds(1L, 500_000_001)));
+
+        // nanoseconds have no fraction, but are still written as floating-point
+        mapper = _mapperForFloatPatternOverride("NANOS");
+        assertEquals("1500.0", mapper.writeValueAsString(Duration.ofNanos(1500)));
+
+        // not supported for units longer than a second
+        mapper = _mapperForFloatPatternOverride("MINUTES");
+        assertEquals("1", mapper.writeValueAsString(Duration.ofSeconds(90)));
+    }
+
     protected ObjectMapper _mapperForPatternOverride(String pattern) {
         ObjectMapper mapper = mapperBuilder()
                 .enable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
@@ -297,6 +317,13 @@ public class DurationSerTest extends ModuleTestBase
         return mapper;
     }
 
+    protected ObjectMapper _mapperForFloatPatternOverride(String pattern) {
+        ObjectMapper mapper = _mapperForPatternOverride(pattern);
+        mapper.configOverride(Duration.class)
+                .setFormat(JsonFormat.Value.forPattern(pattern).withShape(JsonFormat.Shape.NUMBER_FLOAT));
+        return mapper;
+    }
+
     // [datetime#224]
     @Test
     public void testDurationFormatOverrideMinutes() throws Exception
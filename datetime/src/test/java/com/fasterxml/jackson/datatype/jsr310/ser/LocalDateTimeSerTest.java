@@ -18,6 +18,7 @@ package com.fasterxml.jackson.datatype.jsr310.ser;
 
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.Temporal;
 
@@ -212,4 +213,46 @@ public class LocalDateTimeSerTest
         LocalDateTime time = LocalDateTime.of(1986, Month.JANUARY, 17, 15, 43);
         assertEquals(q("01/17/1986"), mapper.writeValueAsString(time));
     }
+
+    // Array ("timestamp") shape: components written as a batch, and read back
+    @Test
+    public void testArrayShapeRoundtrip() throws Exception
+    {
+        ObjectMapper mapper = mapperBuilder()
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDateTime[] values = new LocalDateTime[] {
+                LocalDateTime.of(2020, 5, 6, 7, 8),
+                LocalDateTime.of(2020, 5, 6, 7, 8, 9),
+                LocalDateTime.of(2020, 5, 6, 7, 8, 0, 1),
+                LocalDateTime.of(-12345, 12, 31, 23, 59, 59, 999_999_999),
+        };
+        String json = mapper.writeValueAsString(values);
+        assertEquals("[[2020,5,6,7,8],[2020,5,6,7,8,9],[2020,5,6,7,8,0,1],[-12345,12,31,23,59,59,999999999]]",
+                json);
+        assertArrayEquals(values, mapper.readValue(json, LocalDateTime[].class));
+
+        // and with type information, as array contents
+        json = mapper.writeValueAsString(new Object[] { values[2].toLocalDate(), values[2].toLocalTime(),
+                values[2], YearMonth.of(2020, 5) });
+        assertEquals("[[2020,5,6],[7,8,0,1],[2020,5,6,7,8,0,1],[2020,5]]", json);
+        ObjectMapper typingMapper = mapperBuilder()
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .addMixIn(Temporal.class, MockObjectConfiguration.class)
+                .build();
+        json = typingMapper.writeValueAsString(values[2]);
+        assertEquals("[\"" + LocalDateTime.class.getName() + "\",[2020,5,6,7,8,0,1]]", json);
+        assertEquals(values[2], typingMapper.readValue(json, Temporal.class));
+    }
+
+    // Non-int components are still coerced the same way as before
+    @Test
+    public void testArrayShapeWithFloatComponents() throws Exception
+    {
+        ObjectMapper mapper = newMapper();
+        assertEquals(LocalDateTime.of(2020, 5, 6, 7, 8, 9),
+                mapper.readValue("[2020,5,6,7,8,9.5]", LocalDateTime.class));
+        assertEquals(LocalDateTime.of(2020, 5, 6, 7, 8, 9, 2),
+                mapper.readValue("[2020,5,6,7,8,9,2.0]", LocalDateTime.class));
+    }
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
 import com.fasterxml.jackson.datatype.jsr310.MockObjectConfiguration;
@@ -273,6 +274,33 @@ public class OffsetDateTimeSerTest
         assertEquals("\"" + FORMATTER.format(date) + "\"", value);
     }
 
+    // Formatter with context time zone is reused, so must verify that
+    // changes to time zone are still reflected
+    @Test
+    public void testSerializationWithChangingContextTimeZone() throws Exception {
+        OffsetDateTime date = OffsetDateTime.parse("2020-05-06T07:08:09Z");
+        ObjectWriter w = MAPPER.writer()
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .with(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE);
+        TimeZone tz = TimeZone.getTimeZone("Europe/Paris");
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(q("2020-05-06T09:08:09+02:00"), w.with(tz).writeValueAsString(date));
+            assertEquals(q("2020-05-06T02:08:09-05:00"),
+                    w.with(TimeZone.getTimeZone("America/Chicago")).writeValueAsString(date));
+        }
+        tz.setID("Asia/Tokyo");
+        assertEquals(q("2020-05-06T16:08:09+09:00"), w.with(tz).writeValueAsString(date));
+    }
+
+    @Test
+    public void testZonedFormatterReused() {
+        OffsetDateTimeSerializer ser = OffsetDateTimeSerializer.INSTANCE;
+        TimeZone tz = TimeZone.getTimeZone("Europe/Paris");
+        DateTimeFormatter f = ser._zonedFormatter(DateTimeFormatter.ISO_OFFSET_DATE_TIME, tz);
+        assertEquals(ZoneId.of("Europe/Paris"), f.getZone());
+        assertSame(f, ser._zonedFormatter(DateTimeFormatter.ISO_OFFSET_DATE_TIME, tz));
+    }
+
     static class Pojo1 {
         @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)
         public OffsetDateTime t1 = OffsetDateTime.parse("2022-04-27T12:00:00+02:00");
@@ -0,0 +1,138 @@
+package com.fasterxml.jackson.datatype.jsr310.ser;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimestampPrecisionTest extends ModuleTestBase
+{
+    static class MillisBean {
+        @JsonFormat(pattern = "MILLISECONDS")
+        public Instant instant;
+
+        @JsonFormat(pattern = "MICROSECONDS")
+        public OffsetDateTime offsetDateTime;
+
+        @JsonFormat(pattern = "SECONDS")
+        public LocalTime localTime;
+
+        @JsonFormat(pattern = "MILLISECONDS")
+        public LocalDateTime localDateTime;
+
+        @JsonFormat(pattern = "MILLISECONDS")
+        public Duration duration;
+
+        public MillisBean() { }
+    }
+
+    static class DurationUnitBean {
+        @JsonFormat(pattern = "SECONDS")
+        public Duration duration;
+
+        public DurationUnitBean(Duration d) { duration = d; }
+    }
+
+    private final static Instant INSTANT = Instant.parse("2020-05-06T07:08:09.123456789Z");
+
+    private final ObjectMapper MAPPER = newMapper();
+
+    @Test
+    public void testPrecisionAsTimestamps() throws Exception
+    {
+        ObjectWriter w = MAPPER.writer()
+                .with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .with(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .with(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS);
+        MillisBean bean = _bean();
+        assertEquals(a2q("{'instant':1588748889.123,"
+                +"'offsetDateTime':1588748889.123456,"
+                +"'localTime':[7,8,9],"
+                +"'localDateTime':[2020,5,6,7,8,9,123000000],"
+                +"'duration':-3.123}"),
+                w.writeValueAsString(bean));
+        // but precision does not matter for millisecond timestamps
+        assertEquals(a2q("{'instant':1588748889123,"
+                +"'offsetDateTime':1588748889123,"
+                +"'localTime':[7,8,9],"
+                +"'localDateTime':[2020,5,6,7,8,9,123],"
+                +"'duration':-3123}"),
+                w.without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                    .writeValueAsString(bean));
+    }
+
+    @Test
+    public void testPrecisionAsStrings() throws Exception
+    {
+        ObjectWriter w = MAPPER.writer()
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .without(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        assertEquals(a2q("{'instant':'2020-05-06T07:08:09.123Z',"
+                +"'offsetDateTime':'2020-05-06T07:08:09.123456Z',"
+                +"'localTime':'07:08:09',"
+                +"'localDateTime':'2020-05-06T07:08:09.123',"
+                +"'duration':'PT-3.123S'}"),
+                w.writeValueAsString(_bean()));
+    }
+
+    // Names of Duration units must retain their meaning
+    @Test
+    public void testDurationUnitPattern() throws Exception
+    {
+        assertEquals(a2q("{'duration':3}"), MAPPER.writer()
+                .with(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .writeValueAsString(new DurationUnitBean(Duration.ofMillis(3999))));
+    }
+
+    @Test
+    public void testShortestFractions() throws Exception
+    {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule()
+                        .enable(JavaTimeFeature.WRITE_SHORTEST_TIMESTAMP_FRACTIONS))
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build();
+        assertEquals("1588748889.123456789", mapper.writeValueAsString(INSTANT));
+        assertEquals("1588748889.12", mapper.writeValueAsString(Instant.ofEpochSecond(1588748889L, 120_000_000)));
+        assertEquals("1588748889.0", mapper.writeValueAsString(Instant.ofEpochSecond(1588748889L)));
+        assertEquals("-1.5", mapper.writeValueAsString(Duration.ofMillis(-1500)));
+        assertEquals("0.000001", mapper.writeValueAsString(Duration.ofNanos(1000)));
+        assertEquals("1588748889.5",
+                mapper.writeValueAsString(ZonedDateTime.ofInstant(Instant.ofEpochSecond(1588748889L, 500_000_000),
+                        ZoneOffset.UTC)));
+        // explicitly specified precision has precedence
+        assertEquals(a2q("{'instant':1588748889.123,"
+                +"'offsetDateTime':1588748889.123456,"
+                +"'localTime':[7,8,9],"
+                +"'localDateTime':[2020,5,6,7,8,9,123000000],"
+                +"'duration':-3.123}"),
+                mapper.writeValueAsString(_bean()));
+    }
+
+    private MillisBean _bean() {
+        MillisBean bean = new MillisBean();
+        bean.instant = INSTANT;
+        bean.offsetDateTime = OffsetDateTime.ofInstant(INSTANT, ZoneOffset.UTC);
+        bean.localTime = LocalTime.of(7, 8, 9, 999_999_999);
+        bean.localDateTime = LocalDateTime.of(2020, 5, 6, 7, 8, 9, 123_456_789);
+        bean.duration = Duration.ofSeconds(-3L, -123_456_789L);
+        return bean;
+    }
+}
@@ -0,0 +1,70 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanonicalValuesTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testTables()
+    {
+        for (int year : new int[] { CanonicalValues.MIN_YEAR, 2000, CanonicalValues.MAX_YEAR }) {
+            assertEquals(Year.of(year), CanonicalValues.canonical(Year.of(year)));
+            assertSame(CanonicalValues.canonical(Year.of(year)), CanonicalValues.canonical(Year.of(year)));
+            for (int month = 1; month <= 12; ++month) {
+                YearMonth ym = CanonicalValues.canonical(YearMonth.of(year, month));
+                assertEquals(YearMonth.of(year, month), ym);
+                assertSame(ym, CanonicalValues.canonical(YearMonth.of(year, month)));
+            }
+        }
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 366; ++i, date = date.plusDays(1)) {
+            MonthDay md = MonthDay.from(date);
+            assertEquals(md, CanonicalValues.canonical(md));
+            assertSame(CanonicalValues.canonical(md), CanonicalValues.canonical(MonthDay.from(date)));
+        }
+
+        // Outside of tables, returned as-is
+        Year year = Year.of(CanonicalValues.MIN_YEAR - 1);
+        assertSame(year, CanonicalValues.canonical(year));
+        YearMonth ym = YearMonth.of(CanonicalValues.MAX_YEAR + 1, 1);
+        assertSame(ym, CanonicalValues.canonical(ym));
+        assertNull(CanonicalValues.canonical((Year) null));
+    }
+
+    @Test
+    public void testDateCache()
+    {
+        LocalDate date = CanonicalValues.canonical(LocalDate.of(2020, 5, 17));
+        assertSame(date, CanonicalValues.canonical(LocalDate.of(2020, 5, 17)));
+        LocalDate min = CanonicalValues.canonical(LocalDate.MIN);
+        assertSame(min, CanonicalValues.canonical(LocalDate.of(LocalDate.MIN.getYear(), 1, 1)));
+
+        // Evicted by date mapping to same entry, but still equal
+        LocalDate other = CanonicalValues.canonical(date.plusDays(CanonicalValues.DATE_CACHE_SIZE));
+        assertEquals(date.plusDays(CanonicalValues.DATE_CACHE_SIZE), other);
+        LocalDate again = CanonicalValues.canonical(LocalDate.of(2020, 5, 17));
+        assertEquals(date, again);
+        assertNotSame(date, again);
+    }
+
+    @Test
+    public void testSupportedTypes()
+    {
+        assertNotNull(CanonicalValues.canonicalizerFor(LocalDate.class));
+        assertNotNull(CanonicalValues.canonicalizerFor(Year.class));
+        assertNotNull(CanonicalValues.canonicalizerFor(YearMonth.class));
+        assertNotNull(CanonicalValues.canonicalizerFor(MonthDay.class));
+        assertNull(CanonicalValues.canonicalizerFor(OffsetTime.class));
+    }
+}
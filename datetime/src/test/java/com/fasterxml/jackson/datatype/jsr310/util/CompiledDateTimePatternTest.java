@@ -0,0 +1,187 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalQuery;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledDateTimePatternTest
+    extends ModuleTestBase
+{
+    private final static String[] DATE_TIME_PATTERNS = new String[] {
+            "yyyyMMddHHmmss",
+            "yyyy-MM-dd HH:mm:ss.SSS",
+            "uuuu-MM-dd'T'HH:mm",
+            "dd/MM/yyyy HH",
+            "yyyyMMddHHmmssSSSSSSSSS",
+            "'at' HH:mm 'on' dd.MM.uuuu",
+            "yyyy''MM''dd HH:mm:ss.S",
+    };
+
+    private final static String[] DATE_PATTERNS = new String[] {
+            "dd/MM/yyyy",
+            "yyyyMMdd",
+            "uuuu-MM-dd",
+    };
+
+    private final static String[] TIME_PATTERNS = new String[] {
+            "HHmmss",
+            "HH:mm",
+            "HH:mm:ss.SSSSSS",
+    };
+
+    private final static LocalDateTime[] VALUES = new LocalDateTime[] {
+            LocalDateTime.of(2020, 2, 29, 23, 59, 59, 999_999_999),
+            LocalDateTime.of(1970, 1, 1, 0, 0),
+            LocalDateTime.of(1, 12, 31, 12, 30, 15, 123_000_000),
+            LocalDateTime.of(9999, 6, 15, 7, 8, 9, 1000),
+    };
+
+    @Test
+    public void testNotCompiled() {
+        for (String pattern : new String[] {
+                "", "'literal only'", "yy-MM-dd", "yyyyy-MM-dd", "d/M/yyyy", "yyyy-MMM-dd",
+                "dd MMMM yyyy", "yyyy-MM-dd HH:mm a", "hh:mm", "yyyy-MM-dd HH:mm:ss z",
+                "yyyy-MM-dd'T'HH:mm:ssXXX", "yyyy-MM-dd[ HH:mm]", "yyyy-MM", "MM-dd",
+                "HH:ss", "HH:mm.SSS", "yyyy-MM-dd-yyyy", "YYYY-MM-dd", "yyyy-MM-dd 'unterminated",
+                "HH:mm:ss.SSSSSSSSSS", "HHmmss#",
+        }) {
+            assertNull(CompiledDateTimePattern.compile(pattern), pattern);
+        }
+    }
+
+    @Test
+    public void testFormat() {
+        final char[] buffer = new char[100];
+        for (String pattern : DATE_TIME_PATTERNS) {
+            CompiledDateTimePattern compiled = _compile(pattern);
+            DateTimeFormatter f = DateTimeFormatter.ofPattern(pattern);
+            for (LocalDateTime value : VALUES) {
+                int end = compiled.formatLocalDateTime(value, buffer, 3);
+                assertEquals(value.format(f), new String(buffer, 3, end-3));
+                assertEquals(compiled.length(), end-3);
+                // Formatting of LocalDate, LocalTime not possible with these
+                assertEquals(-1, compiled.formatLocalDate(value.toLocalDate(), buffer, 0));
+                assertEquals(-1, compiled.formatLocalTime(value.toLocalTime(), buffer, 0));
+            }
+        }
+        for (String pattern : DATE_PATTERNS) {
+            CompiledDateTimePattern compiled = _compile(pattern);
+            DateTimeFormatter f = DateTimeFormatter.ofPattern(pattern);
+            for (LocalDateTime value : VALUES) {
+                int end = compiled.formatLocalDate(value.toLocalDate(), buffer, 0);
+                assertEquals(value.toLocalDate().format(f), new String(buffer, 0, end));
+            }
+        }
+        for (String pattern : TIME_PATTERNS) {
+            CompiledDateTimePattern compiled = _compile(pattern);
+            DateTimeFormatter f = DateTimeFormatter.ofPattern(pattern);
+            for (LocalDateTime value : VALUES) {
+                int end = compiled.formatLocalTime(value.toLocalTime(), buffer, 0);
+                assertEquals(value.toLocalTime().format(f), new String(buffer, 0, end));
+            }
+        }
+    }
+
+    @Test
+    public void testFormatYearOutOfRange() {
+        final char[] buffer = new char[100];
+        assertEquals(-1, _compile("yyyyMMdd").formatLocalDate(LocalDate.of(10000, 1, 1), buffer, 0));
+        assertEquals(-1, _compile("yyyyMMdd").formatLocalDate(LocalDate.of(0, 1, 1), buffer, 0));
+        assertEquals(-1, _compile("uuuuMMdd").formatLocalDate(LocalDate.of(-1, 1, 1), buffer, 0));
+        assertEquals(8, _compile("uuuuMMdd").formatLocalDate(LocalDate.of(0, 1, 1), buffer, 0));
+    }
+
+    @Test
+    public void testParse() {
+        for (ResolverStyle style : new ResolverStyle[] { ResolverStyle.SMART, ResolverStyle.STRICT }) {
+            for (String pattern : DATE_TIME_PATTERNS) {
+                CompiledDateTimePattern compiled = _compile(pattern);
+                DateTimeFormatter f = DateTimeFormatter.ofPattern(pattern).withResolverStyle(style);
+                for (LocalDateTime value : VALUES) {
+                    String str = value.format(f);
+                    _verifyParse(compiled, style, f, str, LocalDateTime::from,
+                            compiled.parseLocalDateTime(str.toCharArray(), 0, str.length()));
+                    _verifyParse(compiled, style, f, str, LocalDate::from,
+                            compiled.parseLocalDate(str.toCharArray(), 0, str.length()));
+                    _verifyParse(compiled, style, f, str, LocalTime::from,
+                            compiled.parseLocalTime(str.toCharArray(), 0, str.length()));
+                }
+            }
+            for (String pattern : DATE_PATTERNS) {
+                CompiledDateTimePattern compiled = _compile(pattern);
+                DateTimeFormatter f = DateTimeFormatter.ofPattern(pattern).withResolverStyle(style);
+                for (LocalDateTime value : VALUES) {
+                    String str = value.toLocalDate().format(f);
+                    _verifyParse(compiled, style, f, str, LocalDate::from,
+                            compiled.parseLocalDate(str.toCharArray(), 0, str.length()));
+                    assertNull(compiled.parseLocalDateTime(str.toCharArray(), 0, str.length()));
+                }
+            }
+            for (String pattern : TIME_PATTERNS) {
+                CompiledDateTimePattern compiled = _compile(pattern);
+                DateTimeFormatter f = DateTimeFormatter.ofPattern(pattern).withResolverStyle(style);
+                for (LocalDateTime value : VALUES) {
+                    String str = value.toLocalTime().format(f);
+                    _verifyParse(compiled, style, f, str, LocalTime::from,
+                            compiled.parseLocalTime(str.toCharArray(), 0, str.length()));
+                    assertNull(compiled.parseLocalDate(str.toCharArray(), 0, str.length()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParseInvalid() {
+        CompiledDateTimePattern compiled = _compile("yyyy-MM-dd HH:mm");
+        for (String str : new String[] {
+                "", "2020-01-01 12:0", "2020-01-01 12:000", "2020-01-01T12:00", "2020-01-01 1a:00",
+                "2020-13-01 12:00", "2020-00-01 12:00", "2020-02-30 12:00", "2021-02-29 12:00",
+                "0000-01-01 12:00", "2020-01-01 24:00", "2020-01-01 12:60", "+2020-01-01 12:00",
+                "20200-01-01 12:00",
+        }) {
+            assertNull(compiled.parseLocalDateTime(str.toCharArray(), 0, str.length()), str);
+        }
+    }
+
+    @Test
+    public void testCanParseWith() {
+        assertTrue(_compile("yyyyMMdd").canParseWith(ResolverStyle.SMART));
+        assertFalse(_compile("yyyyMMdd").canParseWith(ResolverStyle.STRICT));
+        assertTrue(_compile("uuuuMMdd").canParseWith(ResolverStyle.STRICT));
+        assertTrue(_compile("HH:mm").canParseWith(ResolverStyle.STRICT));
+    }
+
+    private static CompiledDateTimePattern _compile(String pattern) {
+        CompiledDateTimePattern compiled = CompiledDateTimePattern.compile(pattern);
+        assertNotNull(compiled, pattern);
+        assertEquals(pattern, compiled.getPattern());
+        return compiled;
+    }
+
+    // Compiled parser either has to produce the same value as formatter, or nothing
+    private static <T> void _verifyParse(CompiledDateTimePattern compiled, ResolverStyle style,
+            DateTimeFormatter f, String str, TemporalQuery<T> query, T actual)
+    {
+        // not to be used for such cases
+        if (!compiled.canParseWith(style)) {
+            return;
+        }
+        T expected;
+        try {
+            expected = f.parse(str, query);
+        } catch (DateTimeParseException e) {
+            assertNull(actual, "Formatter failed for '"+str+"' but compiled parser did not");
+            return;
+        }
+        assertNotNull(actual, "Compiled parser failed for '"+str+"'");
+        assertEquals(expected, actual, str);
+    }
+}
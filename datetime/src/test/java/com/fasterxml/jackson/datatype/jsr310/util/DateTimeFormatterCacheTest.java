@@ -0,0 +1,102 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateTimeFormatterCacheTest
+    extends ModuleTestBase
+{
+    static class DateWrapper {
+        @JsonFormat(pattern = "dd MMM yyyy", locale = "fr")
+        public LocalDate value;
+    }
+
+    @Test
+    public void testLookups() {
+        DateTimeFormatterCache cache = new DateTimeFormatterCache(10);
+        DateTimeFormatter f = cache.findOrCreate("yyyy-MM-dd", Locale.US, null, ResolverStyle.SMART, false);
+        assertEquals(1L, cache.getMissCount());
+        assertEquals(0L, cache.getHitCount());
+        assertSame(f, cache.findOrCreate("yyyy-MM-dd", Locale.US, null, ResolverStyle.SMART, false));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1, cache.size());
+
+        // Any difference in settings must result in a different formatter
+        assertNotSame(f, cache.findOrCreate("yyyy/MM/dd", Locale.US, null, ResolverStyle.SMART, false));
+        assertNotSame(f, cache.findOrCreate("yyyy-MM-dd", Locale.FRANCE, null, ResolverStyle.SMART, false));
+        assertNotSame(f, cache.findOrCreate("yyyy-MM-dd", Locale.US, ZoneOffset.UTC, ResolverStyle.SMART, false));
+        assertNotSame(f, cache.findOrCreate("yyyy-MM-dd", Locale.US, null, ResolverStyle.STRICT, false));
+        assertNotSame(f, cache.findOrCreate("yyyy-MM-dd", Locale.US, null, ResolverStyle.SMART, true));
+        assertEquals(6, cache.size());
+        assertEquals(6L, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.getHitCount());
+        assertEquals(0L, cache.getMissCount());
+    }
+
+    @Test
+    public void testSettings() {
+        DateTimeFormatterCache cache = new DateTimeFormatterCache(10);
+        final ZoneId zone = Z_CHICAGO;
+        DateTimeFormatter f = cache.findOrCreate("dd MMM uuuu", Locale.FRANCE, zone, ResolverStyle.STRICT, true);
+        assertEquals(Locale.FRANCE, f.getLocale());
+        assertEquals(zone, f.getZone());
+        assertEquals(ResolverStyle.STRICT, f.getResolverStyle());
+        assertEquals(LocalDate.of(2020, 5, 6), LocalDate.parse("06 MAI 2020", f));
+
+        // null Locale means default one
+        f = cache.findOrCreate("yyyy", null, null, ResolverStyle.SMART, false);
+        assertEquals(Locale.getDefault(Locale.Category.FORMAT), f.getLocale());
+        assertNull(f.getZone());
+    }
+
+    @Test
+    public void testEviction() {
+        DateTimeFormatterCache cache = new DateTimeFormatterCache(5);
+        for (int i = 0; i < 20; ++i) {
+            cache.findOrCreate("'"+i+"' yyyy", Locale.US, null, ResolverStyle.SMART, false);
+        }
+        assertTrue(cache.size() <= 5, "Cache size should be bounded, was "+cache.size());
+        assertEquals(20L, cache.getMissCount());
+    }
+
+    @Test
+    public void testInvalidPattern() {
+        DateTimeFormatterCache cache = new DateTimeFormatterCache(5);
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.findOrCreate("yyyy-{MM}", Locale.US, null, ResolverStyle.SMART, false));
+        assertEquals(0, cache.size());
+    }
+
+    // Formatters used by (de)serializers are shared across mappers
+    @Test
+    public void testSharedByMappers() throws Exception {
+        final DateTimeFormatterCache cache = DateTimeFormatterCache.sharedInstance();
+        DateWrapper input = new DateWrapper();
+        input.value = LocalDate.of(2020, 5, 6);
+
+        ObjectMapper mapper = newMapper();
+        String json = mapper.writeValueAsString(input);
+        assertEquals(LocalDate.of(2020, 5, 6), mapper.readValue(json, DateWrapper.class).value);
+
+        final long hits = cache.getHitCount();
+        mapper = newMapper();
+        assertEquals(json, mapper.writeValueAsString(input));
+        assertEquals(LocalDate.of(2020, 5, 6), mapper.readValue(json, DateWrapper.class).value);
+        assertTrue(cache.getHitCount() >= hits + 2);
+    }
+}
@@ -0,0 +1,338 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateTimeInputTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testInstant() {
+        for (String str : new String[] {
+                "1970-01-01T00:00:00Z",
+                "2024-02-29T23:59:59Z",
+                "2000-03-01T12:30:45.1Z",
+                "1999-12-31T23:59:59.123456789Z",
+                "0001-01-01T00:00:00.000001Z",
+                "1969-07-20T20:17:40.50Z",
+                "9999-12-31T23:59:59.999999999Z",
+        }) {
+            assertEquals(Instant.from(DateTimeFormatter.ISO_INSTANT.parse(str)),
+                    DateTimeInput.parseInstant(str), str);
+        }
+        // Zero offsets are aliases of 'Z'
+        Instant exp = Instant.parse("2020-05-06T07:08:09.010Z");
+        assertEquals(exp, DateTimeInput.parseInstant("2020-05-06T07:08:09.010+00"));
+        assertEquals(exp, DateTimeInput.parseInstant("2020-05-06T07:08:09.010+0000"));
+        assertEquals(exp, DateTimeInput.parseInstant("2020-05-06T07:08:09.010+00:00"));
+    }
+
+    @Test
+    public void testInstantUnsupported() {
+        for (String str : new String[] {
+                "",
+                "2020-05-06T07:08Z", // seconds required
+                "2020-05-06T07:08:09", // offset required
+                "2020-05-06T07:08:09+01:00", // non-zero offsets left to formatter
+                "2020-05-06T07:08:09-00:00",
+                "2020-05-06t07:08:09Z",
+                "2020-05-06T07:08:09z",
+                "2020-05-06T07:08:09.Z",
+                "2020-05-06T07:08:09.1234567890Z",
+                "2020-05-06T07:08:09Z[UTC]",
+                "+12020-05-06T07:08:09Z",
+                "2020-02-30T07:08:09Z",
+                "2021-02-29T07:08:09Z",
+                "2020-13-06T07:08:09Z",
+                "2020-05-06T24:00:00Z",
+                "2020-05-06T23:60:00Z",
+                "2020-05-06T23:59:60Z",
+                "2020-05-06T07:08:09Zx",
+                "2020-05-06 07:08:09Z",
+        }) {
+            assertNull(DateTimeInput.parseInstant(str), str);
+        }
+    }
+
+    // String variants parse from a shared per-thread buffer, which must
+    // not leak contents of longer earlier inputs (nor fail for inputs longer than it)
+    @Test
+    public void testStringInputsSharingBuffer() {
+        StringBuilder sb = new StringBuilder("2020-05-06T07:08:09Z");
+        while (sb.length() <= DateTimeOutput.BUFFER_LENGTH) {
+            sb.append('x');
+        }
+        assertNull(DateTimeInput.parseInstant(sb.toString()));
+        assertNull(DateTimeInput.parseInstant("2020-05-06T07:08:09.123456789ZZ"));
+        assertEquals(Instant.parse("2020-05-06T07:08:09Z"),
+                DateTimeInput.parseInstant("2020-05-06T07:08:09Z"));
+        assertEquals(LocalDate.of(2020, 5, 6), DateTimeInput.parseLocalDate("2020-05-06"));
+        assertEquals(Duration.ofSeconds(90), DateTimeInput.parseDuration("PT1M30S"));
+    }
+
+    @Test
+    public void testOffsetDateTime() {
+        for (String str : new String[] {
+                "1970-01-01T00:00:00Z",
+                "2024-02-29T23:59Z",
+                "2000-03-01T12:30:45.1+01:00",
+                "1999-12-31T23:59:59.123456789-05:30",
+                "2020-05-06T07:08:09+18:00",
+                "2020-05-06T07:08:09-18:00",
+                "2020-05-06T07:08:09.5+05:45",
+                "2020-05-06T07:08:09+00:00",
+        }) {
+            assertEquals(OffsetDateTime.parse(str, DateTimeFormatter.ISO_OFFSET_DATE_TIME),
+                    DateTimeInput.parseOffsetDateTime(str), str);
+        }
+        // colon-less offsets
+        assertEquals(OffsetDateTime.parse("2020-05-06T07:08:09+02:00"),
+                DateTimeInput.parseOffsetDateTime("2020-05-06T07:08:09+02"));
+        assertEquals(OffsetDateTime.parse("2020-05-06T07:08:09-02:30"),
+                DateTimeInput.parseOffsetDateTime("2020-05-06T07:08:09-0230"));
+    }
+
+    @Test
+    public void testOffsetDateTimeUnsupported() {
+        for (String str : new String[] {
+                "2020-05-06T07:08:09",
+                "2020-05-06T07:08:09+19:00",
+                "2020-05-06T07:08:09+18:01",
+                "2020-05-06T07:08:09+01:60",
+                "2020-05-06T07:08:09+1",
+                "2020-05-06T07:08:09+01:",
+                "2020-05-06T07:08:09+01:00[Europe/Paris]",
+                "2020-05-06T07:08:09.+01:00",
+        }) {
+            assertNull(DateTimeInput.parseOffsetDateTime(str), str);
+        }
+    }
+
+    @Test
+    public void testZonedDateTime() {
+        for (String str : new String[] {
+                "1970-01-01T00:00:00Z",
+                "2000-03-01T12:30:45.1+01:00",
+                "2020-05-06T07:08:09+02:00[Europe/Paris]",
+                "2020-05-06T07:08:09Z[UTC]",
+                "2020-05-06T07:08:09Z[Europe/Budapest]",
+                "2020-05-06T07:08:09+05:00[America/Chicago]",
+                "2020-05-06T07:08:09-01:00[Etc/GMT+1]",
+                // DST gap, overlap in America/Chicago
+                "2021-03-14T02:30:00-06:00[America/Chicago]",
+                "2021-11-07T01:30:00-06:00[America/Chicago]",
+                "2021-11-07T01:30:00-05:00[America/Chicago]",
+        }) {
+            assertEquals(ZonedDateTime.parse(str, DateTimeFormatter.ISO_ZONED_DATE_TIME),
+                    DateTimeInput.parseZonedDateTime(str), str);
+        }
+    }
+
+    @Test
+    public void testZonedDateTimeUnsupported() {
+        for (String str : new String[] {
+                "2020-05-06T07:08:09+02:00[]",
+                "2020-05-06T07:08:09+02:00[Europe/Paris",
+                "2020-05-06T07:08:09+02:00[No/Such_Zone]",
+                "2020-05-06T07:08:09+02:00[Europe Paris]",
+                "2020-05-06T07:08:09[Europe/Paris]",
+        }) {
+            assertNull(DateTimeInput.parseZonedDateTime(str), str);
+        }
+    }
+
+    @Test
+    public void testLocalDate() {
+        for (String str : new String[] {
+                "1970-01-01", "2024-02-29", "0001-12-31", "9999-12-31", "2000-02-29",
+        }) {
+            assertEquals(LocalDate.parse(str), DateTimeInput.parseLocalDate(str), str);
+        }
+        for (String str : new String[] {
+                "", "1970-1-01", "2023-02-29", "1900-02-29", "2020-04-31", "2020-00-10",
+                "2020-01-00", "+2020-01-01", "2020/01/01", "2020-01-01T", "20200101",
+        }) {
+            assertNull(DateTimeInput.parseLocalDate(str), str);
+        }
+    }
+
+    @Test
+    public void testLocalDateTime() {
+        for (String str : new String[] {
+                "1970-01-01T00:00", "2024-02-29T23:59:59", "2020-05-06T07:08:09.1",
+                "2020-05-06T07:08:09.000000001", "2020-05-06T07:08:09.123456789",
+        }) {
+            assertEquals(LocalDateTime.parse(str), DateTimeInput.parseLocalDateTime(str), str);
+        }
+        for (String str : new String[] {
+                "2020-05-06", "2020-05-06T07", "2020-05-06T07:08Z", "2020-05-06T07:08:09.",
+                "2020-05-06T07:08:09.1234567890", "2020-05-06t07:08", "2020-05-06T07:08:9",
+                "2020-05-06T24:00", "2020-05-06T07:08:09+01:00",
+        }) {
+            assertNull(DateTimeInput.parseLocalDateTime(str), str);
+        }
+        // Sub-range of a buffer, as with trailing 'Z' dropped
+        char[] ch = "2020-05-06T07:08:09.5Z".toCharArray();
+        assertEquals(LocalDateTime.parse("2020-05-06T07:08:09.5"),
+                DateTimeInput.parseLocalDateTime(ch, 0, ch.length-1));
+    }
+
+    @Test
+    public void testLocalTime() {
+        for (String str : new String[] {
+                "00:00", "23:59", "23:59:59", "12:00:00.5", "01:02:03.000000009",
+        }) {
+            assertEquals(LocalTime.parse(str), DateTimeInput.parseLocalTime(str), str);
+        }
+        for (String str : new String[] {
+                "", "1:00", "12", "12:0", "12:00:", "12:00:00.", "24:00", "12:60",
+                "12:00:00Z", "12:00:00.0000000001",
+        }) {
+            assertNull(DateTimeInput.parseLocalTime(str), str);
+        }
+    }
+
+    @Test
+    public void testOffsetTime() {
+        for (String str : new String[] {
+                "00:00Z", "23:59:59+18:00", "12:00:00.5-05:30", "01:02:03.000000009+01:00",
+        }) {
+            assertEquals(OffsetTime.parse(str), DateTimeInput.parseOffsetTime(str), str);
+        }
+        // Only canonical offsets handled
+        for (String str : new String[] {
+                "12:00", "12:00+01", "12:00+0100", "12:00+01:00:30", "12:00z", "12:00+19:00",
+        }) {
+            assertNull(DateTimeInput.parseOffsetTime(str), str);
+        }
+    }
+
+    @Test
+    public void testDuration() {
+        for (String str : new String[] {
+                "PT0S", "PT1H", "PT-1H", "PT2H30M", "PT1M-30S", "PT0.5S", "PT-0.5S",
+                "PT-1.000000001S", "PT8H6M12.345S", "PT123456789012345678S",
+                // also forms not produced by `toString()`
+                "P1D", "P-2D", "P1DT1H", "-PT1S", "+PT1S", "-P1DT-1H+1M", "pt1s", "p1dt2h3m4.5s",
+                "PT+1S", "PT1.S", "PT1,5S", "PT-0,000000001S", "-PT-0.5S", "P0D", "P106751991167300D",
+        }) {
+            assertEquals(Duration.parse(str), _parseDuration(str), str);
+        }
+        // and same for `toString()` output
+        for (Duration d : new Duration[] {
+                Duration.ZERO, Duration.ofMillis(-1), Duration.ofNanos(1), Duration.ofHours(-25),
+                Duration.ofSeconds(Long.MAX_VALUE, 999_999_999), Duration.ofSeconds(Long.MIN_VALUE),
+        }) {
+            assertEquals(d, _parseDuration(d.toString()), d.toString());
+        }
+        for (String str : new String[] {
+                "", "P", "PT", "PTS", "PT-S", "P1DT", "P1H", "PT1D", "--PT1S", "P+-1D", "PT1S1M",
+                "PT1H1H", "PT1.0000000001S", "PT1.5", "PT1", "PT1.5H", "PT1S ", " PT1S", "PT1\u000eS",
+                "PT1234567890123456789S", "PT-123456789012345678H", "P106751991167301D",
+        }) {
+            assertNull(_parseDuration(str), str);
+        }
+    }
+
+    @Test
+    public void testPeriod() {
+        for (String str : new String[] {
+                "P0D", "P1Y", "P-1Y2M", "P1Y2M3W4D", "P2W", "-P1Y-2M+3D", "+P1D", "p1y2m3w4d",
+                "P999999999Y", "-P999999999D", "P300000000W-100000000D",
+        }) {
+            assertEquals(Period.parse(str), _parsePeriod(str), str);
+        }
+        for (Period p : new Period[] {
+                Period.ZERO, Period.of(1, -2, 3), Period.ofDays(-999_999_999),
+        }) {
+            assertEquals(p, DateTimeInput.parsePeriod(p.toString()), p.toString());
+        }
+        for (String str : new String[] {
+                "", "P", "-P", "PT1H", "P1D1Y", "P1Y1Y", "P1", "P-D", "P1Y ", "P1.5D",
+                "P1234567890D", "P400000000W",
+        }) {
+            assertNull(_parsePeriod(str), str);
+        }
+    }
+
+    @Test
+    public void testYearMonth() {
+        for (String str : new String[] { "1970-01", "2024-12", "0000-06", "9999-12" }) {
+            assertEquals(YearMonth.parse(str), DateTimeInput.parseYearMonth(str), str);
+        }
+        for (String str : new String[] {
+                "", "2024", "2024-1", "2024-00", "2024-13", "+2024-01", "-2024-01", "12024-01", "2024/01",
+        }) {
+            assertNull(DateTimeInput.parseYearMonth(str), str);
+        }
+    }
+
+    @Test
+    public void testMonthDay() {
+        for (String str : new String[] { "--01-01", "--02-29", "--04-30", "--12-31" }) {
+            assertEquals(MonthDay.parse(str), DateTimeInput.parseMonthDay(str), str);
+        }
+        for (String str : new String[] {
+                "", "--1-01", "--02-30", "--04-31", "--13-01", "--00-01", "--01-00", "-01-01", "---01-01",
+        }) {
+            assertNull(DateTimeInput.parseMonthDay(str), str);
+        }
+    }
+
+    @Test
+    public void testZoneOffsetParsing() {
+        for (String str : new String[] {
+                "Z", "+01", "-01", "+0130", "-01:30", "+18:00", "-18:00", "+00:00", "-00",
+        }) {
+            assertEquals(ZoneOffset.of(str), _parseZoneOffset(str), str);
+        }
+        for (String str : new String[] {
+                "", "z", "+1", "+19", "+01:", "+01:3", "+01:30:00", "+01:60", "UTC", "Z ",
+        }) {
+            assertNull(_parseZoneOffset(str), str);
+        }
+    }
+
+    @Test
+    public void testCharArrayWithOffset() {
+        char[] ch = "xx\"2020-05-06T07:08:09.123Z\"yy".toCharArray();
+        assertEquals(Instant.parse("2020-05-06T07:08:09.123Z"),
+                DateTimeInput.parseInstant(ch, 3, 24));
+    }
+
+    @Test
+    public void testEpochDay() {
+        LocalDate date = LocalDate.of(1, 1, 1);
+        final LocalDate last = LocalDate.of(2500, 1, 1);
+        while (date.isBefore(last)) {
+            assertEquals(date.toEpochDay(),
+                    DateTimeInput._epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+            date = date.plusDays(7);
+        }
+    }
+
+    @Test
+    public void testZoneOffset() {
+        assertSame(ZoneOffset.UTC, DateTimeInput.zoneOffset(0));
+        assertEquals(ZoneOffset.ofHoursMinutes(5, 45), DateTimeInput.zoneOffset(5 * 3600 + 45 * 60));
+        assertEquals(ZoneOffset.ofTotalSeconds(-37), DateTimeInput.zoneOffset(-37));
+    }
+
+    private static Duration _parseDuration(String str) {
+        return DateTimeInput.parseDuration(str.toCharArray(), 0, str.length());
+    }
+
+    private static Period _parsePeriod(String str) {
+        return DateTimeInput.parsePeriod(str.toCharArray(), 0, str.length());
+    }
+
+    private static ZoneOffset _parseZoneOffset(String str) {
+        return DateTimeInput.parseZoneOffset(str.toCharArray(), 0, str.length());
+    }
+}
@@ -0,0 +1,376 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateTimeOutputTest
+    extends ModuleTestBase
+{
+    private final static long[] SECONDS = new long[] {
+            0L, 1L, -1L, 9L, 1588748889L, -1588748889L, 31556889864403199L,
+            -31557014167219200L, Long.MAX_VALUE, Long.MIN_VALUE,
+    };
+
+    private final static int[] NANOS = new int[] {
+            0, 1, 999, 1000, 1001, 123456789, 100_000_000, 999_999_999,
+    };
+
+    private final ObjectMapper MAPPER = newMapper();
+
+    @Test
+    public void testAppendDecimal() {
+        final char[] buffer = new char[40];
+        for (long seconds : SECONDS) {
+            for (int nanos : NANOS) {
+                int end = DateTimeOutput.appendDecimal(buffer, 2, seconds, nanos);
+                assertEquals(DecimalUtils.toDecimal(seconds, nanos), new String(buffer, 2, end-2));
+                assertEquals(DecimalUtils.toBigDecimal(seconds, nanos).toString(),
+                        DateTimeOutput.toDecimalString(seconds, nanos));
+            }
+        }
+    }
+
+    @Test
+    public void testAppendDecimalWithDigits() {
+        final char[] buffer = new char[40];
+        assertEquals("12.3", new String(buffer, 0, DateTimeOutput.appendDecimal(buffer, 0, 12L, 345_678_901, 1)));
+        assertEquals("12.345", new String(buffer, 0, DateTimeOutput.appendDecimal(buffer, 0, 12L, 345_678_901, 3)));
+        assertEquals("-1.000050", new String(buffer, 0, DateTimeOutput.appendDecimal(buffer, 0, -1L, 50_009, 6)));
+        assertEquals("0.000000001", new String(buffer, 0, DateTimeOutput.appendDecimal(buffer, 0, 0L, 1, 9)));
+        // and shortest
+        assertEquals("12.0", new String(buffer, 0, DateTimeOutput.appendDecimal(buffer, 0, 12L, 0, 0)));
+        assertEquals("12.34", new String(buffer, 0, DateTimeOutput.appendDecimal(buffer, 0, 12L, 340_000_000, 0)));
+        assertEquals("0.000000001", new String(buffer, 0, DateTimeOutput.appendDecimal(buffer, 0, 0L, 1, 0)));
+        for (long seconds : SECONDS) {
+            for (int nanos : NANOS) {
+                String full = new String(buffer, 0, DateTimeOutput.appendDecimal(buffer, 0, seconds, nanos));
+                String shortest = new String(buffer, 0, DateTimeOutput.appendDecimal(buffer, 0, seconds, nanos, 0));
+                assertEquals(0, new BigDecimal(full).compareTo(new BigDecimal(shortest)), full);
+            }
+        }
+    }
+
+    @Test
+    public void testAppendLong() {
+        final char[] buffer = new char[30];
+        for (long value : new long[] { 0L, 7L, -7L, 10L, -10L, 1234567890123L,
+                Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE }) {
+            int end = DateTimeOutput.appendLong(buffer, 1, value);
+            assertEquals(Long.toString(value), new String(buffer, 1, end-1));
+        }
+    }
+
+    // Output must be identical to that of writing BigDecimal, with all settings
+    @Test
+    public void testWriteDecimal() throws Exception {
+        for (JsonMapper mapper : new JsonMapper[] {
+                JsonMapper.builder().build(),
+                JsonMapper.builder().enable(StreamWriteFeature.WRITE_BIGDECIMAL_AS_PLAIN).build(),
+                JsonMapper.builder().enable(JsonWriteFeature.WRITE_NUMBERS_AS_STRINGS).build(),
+        }) {
+            for (long seconds : SECONDS) {
+                if (seconds < 0L) {
+                    continue;
+                }
+                for (int nanos : NANOS) {
+                    for (boolean negate : new boolean[] { false, true }) {
+                        BigDecimal bd = DecimalUtils.toBigDecimal(seconds, nanos);
+                        String exp = _write(mapper, g -> g.writeNumber(negate ? bd.negate() : bd));
+                        String act = _write(mapper, g -> DateTimeOutput.writeDecimal(g, seconds, nanos, negate));
+                        assertEquals(exp, act);
+                    }
+                }
+            }
+        }
+    }
+
+    // Generators that do not accept number text (regardless of whether they write
+    // binary natively) must be given BigDecimal
+    @Test
+    public void testWriteDecimalWithoutFormattedNumbers() throws Exception {
+        final List<Object> written = new ArrayList<>();
+        StringWriter sw = new StringWriter();
+        try (JsonGenerator g = new JsonGeneratorDelegate(MAPPER.createGenerator(sw)) {
+            @Override
+            public boolean canWriteFormattedNumbers() { return false; }
+
+            @Override
+            public void writeNumber(BigDecimal v) throws IOException {
+                written.add(v);
+                super.writeNumber(v);
+            }
+
+            @Override
+            public void writeNumber(char[] encodedValueBuffer, int offset, int len) {
+                throw new UnsupportedOperationException();
+            }
+        }) {
+            assertFalse(g.canWriteBinaryNatively());
+            DateTimeOutput.writeDecimal(g, 1L, 500_000_000, true);
+            DateTimeOutput.writeDecimal(g, 1L, 500_000_000, false, 3);
+        }
+        assertEquals(2, written.size());
+        assertEquals(0, new BigDecimal("-1.5").compareTo((BigDecimal) written.get(0)));
+        assertEquals(new BigDecimal("1.500"), written.get(1));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        assertEquals("1588748889.123456789",
+                MAPPER.writeValueAsString(Instant.ofEpochSecond(1588748889L, 123456789)));
+        assertEquals("1E-9", MAPPER.writeValueAsString(Instant.ofEpochSecond(0L, 1)));
+        // same for byte-based (UTF-8) output
+        assertEquals("-1.500000000", new String(MAPPER.writeValueAsBytes(Duration.ofMillis(-1500)),
+                StandardCharsets.UTF_8));
+        assertEquals("-1.500000000", MAPPER.writeValueAsString(Duration.ofMillis(-1500)));
+        assertEquals("-1E-9", MAPPER.writeValueAsString(Duration.ofNanos(-1)));
+        assertEquals("-0.000001000", MAPPER.writeValueAsString(Duration.ofNanos(-1000)));
+        assertEquals("0.0", MAPPER.writeValueAsString(Duration.ZERO));
+        assertEquals(a2q("{'1588748889.000000000':1}"), MAPPER.writer()
+                .with(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS).writeValueAsString(
+                Collections.singletonMap(ZonedDateTime.of(2020, 5, 6, 7, 8, 9, 0, ZoneOffset.UTC), 1)));
+
+        // Buffered output must retain BigDecimal values as before
+        JsonNode node = MAPPER.valueToTree(Duration.ofMillis(-1500));
+        assertTrue(node.isBigDecimal());
+        assertEquals(0, new BigDecimal("-1.5").compareTo(node.decimalValue()));
+    }
+
+    @Test
+    public void testDurationOverflow() {
+        assertThrows(Exception.class,
+                () -> MAPPER.writeValueAsString(Duration.ofSeconds(Long.MIN_VALUE)));
+    }
+
+    @Test
+    public void testAppendInstant() {
+        final char[] buffer = new char[DateTimeOutput.BUFFER_LENGTH];
+        for (Instant value : _instants()) {
+            int end = DateTimeOutput.appendInstant(buffer, 0, value.getEpochSecond(), value.getNano());
+            if (value.atOffset(ZoneOffset.UTC).getYear() > 9999 || value.atOffset(ZoneOffset.UTC).getYear() < 0) {
+                assertEquals(-1, end, value.toString());
+            } else {
+                assertEquals(value.toString(), new String(buffer, 0, end));
+            }
+        }
+    }
+
+    @Test
+    public void testAppendDuration() {
+        final char[] buffer = new char[DateTimeOutput.BUFFER_LENGTH];
+        List<Duration> durations = new ArrayList<>();
+        Collections.addAll(durations, Duration.ZERO, Duration.ofNanos(1), Duration.ofNanos(-1),
+                Duration.ofMillis(-500), Duration.ofSeconds(-1, 500_000_000), Duration.ofMinutes(-61),
+                Duration.ofHours(25), Duration.ofSeconds(3600, 100), Duration.ofSeconds(-60, -10),
+                Duration.ofSeconds(Long.MAX_VALUE, 999_999_999), Duration.ofSeconds(Long.MIN_VALUE));
+        Random r = new Random(42);
+        for (int i = 0; i < 2000; ++i) {
+            long secs = (i % 2 == 0) ? (r.nextInt(200_000) - 100_000) : r.nextLong();
+            int nanos = (i % 3 == 0) ? 0 : (i % 3 == 1) ? r.nextInt(1000) * 1_000_000
+                    : r.nextInt(1_000_000_000);
+            durations.add(Duration.ofSeconds(secs, nanos));
+        }
+        for (Duration value : durations) {
+            int end = DateTimeOutput.appendDuration(buffer, 0, value);
+            assertEquals(value.toString(), new String(buffer, 0, end));
+        }
+    }
+
+    @Test
+    public void testAppendPeriod() {
+        final char[] buffer = new char[DateTimeOutput.BUFFER_LENGTH];
+        for (Period value : new Period[] {
+                Period.ZERO, Period.ofDays(1), Period.ofMonths(-3), Period.of(1, 2, 3),
+                Period.of(-1, 0, 10), Period.of(Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE),
+        }) {
+            int end = DateTimeOutput.appendPeriod(buffer, 0, value);
+            assertEquals(value.toString(), new String(buffer, 0, end));
+        }
+    }
+
+    @Test
+    public void testAppendOffsetDateTime() {
+        final char[] buffer = new char[DateTimeOutput.BUFFER_LENGTH];
+        final ZoneOffset[] offsets = new ZoneOffset[] {
+                ZoneOffset.UTC, ZoneOffset.ofHours(2), ZoneOffset.ofHoursMinutes(-9, -30),
+                ZoneOffset.ofHoursMinutesSeconds(5, 30, 15), ZoneOffset.MAX, ZoneOffset.MIN,
+        };
+        int i = 0;
+        for (Instant instant : _instants()) {
+            OffsetDateTime value = instant.atOffset(offsets[i++ % offsets.length]);
+            int end = DateTimeOutput.appendOffsetDateTime(buffer, 1, value.toLocalDateTime(), value.getOffset());
+            if (value.getYear() > 9999 || value.getYear() < 0) {
+                assertEquals(-1, end, value.toString());
+            } else {
+                assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value), new String(buffer, 1, end-1));
+                assertEquals(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value),
+                        new String(buffer, 1, DateTimeOutput.appendLocalDateTime(buffer, 1, value.toLocalDateTime())-1));
+                assertEquals(DateTimeFormatter.ISO_LOCAL_TIME.format(value),
+                        new String(buffer, 0, DateTimeOutput.appendLocalTime(buffer, 0, value.toLocalTime())));
+            }
+        }
+    }
+
+    @Test
+    public void testAppendZonedDateTime() {
+        final char[] buffer = new char[DateTimeOutput.BUFFER_LENGTH];
+        final ZoneId[] zones = new ZoneId[] {
+                ZoneOffset.UTC, ZoneOffset.ofHours(-7), ZoneId.of("UTC"), ZoneId.of("GMT+02:00"),
+                ZoneId.of("Europe/Paris"), ZoneId.of("America/Argentina/ComodRivadavia"),
+        };
+        int i = 0;
+        for (Instant instant : _instants()) {
+            ZonedDateTime value = instant.atZone(zones[i++ % zones.length]);
+            int end = DateTimeOutput.appendZonedDateTime(buffer, 0, value.toLocalDateTime(),
+                    value.getOffset(), value.getZone());
+            if (value.getYear() > 9999 || value.getYear() < 0) {
+                assertEquals(-1, end, value.toString());
+            } else {
+                assertEquals(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value), new String(buffer, 0, end));
+            }
+        }
+        // and if there is not enough room, nothing written
+        ZonedDateTime value = ZonedDateTime.parse("2020-05-06T07:08:09.123456789+01:00[Europe/Paris]");
+        assertEquals(-1, DateTimeOutput.appendZonedDateTime(new char[40], 0,
+                value.toLocalDateTime(), value.getOffset(), value.getZone()));
+    }
+
+    @Test
+    public void testBracketedZoneId() {
+        char[] zoneId = DateTimeOutput.bracketedZoneId(ZoneId.of("Europe/Paris"));
+        assertEquals("[Europe/Paris]", new String(zoneId));
+        assertSame(zoneId, DateTimeOutput.bracketedZoneId(ZoneId.of("Europe/Paris")));
+        assertEquals("[Z]", new String(DateTimeOutput.bracketedZoneId(ZoneOffset.UTC)));
+    }
+
+    // Output with default settings must not change
+    @Test
+    public void testSerializeIso() throws Exception {
+        ObjectMapper mapper = mapperBuilder()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        for (Instant instant : _instants()) {
+            assertEquals(q(instant.toString()), mapper.writeValueAsString(instant));
+            OffsetDateTime odt = instant.atOffset(ZoneOffset.ofHours(-3));
+            assertEquals(q(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(odt)), mapper.writeValueAsString(odt));
+            ZonedDateTime zdt = instant.atZone(Z_CHICAGO);
+            assertEquals(q(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(zdt)), mapper.writeValueAsString(zdt));
+        }
+        ObjectMapper zoneIdMapper = mapperBuilder()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID)
+                .build();
+        for (ZonedDateTime zdt : new ZonedDateTime[] {
+                ZonedDateTime.parse("2020-05-06T07:08:09.5+02:00[Europe/Paris]"),
+                ZonedDateTime.parse("2020-05-06T07:08:09+02:00"),
+                ZonedDateTime.parse("+12345-05-06T07:08:09Z[UTC]"),
+        }) {
+            assertEquals(q(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(zdt)), zoneIdMapper.writeValueAsString(zdt));
+        }
+        // with context time zone, formatter is used
+        ObjectMapper tzMapper = mapperBuilder()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)
+                .defaultTimeZone(TimeZone.getTimeZone("Europe/Paris"))
+                .build();
+        assertEquals(q("2020-05-06T09:08:09+02:00"),
+                tzMapper.writeValueAsString(OffsetDateTime.parse("2020-05-06T07:08:09Z")));
+        assertEquals(q("2020-05-06T07:08:09Z"),
+                tzMapper.writeValueAsString(Instant.parse("2020-05-06T07:08:09Z")));
+    }
+
+    @Test
+    public void testSerializeLocalIso() throws Exception {
+        ObjectMapper mapper = mapperBuilder()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper patternMapper = mapperBuilder()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .withConfigOverride(LocalDate.class, o -> o.setFormat(JsonFormat.Value.forPattern("dd.MM.yyyy")))
+                .withConfigOverride(LocalDateTime.class, o -> o.setFormat(JsonFormat.Value.forPattern("yyyyMMdd'T'HHmmss.SSS")))
+                .withConfigOverride(LocalTime.class, o -> o.setFormat(JsonFormat.Value.forPattern("HH:mm")))
+                .build();
+        final DateTimeFormatter datePattern = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+        final DateTimeFormatter dateTimePattern = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss.SSS");
+        final DateTimeFormatter timePattern = DateTimeFormatter.ofPattern("HH:mm");
+        List<Instant> instants = _instants();
+        instants.add(Instant.parse("+12345-06-07T08:09:10.5Z"));
+        for (Instant instant : instants) {
+            LocalDateTime value = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), ZoneOffset.UTC);
+            assertEquals(q(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value)), mapper.writeValueAsString(value));
+            assertEquals(q(DateTimeFormatter.ISO_LOCAL_DATE.format(value)), mapper.writeValueAsString(value.toLocalDate()));
+            assertEquals(q(DateTimeFormatter.ISO_LOCAL_TIME.format(value)), mapper.writeValueAsString(value.toLocalTime()));
+
+            assertEquals(q(dateTimePattern.format(value)), patternMapper.writeValueAsString(value));
+            assertEquals(q(datePattern.format(value)), patternMapper.writeValueAsString(value.toLocalDate()));
+            assertEquals(q(timePattern.format(value)), patternMapper.writeValueAsString(value.toLocalTime()));
+        }
+    }
+
+    private static List<Instant> _instants() {
+        List<Instant> result = new ArrayList<>();
+        for (String str : new String[] {
+                "1970-01-01T00:00:00Z", "2020-05-06T07:08:09Z", "2020-05-06T07:08:00Z",
+                "2020-05-06T07:00:00.100Z", "2020-02-29T23:59:59.123456Z", "2020-03-01T00:00:00.000000001Z",
+                "1969-12-31T23:59:59.999999999Z", "0000-01-01T00:00:00Z", "9999-12-31T23:59:59.999Z",
+                "0001-02-03T04:05:06.120Z", "1600-02-29T12:00:00Z", "2100-03-01T12:00:00Z",
+                "-0001-12-31T23:59:59Z", "+10000-01-01T00:00:00Z",
+        }) {
+            result.add(Instant.parse(str));
+        }
+        Random r = new Random(42);
+        for (int i = 0; i < 2000; ++i) {
+            long secs = -62167219200L + (long) (r.nextDouble() * (253402300799L + 62167219200L));
+            int nanos = (i % 4 == 0) ? 0 : (i % 4 == 1) ? r.nextInt(1000) * 1_000_000
+                    : r.nextInt(1_000_000_000);
+            result.add(Instant.ofEpochSecond(secs, nanos));
+        }
+        return result;
+    }
+
+    interface GeneratorCall {
+        void call(JsonGenerator g) throws Exception;
+    }
+
+    private static String _write(ObjectMapper mapper, GeneratorCall call) throws Exception {
+        StringWriter sw = new StringWriter();
+        try (JsonGenerator g = mapper.createGenerator(sw)) {
+            call.call(g);
+        }
+        return sw.toString();
+    }
+}
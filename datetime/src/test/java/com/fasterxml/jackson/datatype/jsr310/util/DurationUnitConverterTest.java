@@ -1,5 +1,6 @@
 package com.fasterxml.jackson.datatype.jsr310.util;
 
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,33 @@ public class DurationUnitConverterTest
         }
     }
 
+    @Test
+    public void shouldShareInstances() {
+        DurationUnitConverter conv = DurationUnitConverter.from("SECONDS");
+        assertSame(conv, DurationUnitConverter.from("SECONDS"));
+        assertFalse(conv.hasFractions());
+        DurationUnitConverter fractions = conv.withFractions();
+        assertTrue(fractions.hasFractions());
+        assertSame(fractions, conv.withFractions());
+        assertSame(fractions, fractions.withFractions());
+        assertNull(DurationUnitConverter.from("MINUTES").withFractions());
+    }
+
+    @Test
+    public void shouldConvertFractions() {
+        assertEquals(Duration.ofMillis(1500),
+                DurationUnitConverter.from("SECONDS").convert(1L, 500_000_000));
+        assertEquals(Duration.ofMillis(-1500),
+                DurationUnitConverter.from("SECONDS").convert(-1L, -500_000_000));
+        assertEquals(Duration.ofNanos(1_500_001),
+                DurationUnitConverter.from("MILLIS").convert(1L, 500_001_000));
+        // fractions of nanoseconds are truncated
+        assertEquals(Duration.ofNanos(1),
+                DurationUnitConverter.from("MICROS").convert(0L, 1_999_999));
+        assertEquals(Duration.ofNanos(3),
+                DurationUnitConverter.from("NANOS").convert(3L, 999_999_999));
+    }
+
     @Test
     public void shouldNotMapToTemporalUnit() {
         for (String invalid : new String[] {
@@ -0,0 +1,83 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneIdCacheTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testZoneIdLookups() {
+        ZoneIdCache cache = new ZoneIdCache(10);
+        ZoneId zone = cache.zoneIdOf("Europe/Paris");
+        assertEquals(ZoneId.of("Europe/Paris"), zone);
+        assertEquals(1L, cache.getMissCount());
+        assertSame(zone, cache.zoneIdOf("Europe/Paris"));
+        assertEquals(1L, cache.getHitCount());
+
+        // Same results as `ZoneId.of()`, including prefixed and offset ids
+        for (String id : new String[] { "Z", "UTC", "GMT", "UTC+01:00", "+01:00", "-0530" }) {
+            assertEquals(ZoneId.of(id), cache.zoneIdOf(id));
+            assertEquals(ZoneId.of(id), cache.zoneIdOf(id));
+        }
+        assertEquals(7, cache.size());
+
+        // Failures are not cached
+        assertThrows(DateTimeException.class, () -> cache.zoneIdOf("Mars/Olympus_Mons"));
+        assertThrows(DateTimeException.class, () -> cache.zoneIdOf("Mars/Olympus_Mons"));
+        assertEquals(7, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.getHitCount());
+        assertEquals(0L, cache.getMissCount());
+    }
+
+    @Test
+    public void testZoneOffsetLookups() {
+        ZoneIdCache cache = new ZoneIdCache(10);
+        ZoneOffset offset = cache.zoneOffsetOf("+01:00");
+        assertEquals(ZoneOffset.ofHours(1), offset);
+        // offsets are shared with zone id lookups
+        assertSame(offset, cache.zoneIdOf("+01:00"));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(ZoneOffset.UTC, cache.zoneOffsetOf("Z"));
+
+        // ...but region ids are not valid offsets, even if cached
+        assertNotNull(cache.zoneIdOf("UTC"));
+        assertThrows(DateTimeException.class, () -> cache.zoneOffsetOf("UTC"));
+        assertThrows(DateTimeException.class, () -> cache.zoneOffsetOf("+19:00"));
+    }
+
+    @Test
+    public void testBoundedSize() {
+        ZoneIdCache cache = new ZoneIdCache(5);
+        for (int i = 0; i <= 18; ++i) {
+            assertEquals(ZoneOffset.ofHours(-i), cache.zoneOffsetOf(String.format("-%02d:00", i)));
+        }
+        assertTrue(cache.size() <= 5);
+    }
+
+    @Test
+    public void testSharedInstanceUsed() throws Exception {
+        ObjectMapper mapper = newMapper();
+        ZoneIdCache cache = ZoneIdCache.sharedInstance();
+        assertEquals(ZoneId.of("America/Chicago"),
+                mapper.readValue(q("America/Chicago"), ZoneId.class));
+        final long hits = cache.getHitCount();
+        Map<ZoneId, ZoneOffset> map = mapper.readValue(a2q("{'America/Chicago':'-06:00'}"),
+                new TypeReference<Map<ZoneId, ZoneOffset>>() { });
+        assertEquals(ZoneOffset.ofHours(-6), map.get(ZoneId.of("America/Chicago")));
+        assertTrue(cache.getHitCount() > hits);
+    }
+}
@@ -0,0 +1,67 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneIdResolverTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testResolve() {
+        for (String id : new String[] { "UTC", "GMT", "Europe/Paris", "America/Chicago",
+                "GMT+02:00", "EST", "PST", "Z" }) {
+            TimeZone tz = TimeZone.getTimeZone(id);
+            assertEquals(tz.toZoneId(), ZoneIdResolver.zoneIdOf(tz), id);
+            assertEquals(tz.toZoneId().normalized(), ZoneIdResolver.normalizedZoneIdOf(tz), id);
+            // and once more, from cache
+            assertEquals(tz.toZoneId(), ZoneIdResolver.zoneIdOf(tz), id);
+        }
+    }
+
+    // TimeZones are mutable so need to verify cached value is still valid
+    @Test
+    public void testModifiedTimeZone() {
+        TimeZone tz = TimeZone.getTimeZone("Europe/Paris");
+        assertEquals(ZoneId.of("Europe/Paris"), ZoneIdResolver.zoneIdOf(tz));
+        tz.setID("America/Chicago");
+        assertEquals(ZoneId.of("America/Chicago"), ZoneIdResolver.zoneIdOf(tz));
+    }
+
+    // Alternating between time zones should not evict either one
+    @Test
+    public void testAlternatingTimeZones() {
+        TimeZone paris = TimeZone.getTimeZone("Europe/Paris");
+        TimeZone chicago = TimeZone.getTimeZone("America/Chicago");
+        ZoneId parisId = ZoneIdResolver.zoneIdOf(paris);
+        ZoneId chicagoId = ZoneIdResolver.zoneIdOf(chicago);
+        for (int i = 0; i < 3; ++i) {
+            assertSame(parisId, ZoneIdResolver.zoneIdOf(paris));
+            assertSame(chicagoId, ZoneIdResolver.zoneIdOf(chicago));
+            // equal time zones share entries
+            assertSame(parisId, ZoneIdResolver.zoneIdOf(TimeZone.getTimeZone("Europe/Paris")));
+        }
+        assertTrue(ZoneIdResolver.size() <= ZoneIdResolver.MAX_ENTRIES);
+    }
+
+    @Test
+    public void testAdjustToContextTimeZone() throws Exception {
+        ObjectReader r = newMapper().readerFor(OffsetDateTime.class)
+                .with(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        final String json = q("2020-05-06T07:08:09Z");
+        assertEquals(ZoneOffset.ofHours(2),
+                ((OffsetDateTime) r.with(TimeZone.getTimeZone("Europe/Paris")).readValue(json)).getOffset());
+        assertEquals(ZoneOffset.ofHours(-5),
+                ((OffsetDateTime) r.with(TimeZone.getTimeZone("America/Chicago")).readValue(json)).getOffset());
+        assertEquals(ZoneOffset.UTC, ((OffsetDateTime) r.readValue(json)).getOffset());
+    }
+}
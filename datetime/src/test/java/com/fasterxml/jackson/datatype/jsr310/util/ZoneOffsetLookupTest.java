@@ -0,0 +1,82 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneOffsetLookupTest
+    extends ModuleTestBase
+{
+    private final static String[] ZONES = new String[] {
+            "UTC", "Europe/Paris", "America/Chicago", "Australia/Lord_Howe",
+            "Asia/Kolkata", "America/Sao_Paulo", "Pacific/Apia", "Europe/London",
+    };
+
+    @Test
+    public void testSequential() {
+        for (String id : ZONES) {
+            final ZoneId zone = ZoneId.of(id);
+            // go through a couple of years, hour by hour, in both directions
+            LocalDateTime dt = LocalDateTime.of(2019, 1, 1, 0, 30);
+            for (int i = 0; i < 2 * 365 * 24; ++i) {
+                _verify(zone, dt);
+                dt = dt.plusMinutes(60);
+            }
+            for (int i = 0; i < 365 * 24; ++i) {
+                _verify(zone, dt);
+                dt = dt.minusMinutes(97);
+            }
+        }
+    }
+
+    // Local date-times right around transitions, including gaps and overlaps
+    @Test
+    public void testAroundTransitions() {
+        for (String id : ZONES) {
+            final ZoneId zone = ZoneId.of(id);
+            for (ZoneOffsetTransition t : zone.getRules().getTransitions()) {
+                if (t.getDateTimeBefore().getYear() < 1990) {
+                    continue;
+                }
+                for (LocalDateTime base : new LocalDateTime[] { t.getDateTimeBefore(), t.getDateTimeAfter() }) {
+                    for (int secs : new int[] { -3601, -1, 0, 1, 1799, 3599, 3600, 7200 }) {
+                        _verify(zone, base.plusSeconds(secs));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRandom() {
+        Random r = new Random(123);
+        for (int i = 0; i < 50_000; ++i) {
+            ZoneId zone = ZoneId.of(ZONES[r.nextInt(ZONES.length)]);
+            long secs = -5_000_000_000L + (long) (r.nextDouble() * 10_000_000_000L);
+            _verify(zone, LocalDateTime.ofEpochSecond(secs, 0, ZoneOffset.UTC));
+        }
+    }
+
+    @Test
+    public void testFixedOffsets() {
+        LocalDateTime dt = LocalDateTime.of(2020, 5, 6, 7, 8, 9);
+        assertEquals(ZoneOffset.ofHours(3), ZoneOffsetLookup.offsetOfLocal(ZoneOffset.ofHours(3), dt));
+        _verify(ZoneId.of("GMT"), dt);
+        _verify(ZoneId.of("UTC+05:30"), dt);
+        _verify(ZoneId.of("Etc/GMT-4"), LocalDateTime.MIN);
+        _verify(ZoneId.of("Etc/GMT-4"), LocalDateTime.MAX);
+    }
+
+    private static void _verify(ZoneId zone, LocalDateTime dt) {
+        assertEquals(zone.getRules().getOffset(dt), ZoneOffsetLookup.offsetOfLocal(zone, dt),
+                zone + " / " + dt);
+    }
+}